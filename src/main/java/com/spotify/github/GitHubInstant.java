@@ -23,23 +23,29 @@ package com.spotify.github;
 import static java.util.Objects.requireNonNull;
 
 import java.time.Instant;
-import java.util.Optional;
+import java.util.Objects;
 import javax.annotation.Nonnull;
 
 /**
  * Make sure we can represent a GitHub date, they are inconsistent at best. Sometimes the date is
  * represented as a Long, sometimes represented as a String following: {@link
  * java.time.format.DateTimeFormatter#ISO_INSTANT}
+ *
+ * <p>The value is held in primitive fields rather than in a boxed epoch or an {@link Instant},
+ * since model listings carry several instants per item.
  */
 public class GitHubInstant {
 
-  private Optional<Long> epochSeconds;
+  private final long epochSeconds;
 
-  private Optional<Instant> instant;
+  private final int nanos;
 
-  private GitHubInstant(final Optional<Long> epoch, final Optional<Instant> inst) {
-    epochSeconds = epoch;
-    instant = inst;
+  private final boolean fromNumber;
+
+  private GitHubInstant(final long epochSeconds, final int nanos, final boolean fromNumber) {
+    this.epochSeconds = epochSeconds;
+    this.nanos = nanos;
+    this.fromNumber = fromNumber;
   }
 
   /**
@@ -50,7 +56,7 @@ public class GitHubInstant {
    */
   public static GitHubInstant create(@Nonnull final Number inst) {
     final Number number = requireNonNull(inst);
-    return new GitHubInstant(Optional.of(number.longValue()), Optional.empty());
+    return new GitHubInstant(number.longValue(), 0, true);
   }
 
   /**
@@ -61,7 +67,7 @@ public class GitHubInstant {
    */
   public static GitHubInstant create(@Nonnull final Instant inst) {
     final Instant instant = requireNonNull(inst);
-    return new GitHubInstant(Optional.empty(), Optional.of(instant));
+    return new GitHubInstant(instant.getEpochSecond(), instant.getNano(), false);
   }
 
   /**
@@ -70,7 +76,7 @@ public class GitHubInstant {
    * @return a Class.
    */
   public Class<?> type() {
-    return epochSeconds.isPresent() ? epochSeconds.get().getClass() : instant.get().getClass();
+    return fromNumber ? Long.class : Instant.class;
   }
 
   /**
@@ -79,7 +85,7 @@ public class GitHubInstant {
    * @return epoch in seconds
    */
   public Long epoch() {
-    return epochSeconds.orElseGet(() -> instant.get().getEpochSecond());
+    return epochSeconds;
   }
 
   /**
@@ -88,6 +94,30 @@ public class GitHubInstant {
    * @return an instant
    */
   public Instant instant() {
-    return instant.orElseGet(() -> Instant.ofEpochSecond(epochSeconds.get()));
+    return Instant.ofEpochSecond(epochSeconds, nanos);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof GitHubInstant)) {
+      return false;
+    }
+    final GitHubInstant other = (GitHubInstant) o;
+    return epochSeconds == other.epochSeconds
+        && nanos == other.nanos
+        && fromNumber == other.fromNumber;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(epochSeconds, nanos, fromNumber);
+  }
+
+  @Override
+  public String toString() {
+    return fromNumber ? Long.toString(epochSeconds) : instant().toString();
   }
 }
@@ -0,0 +1,157 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Serializes {@link Parameters} into a query string. The accessors of each parameter class are
+ * looked up once and kept as method handles, sorted by name.
+ */
+final class ParameterSerializer {
+
+  private static final ClassValue<ParameterSerializer> SERIALIZERS =
+      new ClassValue<>() {
+        @Override
+        protected ParameterSerializer computeValue(final Class<?> type) {
+          return new ParameterSerializer(type);
+        }
+      };
+
+  private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+  private static final int NIBBLE_BITS = 4;
+  private static final int NIBBLE_MASK = 0xF;
+  private static final int BYTE_MASK = 0xFF;
+  private static final int ASCII_LIMIT = 0x80;
+
+  private final String[] names;
+  private final MethodHandle[] accessors;
+
+  private ParameterSerializer(final Class<?> type) {
+    // Keyed by name so that accessors inherited through several interfaces are only listed once.
+    final TreeMap<String, MethodHandle> handles = new TreeMap<>();
+    Arrays.stream(type.getInterfaces())
+        .filter(Parameters.class::isAssignableFrom)
+        .flatMap(iface -> Arrays.stream(iface.getMethods()))
+        .filter(method -> !method.getDeclaringClass().equals(Parameters.class))
+        .filter(method -> method.getParameterCount() == 0)
+        .filter(method -> !Modifier.isStatic(method.getModifiers()))
+        .sorted(Comparator.comparing(Method::getName))
+        .forEach(method -> handles.computeIfAbsent(method.getName(), name -> unreflect(method)));
+    this.names = handles.keySet().toArray(new String[0]);
+    this.accessors = handles.values().toArray(new MethodHandle[0]);
+  }
+
+  /**
+   * Serializer for the given parameters class.
+   *
+   * @param type parameters class
+   * @return serializer
+   */
+  static ParameterSerializer of(final Class<?> type) {
+    return SERIALIZERS.get(type);
+  }
+
+  /**
+   * Join every present parameter as a URL encoded key=value pair, sorted by key.
+   *
+   * @param parameters parameters instance
+   * @return query string, without the leading question mark
+   */
+  String serialize(final Object parameters) {
+    final StringBuilder query = new StringBuilder();
+    for (int i = 0; i < names.length; i++) {
+      final Object value = value(accessors[i], parameters);
+      if (value == null) {
+        continue;
+      }
+      if (query.length() > 0) {
+        query.append('&');
+      }
+      query.append(names[i]).append('=');
+      encode(value.toString(), query);
+    }
+    return query.toString();
+  }
+
+  private static MethodHandle unreflect(final Method method) {
+    try {
+      return MethodHandles.publicLookup().unreflect(method).asType(ACCESSOR_TYPE);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Cannot access parameter " + method.getName(), e);
+    }
+  }
+
+  private static Object value(final MethodHandle accessor, final Object parameters) {
+    final Object value;
+    try {
+      value = (Object) accessor.invokeExact(parameters);
+    } catch (Throwable t) {
+      return null;
+    }
+    return value instanceof Optional ? ((Optional<?>) value).orElse(null) : value;
+  }
+
+  /**
+   * Percent-encode a query parameter value as UTF-8. Characters allowed in a query by RFC 3986 are
+   * kept as is, except for the ones delimiting parameters.
+   */
+  static void encode(final String value, final StringBuilder out) {
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      if (c < ASCII_LIMIT) {
+        if (isQuerySafe(c)) {
+          out.append(c);
+        } else {
+          appendEscaped(c, out);
+        }
+        continue;
+      }
+      final int end = Character.isHighSurrogate(c) && i + 1 < value.length() ? i + 2 : i + 1;
+      for (final byte b : value.substring(i, end).getBytes(UTF_8)) {
+        appendEscaped(b & BYTE_MASK, out);
+      }
+      i = end - 1;
+    }
+  }
+
+  private static boolean isQuerySafe(final char c) {
+    return (c >= 'a' && c <= 'z')
+        || (c >= 'A' && c <= 'Z')
+        || (c >= '0' && c <= '9')
+        || "-._~:/?@!$'()*,".indexOf(c) >= 0;
+  }
+
+  private static void appendEscaped(final int b, final StringBuilder out) {
+    out.append('%').append(HEX[(b >> NIBBLE_BITS) & NIBBLE_MASK]).append(HEX[b & NIBBLE_MASK]);
+  }
+}
@@ -20,8 +20,19 @@
 
 package com.spotify.github.async;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 import static java.util.stream.StreamSupport.stream;
@@ -51,4 +62,172 @@ public class Async {
                         })
                 .thenCompose(Function.identity());
     }
+
+    /**
+     * Visit every item of a paginated listing without blocking. Pages are fetched one at a time,
+     * and only once the previous page has been visited.
+     *
+     * <p>Only iterators implementing {@link AsyncPageIterator}, such as those returned by the
+     * listing methods of this library, are advanced without blocking. Any other iterator is
+     * advanced on the calling thread, which it blocks while the next page is fetched.
+     *
+     * @param pages page iterator, as returned by the paginated listing methods
+     * @param action called for each item; returning false stops the iteration early
+     * @return future completed once the listing is exhausted or the action returned false
+     */
+    public static <T> CompletableFuture<Void> forEachAsync(
+            final Iterator<AsyncPage<T>> pages, final Predicate<? super T> action) {
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        forEachAsync(asAsyncPageIterator(pages), action, result);
+        return result;
+    }
+
+    /**
+     * Collect every item of a paginated listing without blocking. As with {@link
+     * #forEachAsync(Iterator, Predicate)}, only an {@link AsyncPageIterator} is advanced without
+     * blocking.
+     *
+     * @param pages page iterator, as returned by the paginated listing methods
+     * @param collector collector to accumulate the items with
+     * @return future of the collected result
+     */
+    public static <T, A, R> CompletableFuture<R> collectAsync(
+            final Iterator<AsyncPage<T>> pages, final Collector<? super T, A, R> collector) {
+        return collectAsync(pages, collector, Long.MAX_VALUE);
+    }
+
+    /**
+     * Collect at most {@code limit} items of a paginated listing without blocking. No page is
+     * fetched once the limit has been reached. As with {@link #forEachAsync(Iterator, Predicate)},
+     * only an {@link AsyncPageIterator} is advanced without blocking.
+     *
+     * @param pages page iterator, as returned by the paginated listing methods
+     * @param collector collector to accumulate the items with
+     * @param limit maximum number of items to collect
+     * @return future of the collected result
+     */
+    public static <T, A, R> CompletableFuture<R> collectAsync(
+            final Iterator<AsyncPage<T>> pages,
+            final Collector<? super T, A, R> collector,
+            final long limit) {
+        final A container = collector.supplier().get();
+        final AtomicLong remaining = new AtomicLong(limit);
+        if (limit <= 0) {
+            return completedFuture(collector.finisher().apply(container));
+        }
+        return forEachAsync(
+                        pages,
+                        item -> {
+                            collector.accumulator().accept(container, item);
+                            return remaining.decrementAndGet() > 0;
+                        })
+                .thenApply(ignored -> collector.finisher().apply(container));
+    }
+
+    /**
+     * Apply an asynchronous function to every item, with at most {@code parallelism} calls in
+     * flight at a time. Results are returned in the order of the items. Once a call fails, no
+     * further calls are started and the returned future fails with that error.
+     *
+     * @param items items to apply the function to
+     * @param parallelism maximum number of calls in flight
+     * @param function asynchronous function
+     * @return future of the results, in item order
+     */
+    public static <T, R> CompletableFuture<List<R>> mapAsync(
+            final List<T> items,
+            final int parallelism,
+            final Function<? super T, CompletableFuture<R>> function) {
+        final AtomicReferenceArray<R> results = new AtomicReferenceArray<>(items.size());
+        final BoundedScheduler<Integer, R> scheduler =
+                BoundedScheduler.create(
+                        parallelism, index -> function.apply(items.get(index)), results::set);
+        for (int i = 0; i < items.size(); i++) {
+            scheduler.submit(i);
+        }
+        return scheduler
+                .run()
+                .thenApply(
+                        ignored -> {
+                            final List<R> values = new ArrayList<>(results.length());
+                            for (int i = 0; i < results.length(); i++) {
+                                values.add(results.get(i));
+                            }
+                            return values;
+                        });
+    }
+
+    private static <T> void forEachAsync(
+            final AsyncPageIterator<T> pages,
+            final Predicate<? super T> action,
+            final CompletableFuture<Void> result) {
+        // Loop rather than recurse while pages are already available, to keep the stack flat.
+        while (!result.isDone()) {
+            final CompletableFuture<Boolean> step =
+                    pages.nextAsync()
+                            .thenCompose(
+                                    maybePage ->
+                                            maybePage
+                                                    .map(page -> page.items().thenApply(items -> visit(items, action)))
+                                                    .orElseGet(() -> completedFuture(false)));
+            if (!step.isDone()) {
+                step.whenComplete(
+                        (more, throwable) -> {
+                            if (throwable != null) {
+                                result.completeExceptionally(throwable);
+                            } else if (more) {
+                                forEachAsync(pages, action, result);
+                            } else {
+                                result.complete(null);
+                            }
+                        });
+                return;
+            }
+            try {
+                if (!step.join()) {
+                    result.complete(null);
+                }
+            } catch (CompletionException e) {
+                result.completeExceptionally(e.getCause());
+            }
+        }
+    }
+
+    private static <T> boolean visit(final List<T> items, final Predicate<? super T> action) {
+        for (final T item : items) {
+            if (!action.test(item)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T> AsyncPageIterator<T> asAsyncPageIterator(final Iterator<AsyncPage<T>> pages) {
+        if (pages instanceof AsyncPageIterator) {
+            return (AsyncPageIterator<T>) pages;
+        }
+        return new AsyncPageIterator<>() {
+            @Override
+            public CompletableFuture<Optional<AsyncPage<T>>> nextAsync() {
+                // A plain iterator can only be advanced by blocking; do so on the caller's thread
+                // rather than tie up a pool thread.
+                try {
+                    return completedFuture(
+                            pages.hasNext() ? Optional.of(pages.next()) : Optional.empty());
+                } catch (RuntimeException e) {
+                    return CompletableFuture.failedFuture(e);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return pages.hasNext();
+            }
+
+            @Override
+            public AsyncPage<T> next() {
+                return pages.next();
+            }
+        };
+    }
 }
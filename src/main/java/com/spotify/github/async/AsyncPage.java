@@ -20,7 +20,9 @@
 
 package com.spotify.github.async;
 
+import com.google.common.collect.ImmutableList;
 import com.spotify.github.http.Pagination;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -51,6 +53,23 @@ public interface AsyncPage<T> extends Iterable<T> {
    */
   CompletableFuture<Boolean> hasNextPage();
 
+  /**
+   * Items of this page.
+   *
+   * <p>The default implementation iterates the page on the calling thread, blocking it while the
+   * page is fetched. Pages backed by a request should override it to complete once the response
+   * arrives instead, as the pages of this library's listings do.
+   *
+   * @return page items
+   */
+  default CompletableFuture<List<T>> items() {
+    try {
+      return CompletableFuture.completedFuture(ImmutableList.copyOf(this));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
   /**
    * Clone page object.
    *
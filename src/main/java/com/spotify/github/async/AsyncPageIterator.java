@@ -0,0 +1,41 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.async;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Iterator over the pages of a paginated listing that can also be advanced without blocking.
+ *
+ * @param <T> resource type
+ */
+public interface AsyncPageIterator<T> extends Iterator<AsyncPage<T>> {
+
+  /**
+   * Advance to the next page without blocking. Each call claims a distinct page, in order, also
+   * when called concurrently.
+   *
+   * @return the next page, or empty once the listing is exhausted
+   */
+  CompletableFuture<Optional<AsyncPage<T>>> nextAsync();
+}
@@ -0,0 +1,210 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.async;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Flow.Publisher} emitting every item of a paginated listing.
+ *
+ * <p>Items are emitted only as requested by the subscriber. While a page is being consumed the
+ * following page is already fetched, so at most two pages are held in memory at any time. No
+ * thread is blocked waiting for a page: items are delivered on whichever thread completes the
+ * page request, or on the thread calling {@link Flow.Subscription#request(long)}.
+ *
+ * @param <T> resource type
+ */
+public class AsyncPagePublisher<T> implements Flow.Publisher<T> {
+
+  private final AsyncPage<T> firstPage;
+
+  /**
+   * C'tor.
+   *
+   * @param firstPage first page of the listing
+   */
+  public AsyncPagePublisher(final AsyncPage<T> firstPage) {
+    this.firstPage = requireNonNull(firstPage);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void subscribe(final Flow.Subscriber<? super T> subscriber) {
+    requireNonNull(subscriber);
+    final PageSubscription<T> subscription =
+        new PageSubscription<>(subscriber, firstPage.clone());
+    try {
+      subscriber.onSubscribe(subscription);
+    } catch (Throwable t) {
+      // A subscriber that throws is broken; it must not be signalled again (rule 2.13).
+      subscription.cancel();
+    }
+  }
+
+  /** Items of a page together with the page following it, if any. */
+  private static final class PageData<T> {
+    private final List<T> items;
+    private final Optional<AsyncPage<T>> next;
+
+    private PageData(final List<T> items, final Optional<AsyncPage<T>> next) {
+      this.items = items;
+      this.next = next;
+    }
+  }
+
+  private static final class PageSubscription<T> implements Flow.Subscription {
+
+    private final Flow.Subscriber<? super T> subscriber;
+    private final AsyncPage<T> firstPage;
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private volatile boolean cancelled;
+    // Set by an invalid request, and signalled from drain() so that signals stay serial.
+    private volatile Throwable error;
+
+    // Only accessed from within drain(), which is never run concurrently.
+    private boolean started;
+    private boolean done;
+    private Iterator<T> current;
+    private CompletableFuture<PageData<T>> upcoming;
+
+    private PageSubscription(
+        final Flow.Subscriber<? super T> subscriber, final AsyncPage<T> firstPage) {
+      this.subscriber = subscriber;
+      this.firstPage = firstPage;
+    }
+
+    @Override
+    public void request(final long n) {
+      if (n <= 0) {
+        error = new IllegalArgumentException("Requested items must be positive, got " + n);
+      } else {
+        demand.getAndUpdate(d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+      }
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+
+    private CompletableFuture<PageData<T>> fetch(final AsyncPage<T> page) {
+      final CompletableFuture<Optional<AsyncPage<T>>> next =
+          page.hasNextPage()
+              .thenCompose(
+                  hasNext ->
+                      hasNext
+                          ? page.nextPage().thenApply(Optional::of)
+                          : completedFuture(Optional.empty()));
+      final CompletableFuture<PageData<T>> data = page.items().thenCombine(next, PageData::new);
+      data.whenComplete((ignored, throwable) -> drain());
+      return data;
+    }
+
+    private void drain() {
+      if (wip.getAndIncrement() != 0) {
+        return;
+      }
+      int missed = 1;
+      do {
+        if (!done && !cancelled && error != null) {
+          done = true;
+          subscriber.onError(error);
+        } else if (!done && !cancelled) {
+          drainLoop();
+        }
+        if (done || cancelled) {
+          current = null;
+          upcoming = null;
+        }
+        missed = wip.addAndGet(-missed);
+      } while (missed != 0);
+    }
+
+    private void drainLoop() {
+      while (!cancelled && error == null) {
+        if (current != null && current.hasNext()) {
+          long requested = demand.get();
+          long emitted = 0;
+          while (emitted != requested && current.hasNext()) {
+            if (cancelled || error != null) {
+              return;
+            }
+            try {
+              subscriber.onNext(current.next());
+            } catch (Throwable t) {
+              cancel();
+              subscriber.onError(t);
+              return;
+            }
+            emitted++;
+          }
+          if (emitted != 0 && requested != Long.MAX_VALUE) {
+            demand.addAndGet(-emitted);
+          }
+          if (current.hasNext()) {
+            // Out of demand, wait for the next request.
+            return;
+          }
+        }
+
+        if (!started) {
+          if (demand.get() == 0) {
+            return;
+          }
+          started = true;
+          upcoming = fetch(firstPage);
+        }
+
+        if (upcoming == null) {
+          done = true;
+          subscriber.onComplete();
+          return;
+        }
+        if (!upcoming.isDone()) {
+          // The page callback drains again once it has arrived.
+          return;
+        }
+        final PageData<T> data;
+        try {
+          data = upcoming.join();
+        } catch (Throwable t) {
+          done = true;
+          subscriber.onError(t.getCause() != null ? t.getCause() : t);
+          return;
+        }
+        current = data.items.iterator();
+        // Prefetch the next page while the current one is being consumed.
+        upcoming = data.next.map(this::fetch).orElse(null);
+      }
+    }
+  }
+}
@@ -0,0 +1,154 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.async;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Runs a queue of asynchronous tasks with at most {@code parallelism} of them in flight at a time.
+ * The result of each task is handed to a handler, which may {@link #submit(Object) submit} further
+ * tasks, so that work such as walking a tree or splitting a search can be discovered as it runs.
+ *
+ * <p>Handlers are called one at a time, while the scheduler holds its lock, so state they share
+ * needs no further synchronization. The run completes once the queue is empty and no task is in
+ * flight. It fails with the first error of a task or handler, after which no task is started.
+ *
+ * @param <T> task type
+ * @param <R> task result type
+ */
+public final class BoundedScheduler<T, R> {
+
+  private final int parallelism;
+  private final Function<? super T, CompletableFuture<R>> start;
+  private final BiConsumer<? super T, ? super R> handler;
+  private final CompletableFuture<Void> result = new CompletableFuture<>();
+  private final Deque<T> queue = new ArrayDeque<>();
+  private int inFlight;
+
+  private BoundedScheduler(
+      final int parallelism,
+      final Function<? super T, CompletableFuture<R>> start,
+      final BiConsumer<? super T, ? super R> handler) {
+    this.parallelism = parallelism;
+    this.start = start;
+    this.handler = handler;
+  }
+
+  /**
+   * Create a scheduler.
+   *
+   * @param parallelism maximum number of tasks in flight
+   * @param start starts a task
+   * @param handler handles the result of a task
+   * @return scheduler, to be given its first tasks and then run
+   */
+  public static <T, R> BoundedScheduler<T, R> create(
+      final int parallelism,
+      final Function<? super T, CompletableFuture<R>> start,
+      final BiConsumer<? super T, ? super R> handler) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be positive, got " + parallelism);
+    }
+    return new BoundedScheduler<>(parallelism, start, handler);
+  }
+
+  /**
+   * Queue a task. Tasks submitted by a handler are started once a slot is free.
+   *
+   * @param task task
+   */
+  public synchronized void submit(final T task) {
+    queue.add(task);
+  }
+
+  /**
+   * Start the queued tasks.
+   *
+   * @return future completed once all tasks, including those submitted meanwhile, are handled
+   */
+  public CompletableFuture<Void> run() {
+    drain();
+    return result;
+  }
+
+  private void drain() {
+    while (true) {
+      final T next;
+      synchronized (this) {
+        if (result.isDone()) {
+          return;
+        }
+        if (queue.isEmpty() || inFlight >= parallelism) {
+          if (queue.isEmpty() && inFlight == 0) {
+            result.complete(null);
+          }
+          return;
+        }
+        next = queue.poll();
+        inFlight++;
+      }
+      CompletableFuture<R> call;
+      try {
+        call = start.apply(next);
+      } catch (RuntimeException e) {
+        call = CompletableFuture.failedFuture(e);
+      }
+      if (call.isDone()) {
+        // Loop rather than recurse on tasks completed synchronously, to keep the stack flat.
+        call.handle(
+            (value, throwable) -> {
+              complete(next, value, throwable);
+              return null;
+            });
+      } else {
+        call.whenComplete(
+            (value, throwable) -> {
+              complete(next, value, throwable);
+              drain();
+            });
+      }
+    }
+  }
+
+  private synchronized void complete(final T task, final R value, final Throwable throwable) {
+    inFlight--;
+    if (result.isDone()) {
+      return;
+    }
+    if (throwable != null) {
+      result.completeExceptionally(
+          throwable instanceof CompletionException && throwable.getCause() != null
+              ? throwable.getCause()
+              : throwable);
+      return;
+    }
+    try {
+      handler.accept(task, value);
+    } catch (RuntimeException e) {
+      result.completeExceptionally(e);
+    }
+  }
+}
@@ -0,0 +1,57 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.http;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+/** A response whose body is held in memory, as served by {@link HttpResponseCache}. */
+class CachedHttpResponse extends BaseHttpResponse {
+
+  private final byte[] body;
+
+  CachedHttpResponse(
+      final HttpRequest request,
+      final int statusCode,
+      final String statusMessage,
+      final Map<String, List<String>> headers,
+      final byte[] body) {
+    super(request, statusCode, statusMessage, headers);
+    this.body = body;
+  }
+
+  @Override
+  public InputStream body() {
+    return new ByteArrayInputStream(body);
+  }
+
+  @Override
+  public String bodyString() {
+    return new String(body, UTF_8);
+  }
+
+  @Override
+  public void close() {}
+}
@@ -20,6 +20,7 @@
 
 package com.spotify.github.http;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.spotify.github.GithubStyle;
@@ -44,6 +45,17 @@ public interface HttpRequest {
   @Nullable
   String body();
 
+  /**
+   * Body streamed to the connection in place of {@link #body()}, for uploads too large to hold
+   * in memory.
+   *
+   * @return streaming body, or null to send {@link #body()}
+   */
+  @Nullable
+  @JsonIgnore
+  @Value.Auxiliary
+  StreamingBody streamingBody();
+
   @Value.Default
   default Map<String, List<String>> headers() {
     return Map.of();
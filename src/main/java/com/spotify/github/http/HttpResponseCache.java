@@ -0,0 +1,233 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.http;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.hash.Hashing;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent ETag cache for GET requests.
+ *
+ * <p>Successful JSON responses carrying an ETag are stored on disk. Later requests for the same
+ * resource are sent with If-None-Match, and a 304 Not Modified answer, which GitHub does not count
+ * against the rate limit, is served from the stored copy. Since the cache lives on disk, it is
+ * still warm after a restart.
+ *
+ * <p>Only responses that declare a Content-Length within the per-entry limit are stored; larger
+ * or unsized responses are passed through unread, so their bodies can still be streamed.
+ *
+ * <p>Entries are partitioned by credential: the partition is part of every key, so a response
+ * fetched with one token is never served to another. Only a hash of the partition is stored.
+ *
+ * <p>A cache directory must only be used by one instance at a time.
+ */
+public class HttpResponseCache implements Closeable {
+
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final int HTTP_OK = 200;
+  private static final int HTTP_NOT_MODIFIED = 304;
+  private static final int MAX_ENTRY_SHARE = 16;
+
+  private final SegmentStore store;
+  private final long maxEntryBytes;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  private HttpResponseCache(final SegmentStore store, final long maxBytes) {
+    this.store = store;
+    this.maxEntryBytes = maxBytes / MAX_ENTRY_SHARE;
+  }
+
+  /**
+   * Open a cache in the given directory, picking up any entries stored by a previous instance.
+   *
+   * @param directory cache directory, created if missing
+   * @param maxBytes size cap of the cache on disk
+   * @return cache
+   */
+  public static HttpResponseCache create(final Path directory, final long maxBytes) {
+    try {
+      return new HttpResponseCache(SegmentStore.open(directory, maxBytes), maxBytes);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot open response cache in " + directory, e);
+    }
+  }
+
+  /**
+   * Send a request, revalidating a stored response if there is one.
+   *
+   * @param client client to send the request with
+   * @param request request
+   * @param partition identifies the credential the request is made with
+   * @return response, served from the cache when the server answered 304 Not Modified
+   */
+  public CompletableFuture<HttpResponse> send(
+      final HttpClient client, final HttpRequest request, final String partition) {
+    if (!"GET".equals(request.method())) {
+      return client.send(request);
+    }
+    final String key = key(partition, request);
+    final Optional<SegmentStore.Record> cached = lookup(key);
+    if (cached.isEmpty()) {
+      misses.incrementAndGet();
+      return client.send(request).thenApply(response -> store(key, request, response));
+    }
+    final HttpRequest conditional =
+        ImmutableHttpRequest.builder()
+            .from(request)
+            .putHeaders("If-None-Match", List.of(cached.get().etag()))
+            .build();
+    return client
+        .send(conditional)
+        .thenApply(
+            response -> {
+              if (response.statusCode() != HTTP_NOT_MODIFIED) {
+                misses.incrementAndGet();
+                return store(key, request, response);
+              }
+              hits.incrementAndGet();
+              response.close();
+              return fromCache(request, cached.get(), response.headers());
+            });
+  }
+
+  /**
+   * Number of requests answered from the cache.
+   *
+   * @return hits
+   */
+  public long hits() {
+    return hits.get();
+  }
+
+  /**
+   * Number of GET requests the cache could not answer.
+   *
+   * @return misses
+   */
+  public long misses() {
+    return misses.get();
+  }
+
+  /**
+   * Number of stored responses.
+   *
+   * @return entries
+   */
+  public int size() {
+    return store.size();
+  }
+
+  @Override
+  public void close() throws IOException {
+    store.close();
+  }
+
+  Optional<SegmentStore.Record> lookup(final String key) {
+    return store.get(key);
+  }
+
+  static String key(final String partition, final HttpRequest request) {
+    return Hashing.sha256().hashString(partition, UTF_8)
+        + " "
+        + request.url()
+        + " "
+        + Optional.ofNullable(request.header("Accept")).orElse("");
+  }
+
+  private HttpResponse store(
+      final String key, final HttpRequest request, final HttpResponse response) {
+    final String etag = header(response.headers(), "ETag");
+    final String contentType = header(response.headers(), "Content-Type");
+    if (response.statusCode() != HTTP_OK
+        || etag == null
+        || contentType == null
+        || !contentType.contains("json")) {
+      return response;
+    }
+    // Decide before reading the body, so large or unsized responses keep streaming.
+    final long length = contentLength(response.headers());
+    if (length < 0 || length > maxEntryBytes) {
+      return response;
+    }
+    final byte[] body = Optional.ofNullable(response.bodyString()).orElse("").getBytes(UTF_8);
+    final SegmentStore.Record record =
+        new SegmentStore.Record(key, etag, response.statusCode(), response.headers(), body);
+    if (body.length <= maxEntryBytes) {
+      try {
+        store.put(record);
+      } catch (UncheckedIOException e) {
+        log.warn("Could not store response for {}", request.url(), e);
+      }
+    }
+    return new CachedHttpResponse(
+        request, response.statusCode(), response.statusMessage(), response.headers(), body);
+  }
+
+  private static HttpResponse fromCache(
+      final HttpRequest request,
+      final SegmentStore.Record record,
+      final Map<String, List<String>> freshHeaders) {
+    // Headers of the 304, such as the rate limit, take precedence over the stored ones.
+    final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    headers.putAll(record.headers());
+    headers.putAll(freshHeaders);
+    return new CachedHttpResponse(request, record.statusCode(), "OK", headers, record.body());
+  }
+
+  private static long contentLength(final Map<String, List<String>> headers) {
+    final String length = header(headers, "Content-Length");
+    if (length == null) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(length.trim());
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  private static String header(final Map<String, List<String>> headers, final String name) {
+    for (final Map.Entry<String, List<String>> header : headers.entrySet()) {
+      if (header.getKey() != null
+          && header.getKey().equalsIgnoreCase(name)
+          && !header.getValue().isEmpty()) {
+        return header.getValue().get(0);
+      }
+    }
+    return null;
+  }
+}
@@ -24,14 +24,7 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.spotify.github.GithubStyle;
 import java.net.URI;
-import java.util.AbstractMap;
-import java.util.Arrays;
-import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 import org.immutables.value.Value;
 
 /**
@@ -117,45 +110,6 @@ public interface Link {
    * @return link object
    */
   static Link from(String[] linkValues) {
-    final Map<String, String> linkResources =
-        Arrays.stream(linkValues)
-            .map(
-                value -> {
-                  final Matcher linkValueMatcher =
-                      Pattern.compile("^<([^>]+)>$").matcher(value.trim());
-                  final Matcher keyValueMatcher =
-                      Pattern.compile("(?<name>\\w+)=\"(?<value>[^\"]+)\"").matcher(value.trim());
-
-                  if (linkValueMatcher.find()) {
-                    return new AbstractMap.SimpleEntry<>("url", linkValueMatcher.group(1));
-                  } else if (keyValueMatcher.find()) {
-                    return new AbstractMap.SimpleEntry<>(
-                        keyValueMatcher.group("name"), keyValueMatcher.group("value"));
-                  }
-                  return (Map.Entry<String, String>) null;
-                })
-            .filter(Objects::nonNull)
-            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-    final ImmutableLink.Builder builder =
-        ImmutableLink.builder()
-            .url(URI.create(linkResources.get("url")))
-            .rel(linkResources.get("rel"));
-    if (linkResources.containsKey("rev")) {
-      builder.rev(linkResources.get("rev"));
-    }
-    if (linkResources.containsKey("type")) {
-      builder.type(linkResources.get("type"));
-    }
-    if (linkResources.containsKey("media")) {
-      builder.media(linkResources.get("media"));
-    }
-    if (linkResources.containsKey("title")) {
-      builder.title(linkResources.get("title"));
-    }
-    if (linkResources.containsKey("anchor")) {
-      builder.anchor(linkResources.get("anchor"));
-    }
-    return builder.build();
+    return LinkHeaderParser.fromSegments(linkValues);
   }
 }
@@ -0,0 +1,265 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.http;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Single pass parser for RFC 5988 Link headers, as used by the GitHub API for pagination.
+ *
+ * <p>The header is scanned once, without regular expressions or intermediate splits.
+ */
+public final class LinkHeaderParser {
+
+  private static final String PAGE = "page";
+  private static final int DECIMAL = 10;
+
+  private LinkHeaderParser() {}
+
+  /**
+   * Parse a Link header into its links, keyed by relation type. Links without a "rel" parameter
+   * are skipped. When several links share a relation type, the first one wins.
+   *
+   * @param header Link header value, may be null
+   * @return links by relation type
+   */
+  public static Map<String, Link> parse(final String header) {
+    if (header == null || header.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    final Map<String, Link> links = new HashMap<>();
+    final int length = header.length();
+    int i = 0;
+    while (i < length) {
+      final int start = header.indexOf('<', i);
+      if (start < 0) {
+        break;
+      }
+      final int urlEnd = header.indexOf('>', start + 1);
+      if (urlEnd < 0) {
+        break;
+      }
+      final ParamsBuilder link = new ParamsBuilder(header.substring(start + 1, urlEnd));
+      i = parseParams(header, urlEnd + 1, length, link);
+      if (link.rel != null && !links.containsKey(link.rel)) {
+        links.put(link.rel, link.build());
+      }
+    }
+    return links;
+  }
+
+  /**
+   * Extract the "page" query parameter of a pagination link.
+   *
+   * @param uri link url
+   * @return page number, or -1 if the url has no numeric page parameter
+   */
+  public static int pageNumber(final String uri) {
+    final int query = uri.indexOf('?');
+    if (query < 0) {
+      return -1;
+    }
+    int end = uri.indexOf('#', query);
+    if (end < 0) {
+      end = uri.length();
+    }
+    int i = query + 1;
+    while (i < end) {
+      if (uri.regionMatches(true, i, PAGE, 0, PAGE.length())
+          && i + PAGE.length() < end
+          && uri.charAt(i + PAGE.length()) == '=') {
+        final int value = parseDigits(uri, i + PAGE.length() + 1, end);
+        if (value >= 0) {
+          return value;
+        }
+      }
+      final int next = uri.indexOf('&', i);
+      if (next < 0 || next >= end) {
+        break;
+      }
+      i = next + 1;
+    }
+    return -1;
+  }
+
+  /**
+   * Parse the segments of a single link, the url in angle brackets followed by its parameters.
+   *
+   * @param segments link segments
+   * @return link
+   */
+  static Link fromSegments(final String[] segments) {
+    String url = null;
+    final ParamsBuilder params = new ParamsBuilder(null);
+    for (final String segment : segments) {
+      final int start = skipWhitespace(segment, 0, segment.length());
+      final int end = trimEnd(segment, start, segment.length());
+      if (end - start > 1 && segment.charAt(start) == '<' && segment.charAt(end - 1) == '>') {
+        if (url == null) {
+          url = segment.substring(start + 1, end - 1);
+        }
+      } else {
+        parseParam(segment, start, end, params);
+      }
+    }
+    params.url = url;
+    return params.build();
+  }
+
+  private static int parseParams(
+      final String header, final int from, final int length, final ParamsBuilder link) {
+    int i = from;
+    while (i < length) {
+      final char c = header.charAt(i);
+      if (c == ',') {
+        return i + 1;
+      }
+      if (c != ';') {
+        i++;
+        continue;
+      }
+      final int paramStart = i + 1;
+      int paramEnd = paramStart;
+      boolean quoted = false;
+      while (paramEnd < length) {
+        final char p = header.charAt(paramEnd);
+        if (p == '"') {
+          quoted = !quoted;
+        } else if (!quoted && (p == ';' || p == ',')) {
+          break;
+        }
+        paramEnd++;
+      }
+      parseParam(header, paramStart, paramEnd, link);
+      i = paramEnd;
+    }
+    return length;
+  }
+
+  private static void parseParam(
+      final String s, final int from, final int to, final ParamsBuilder params) {
+    final int start = skipWhitespace(s, from, to);
+    final int eq = s.indexOf('=', start);
+    if (eq < 0 || eq >= to) {
+      return;
+    }
+    final int nameEnd = trimEnd(s, start, eq);
+    int valueStart = skipWhitespace(s, eq + 1, to);
+    int valueEnd = trimEnd(s, valueStart, to);
+    if (valueEnd - valueStart >= 2 && s.charAt(valueStart) == '"' && s.charAt(valueEnd - 1) == '"') {
+      valueStart++;
+      valueEnd--;
+    }
+    if (nameEnd > start && valueEnd > valueStart) {
+      params.set(s, start, nameEnd, s.substring(valueStart, valueEnd));
+    }
+  }
+
+  private static int parseDigits(final String s, final int from, final int to) {
+    long value = 0;
+    int i = from;
+    while (i < to && Character.isDigit(s.charAt(i))) {
+      value = value * DECIMAL + Character.digit(s.charAt(i), DECIMAL);
+      if (value > Integer.MAX_VALUE) {
+        return -1;
+      }
+      i++;
+    }
+    return i == from ? -1 : (int) value;
+  }
+
+  private static int skipWhitespace(final String s, final int from, final int to) {
+    int i = from;
+    while (i < to && Character.isWhitespace(s.charAt(i))) {
+      i++;
+    }
+    return i;
+  }
+
+  private static int trimEnd(final String s, final int from, final int to) {
+    int i = to;
+    while (i > from && Character.isWhitespace(s.charAt(i - 1))) {
+      i--;
+    }
+    return i;
+  }
+
+  /** Link parameters collected during parsing; only the first occurrence of each is kept. */
+  private static final class ParamsBuilder {
+    private String url;
+    private String rel;
+    private String rev;
+    private String type;
+    private String media;
+    private String title;
+    private String anchor;
+
+    private ParamsBuilder(final String url) {
+      this.url = url;
+    }
+
+    private void set(final String s, final int start, final int end, final String value) {
+      if (is(s, start, end, "rel")) {
+        rel = rel == null ? value : rel;
+      } else if (is(s, start, end, "rev")) {
+        rev = rev == null ? value : rev;
+      } else if (is(s, start, end, "type")) {
+        type = type == null ? value : type;
+      } else if (is(s, start, end, "media")) {
+        media = media == null ? value : media;
+      } else if (is(s, start, end, "title")) {
+        title = title == null ? value : title;
+      } else if (is(s, start, end, "anchor")) {
+        anchor = anchor == null ? value : anchor;
+      }
+    }
+
+    private static boolean is(final String s, final int start, final int end, final String name) {
+      return end - start == name.length() && s.regionMatches(true, start, name, 0, name.length());
+    }
+
+    private Link build() {
+      final ImmutableLink.Builder builder = ImmutableLink.builder().url(URI.create(url));
+      if (rel != null) {
+        builder.rel(rel);
+      }
+      if (rev != null) {
+        builder.rev(rev);
+      }
+      if (type != null) {
+        builder.type(type);
+      }
+      if (media != null) {
+        builder.media(media);
+      }
+      if (title != null) {
+        builder.title(title);
+      }
+      if (anchor != null) {
+        builder.anchor(anchor);
+      }
+      return builder.build();
+    }
+  }
+}
@@ -0,0 +1,458 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Append-only, segmented on-disk store backing {@link HttpResponseCache}.
+ *
+ * <p>Each record holds a key, an ETag, the status code, the headers and the gzipped body, followed
+ * by a CRC32 checksum. The in-memory index maps each key to its most recent record and is rebuilt
+ * by scanning the segments when the store is opened; a torn record at the end of a segment is
+ * truncated away. Once the segments outgrow the size cap, the most recently used records are
+ * copied into a fresh segment and the old segments are deleted.
+ *
+ * <p>Reads run concurrently. Appends and compaction are serialized.
+ */
+final class SegmentStore implements Closeable {
+
+  private static final int MAGIC = 0x47484331;
+  private static final int HEADER_BYTES = Integer.BYTES * 2;
+  private static final int TRAILER_BYTES = Long.BYTES;
+  private static final int SEGMENTS_PER_CAP = 8;
+  private static final int COMPACTED_SHARE_PERCENT = 75;
+  private static final int PERCENT = 100;
+  private static final String SEGMENT_PREFIX = "segment-";
+  private static final String SEGMENT_SUFFIX = ".log";
+
+  /** A stored response. */
+  static final class Record {
+    private final String key;
+    private final String etag;
+    private final int statusCode;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+
+    Record(
+        final String key,
+        final String etag,
+        final int statusCode,
+        final Map<String, List<String>> headers,
+        final byte[] body) {
+      this.key = key;
+      this.etag = etag;
+      this.statusCode = statusCode;
+      this.headers = headers;
+      this.body = body;
+    }
+
+    String key() {
+      return key;
+    }
+
+    String etag() {
+      return etag;
+    }
+
+    int statusCode() {
+      return statusCode;
+    }
+
+    Map<String, List<String>> headers() {
+      return headers;
+    }
+
+    byte[] body() {
+      return body;
+    }
+  }
+
+  private static final class Location {
+    private final int segment;
+    private final long offset;
+    private final int length;
+    private volatile long lastAccess;
+
+    private Location(final int segment, final long offset, final int length, final long access) {
+      this.segment = segment;
+      this.offset = offset;
+      this.length = length;
+      this.lastAccess = access;
+    }
+  }
+
+  private final Path directory;
+  private final long maxBytes;
+  private final long segmentBytes;
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<String, Location> index = new ConcurrentHashMap<>();
+  private final TreeMap<Integer, FileChannel> segments = new TreeMap<>();
+  private final AtomicLong clock = new AtomicLong();
+  private long totalBytes;
+
+  private SegmentStore(final Path directory, final long maxBytes) {
+    this.directory = directory;
+    this.maxBytes = maxBytes;
+    this.segmentBytes = Math.max(1, maxBytes / SEGMENTS_PER_CAP);
+  }
+
+  /**
+   * Open the store in a directory, rebuilding the index from the existing segments.
+   *
+   * @param directory store directory, created if missing
+   * @param maxBytes size cap of all segments together
+   * @return store
+   */
+  static SegmentStore open(final Path directory, final long maxBytes) throws IOException {
+    Files.createDirectories(directory);
+    final SegmentStore store = new SegmentStore(directory, maxBytes);
+    final List<Path> files;
+    try (Stream<Path> list = Files.list(directory)) {
+      files =
+          list.filter(path -> isSegment(path.getFileName().toString()))
+              .sorted(Comparator.comparingInt(SegmentStore::segmentId))
+              .collect(Collectors.toList());
+    }
+    for (final Path file : files) {
+      store.load(segmentId(file), file);
+    }
+    return store;
+  }
+
+  /**
+   * Look up the most recent record for a key.
+   *
+   * @param key record key
+   * @return record, if stored
+   */
+  Optional<Record> get(final String key) {
+    final byte[] bytes;
+    final Location location;
+    lock.readLock().lock();
+    try {
+      location = index.get(key);
+      if (location == null) {
+        return Optional.empty();
+      }
+      bytes = read(segments.get(location.segment), location.offset, location.length);
+    } catch (IOException e) {
+      index.remove(key);
+      return Optional.empty();
+    } finally {
+      lock.readLock().unlock();
+    }
+    try {
+      final Record record = decode(bytes, true);
+      location.lastAccess = clock.incrementAndGet();
+      return Optional.of(record);
+    } catch (IOException e) {
+      index.remove(key, location);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Append a record, superseding any earlier record for the same key.
+   *
+   * @param record record to store
+   */
+  void put(final Record record) {
+    final byte[] bytes;
+    try {
+      bytes = encode(record);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    lock.writeLock().lock();
+    try {
+      if (segments.isEmpty() || segments.lastEntry().getValue().size() + bytes.length > segmentBytes) {
+        openSegment(segments.isEmpty() ? 0 : segments.lastKey() + 1);
+      }
+      final int segment = segments.lastKey();
+      final FileChannel channel = segments.get(segment);
+      final long offset = channel.size();
+      write(channel, offset, bytes);
+      totalBytes += bytes.length;
+      index.put(
+          record.key, new Location(segment, offset, bytes.length, clock.incrementAndGet()));
+      if (totalBytes > maxBytes) {
+        compact();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Number of keys in the index.
+   *
+   * @return live entries
+   */
+  int size() {
+    return index.size();
+  }
+
+  /**
+   * Bytes used by all segments, including superseded records.
+   *
+   * @return bytes on disk
+   */
+  long bytes() {
+    lock.readLock().lock();
+    try {
+      return totalBytes;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    lock.writeLock().lock();
+    try {
+      for (final FileChannel channel : segments.values()) {
+        channel.close();
+      }
+      segments.clear();
+      index.clear();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void load(final int segment, final Path file) throws IOException {
+    final FileChannel channel =
+        FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    segments.put(segment, channel);
+    final long size = channel.size();
+    final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+    long offset = 0;
+    while (offset + HEADER_BYTES <= size) {
+      header.clear();
+      readFully(channel, offset, header);
+      header.flip();
+      final int magic = header.getInt();
+      final int payload = header.getInt();
+      final long length = (long) HEADER_BYTES + payload + TRAILER_BYTES;
+      if (magic != MAGIC || payload < 0 || offset + length > size) {
+        break;
+      }
+      final String key;
+      try {
+        key = decode(read(channel, offset, (int) length), false).key;
+      } catch (IOException e) {
+        break;
+      }
+      index.put(key, new Location(segment, offset, (int) length, clock.incrementAndGet()));
+      offset += length;
+    }
+    if (offset < size) {
+      // Drop a record torn by a crash, so that appends continue from a valid position.
+      channel.truncate(offset);
+    }
+    totalBytes += offset;
+  }
+
+  private void compact() throws IOException {
+    final long budget = maxBytes * COMPACTED_SHARE_PERCENT / PERCENT;
+    final List<Map.Entry<String, Location>> byRecency = new ArrayList<>(index.entrySet());
+    byRecency.sort(
+        Comparator.comparingLong((Map.Entry<String, Location> e) -> e.getValue().lastAccess)
+            .reversed());
+
+    final Map<Integer, FileChannel> old = new LinkedHashMap<>(segments);
+    final int segment = segments.lastKey() + 1;
+    final FileChannel target = openSegment(segment);
+    long offset = 0;
+    for (final Map.Entry<String, Location> entry : byRecency) {
+      final Location location = entry.getValue();
+      if (offset + location.length > budget) {
+        index.remove(entry.getKey());
+        continue;
+      }
+      write(target, offset, read(old.get(location.segment), location.offset, location.length));
+      index.put(
+          entry.getKey(), new Location(segment, offset, location.length, location.lastAccess));
+      offset += location.length;
+    }
+    for (final Map.Entry<Integer, FileChannel> entry : old.entrySet()) {
+      entry.getValue().close();
+      segments.remove(entry.getKey());
+      Files.deleteIfExists(segmentPath(entry.getKey()));
+    }
+    totalBytes = offset;
+  }
+
+  private FileChannel openSegment(final int segment) throws IOException {
+    final FileChannel channel =
+        FileChannel.open(
+            segmentPath(segment),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+    segments.put(segment, channel);
+    return channel;
+  }
+
+  private Path segmentPath(final int segment) {
+    return directory.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+  }
+
+  private static boolean isSegment(final String name) {
+    return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+  }
+
+  private static int segmentId(final Path file) {
+    final String name = file.getFileName().toString();
+    return Integer.parseInt(
+        name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+  }
+
+  private static byte[] encode(final Record record) throws IOException {
+    final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(payload)) {
+      out.writeUTF(record.key);
+      out.writeUTF(record.etag);
+      out.writeInt(record.statusCode);
+      out.writeInt(record.headers.size());
+      for (final Map.Entry<String, List<String>> header : record.headers.entrySet()) {
+        out.writeUTF(header.getKey());
+        out.writeInt(header.getValue().size());
+        for (final String value : header.getValue()) {
+          out.writeUTF(value);
+        }
+      }
+      final ByteArrayOutputStream body = new ByteArrayOutputStream();
+      try (GZIPOutputStream gzip = new GZIPOutputStream(body)) {
+        gzip.write(record.body);
+      }
+      out.writeInt(body.size());
+      body.writeTo(out);
+    }
+    final byte[] bytes = payload.toByteArray();
+    final CRC32 crc = new CRC32();
+    crc.update(bytes);
+    return ByteBuffer.allocate(HEADER_BYTES + bytes.length + TRAILER_BYTES)
+        .putInt(MAGIC)
+        .putInt(bytes.length)
+        .put(bytes)
+        .putLong(crc.getValue())
+        .array();
+  }
+
+  private static Record decode(final byte[] record, final boolean full) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.wrap(record);
+    if (buffer.getInt() != MAGIC) {
+      throw new IOException("Corrupt record");
+    }
+    final int length = buffer.getInt();
+    final CRC32 crc = new CRC32();
+    crc.update(record, HEADER_BYTES, length);
+    if (buffer.getLong(HEADER_BYTES + length) != crc.getValue()) {
+      throw new IOException("Corrupt record");
+    }
+    try (DataInputStream in =
+        new DataInputStream(new ByteArrayInputStream(record, HEADER_BYTES, length))) {
+      final String key = in.readUTF();
+      if (!full) {
+        return new Record(key, null, 0, Map.of(), null);
+      }
+      final String etag = in.readUTF();
+      final int statusCode = in.readInt();
+      final int headerCount = in.readInt();
+      final Map<String, List<String>> headers = new LinkedHashMap<>();
+      for (int i = 0; i < headerCount; i++) {
+        final String name = in.readUTF();
+        final int valueCount = in.readInt();
+        final List<String> values = new ArrayList<>(valueCount);
+        for (int j = 0; j < valueCount; j++) {
+          values.add(in.readUTF());
+        }
+        headers.put(name, values);
+      }
+      final byte[] gzipped = new byte[in.readInt()];
+      in.readFully(gzipped);
+      try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+        return new Record(key, etag, statusCode, headers, gzip.readAllBytes());
+      }
+    }
+  }
+
+  private static byte[] read(final FileChannel channel, final long offset, final int length)
+      throws IOException {
+    if (channel == null) {
+      throw new IOException("Segment is gone");
+    }
+    final ByteBuffer buffer = ByteBuffer.allocate(length);
+    readFully(channel, offset, buffer);
+    return buffer.array();
+  }
+
+  private static void readFully(final FileChannel channel, final long offset, final ByteBuffer dst)
+      throws IOException {
+    long position = offset;
+    while (dst.hasRemaining()) {
+      final int read = channel.read(dst, position);
+      if (read < 0) {
+        throw new IOException("Unexpected end of segment");
+      }
+      position += read;
+    }
+  }
+
+  private static void write(final FileChannel channel, final long offset, final byte[] bytes)
+      throws IOException {
+    final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    long position = offset;
+    while (buffer.hasRemaining()) {
+      position += channel.write(buffer, position);
+    }
+  }
+}
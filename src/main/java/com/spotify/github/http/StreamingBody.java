@@ -0,0 +1,56 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A request body written straight to the connection when the request is sent, rather than held
+ * in memory as a string.
+ */
+public interface StreamingBody {
+
+  /**
+   * Length of the body.
+   *
+   * @return length in bytes, or -1 if unknown
+   */
+  long contentLength();
+
+  /**
+   * Whether the body can only be written once, e.g. because it is read from a stream. Such
+   * requests are not retried or redirected.
+   *
+   * @return true if the body cannot be written again
+   */
+  default boolean oneShot() {
+    return false;
+  }
+
+  /**
+   * Writes the body.
+   *
+   * @param out connection stream, not to be closed
+   * @throws IOException if the body cannot be read or written
+   */
+  void writeTo(OutputStream out) throws IOException;
+}
@@ -27,6 +27,7 @@ import com.spotify.github.http.HttpClient;
 import com.spotify.github.http.HttpRequest;
 import com.spotify.github.http.HttpResponse;
 import com.spotify.github.http.ImmutableHttpRequest;
+import com.spotify.github.http.StreamingBody;
 import com.spotify.github.tracing.NoopTracer;
 import com.spotify.github.tracing.Span;
 import com.spotify.github.tracing.TraceHelper;
@@ -38,6 +39,7 @@ import java.io.IOException;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import okhttp3.*;
+import okio.BufferedSink;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -123,6 +125,8 @@ public class OkHttpHttpClient implements HttpClient {
             });
     if (request.method().equals("GET")) {
       requestBuilder.get();
+    } else if (request.streamingBody() != null) {
+      requestBuilder.method(request.method(), streamingRequestBody(request.streamingBody()));
     } else {
       requestBuilder.method(
           request.method(),
@@ -131,6 +135,36 @@ public class OkHttpHttpClient implements HttpClient {
     return requestBuilder.build();
   }
 
+  /**
+   * Adapt a streaming body to OkHttp, writing it straight into the connection's sink.
+   *
+   * @param body the streaming body
+   * @return the OkHttp RequestBody
+   */
+  private static RequestBody streamingRequestBody(final StreamingBody body) {
+    return new RequestBody() {
+      @Override
+      public MediaType contentType() {
+        return parse(javax.ws.rs.core.MediaType.APPLICATION_JSON);
+      }
+
+      @Override
+      public long contentLength() {
+        return body.contentLength();
+      }
+
+      @Override
+      public boolean isOneShot() {
+        return body.oneShot();
+      }
+
+      @Override
+      public void writeTo(@NotNull final BufferedSink sink) throws IOException {
+        body.writeTo(sink.outputStream());
+      }
+    };
+  }
+
   /**
    * Build an HttpRequest from an OkHttp Request.
    *
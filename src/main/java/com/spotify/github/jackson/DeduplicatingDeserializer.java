@@ -0,0 +1,146 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.spotify.github.v3.User;
+import com.spotify.github.v3.issues.Label;
+import com.spotify.github.v3.repos.RepositoryBase;
+import java.io.IOException;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Deserializer returning a single instance for equal values read within one response.
+ *
+ * <p>Listings repeat the same nested users and repositories on every item. The values read so
+ * far are kept in a per-call attribute of the deserialization context, so they are released
+ * together with the response, unless the reader was given a pool of its own under {@link #POOL}
+ * to share it between responses.
+ */
+class DeduplicatingDeserializer extends DelegatingDeserializer {
+
+  /** Attribute key of the pool of canonical values. */
+  static final Object POOL = DeduplicatingDeserializer.class;
+
+  /** Longer strings are bodies and patches, which seldom repeat. */
+  private static final int MAX_STRING_LENGTH = 256;
+
+  /** Bounds the pool of a reader shared by a long listing; later values are not pooled. */
+  private static final int MAX_POOL_SIZE = 65_536;
+
+  DeduplicatingDeserializer(final JsonDeserializer<?> delegatee) {
+    super(delegatee);
+  }
+
+  @Override
+  protected JsonDeserializer<?> newDelegatingInstance(final JsonDeserializer<?> newDelegatee) {
+    return new DeduplicatingDeserializer(newDelegatee);
+  }
+
+  @Override
+  public Object deserialize(final JsonParser p, final DeserializationContext ctxt)
+      throws IOException {
+    return canonical(ctxt, _delegatee.deserialize(p, ctxt));
+  }
+
+  /**
+   * Return the instance equal to the given value that was read first in the current call.
+   *
+   * @param ctxt context of the current call
+   * @param value value just read
+   * @return canonical instance
+   */
+  static Object canonical(final DeserializationContext ctxt, final Object value) {
+    if (value == null
+        || value instanceof String && ((String) value).length() > MAX_STRING_LENGTH) {
+      return value;
+    }
+    @SuppressWarnings("unchecked")
+    Map<Object, Object> pool = (Map<Object, Object>) ctxt.getAttribute(POOL);
+    if (pool == null) {
+      pool = new HashMap<>();
+      ctxt.setAttribute(POOL, pool);
+    }
+    final Object existing =
+        pool.size() < MAX_POOL_SIZE ? pool.putIfAbsent(value, value) : pool.get(value);
+    return existing != null ? existing : value;
+  }
+
+  /**
+   * Module canonicalizing strings, URIs, users, labels and repositories, for {@link
+   * Json#createDeduplicating()}.
+   *
+   * @return module
+   */
+  static SimpleModule module() {
+    final SimpleModule module = new SimpleModule("github-deduplication");
+    module.addDeserializer(String.class, deduplicated(StringDeserializer.instance));
+    module.addDeserializer(URI.class, deduplicated(FromStringDeserializer.findDeserializer(URI.class)));
+    module.setDeserializerModifier(new Modifier(List.of(User.class, Label.class, RepositoryBase.class)));
+    return module;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> JsonDeserializer<T> deduplicated(final JsonDeserializer<?> deserializer) {
+    return (JsonDeserializer<T>) new DeduplicatingDeserializer(deserializer);
+  }
+
+  /** Wraps the deserializers of the given value types. */
+  static class Modifier extends BeanDeserializerModifier {
+
+    private final List<Class<?>> types;
+
+    Modifier(final List<Class<?>> types) {
+      this.types = types;
+    }
+
+    @Override
+    public JsonDeserializer<?> modifyDeserializer(
+        final DeserializationConfig config,
+        final BeanDescription beanDesc,
+        final JsonDeserializer<?> deserializer) {
+      final Class<?> beanClass = beanDesc.getBeanClass();
+      // Nested classes are the builders and creator delegates of the immutable implementations,
+      // which have no value equality of their own.
+      if (beanClass.isMemberClass() || beanClass.isInterface()) {
+        return deserializer;
+      }
+      for (final Class<?> type : types) {
+        if (type.isAssignableFrom(beanClass)) {
+          return new DeduplicatingDeserializer(deserializer);
+        }
+      }
+      return deserializer;
+    }
+  }
+}
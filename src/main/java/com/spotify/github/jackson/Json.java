@@ -24,35 +24,120 @@ import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import static java.util.Objects.isNull;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.google.common.cache.CacheBuilder;
 import com.spotify.github.v3.exceptions.DeserializationException;
 import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-/** Json class to facilitate reading and writing json. */
+/**
+ * Json class to facilitate reading and writing json.
+ *
+ * <p>Readers and writers are built once per type and reused. They capture the mapper
+ * configuration at the time they are built, so a provided mapper should not be reconfigured
+ * after use. Writers are looked up by the runtime class of the written value, which may be
+ * anonymous or generated, so only a bounded number of them is kept.
+ */
 public class Json {
 
+  private static final Json DEFAULT = new Json(DefaultMapper.INSTANCE);
+  private static final int MAX_WRITERS = 1024;
+
   private final ObjectMapper mapper;
+  private final boolean deduplicating;
+  private final ConcurrentMap<Object, Object> pool;
+  private final ConcurrentMap<Object, ObjectReader> readers = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Class<?>, ObjectWriter> writers =
+      CacheBuilder.newBuilder().maximumSize(MAX_WRITERS).<Class<?>, ObjectWriter>build().asMap();
 
   /** Constructor not to be used in a factory class. */
   private Json(final ObjectMapper mapper) {
+    this(mapper, false, null);
+  }
+
+  private Json(
+      final ObjectMapper mapper,
+      final boolean deduplicating,
+      final ConcurrentMap<Object, Object> pool) {
     this.mapper = mapper;
+    this.deduplicating = deduplicating;
+    this.pool = pool;
   }
 
   /**
-   * Create a pre-configured ObjectMapper object.
+   * Create a pre-configured ObjectMapper object. The instance, and its reader and writer caches,
+   * is shared.
    *
    * @return ObjectMapper object
    */
   public static Json create() {
-    return withMapper(DefaultMapper.INSTANCE);
+    return DEFAULT;
+  }
+
+  /**
+   * Create an instance that returns a single instance for equal strings, URIs, users, labels and
+   * repositories read within one response, so that repeated logins, urls and authors are held
+   * once. Strings longer than a few hundred characters are not canonicalized. The instance, and
+   * its reader and writer caches, is shared.
+   *
+   * @return deduplicating Json
+   * @see #scoped()
+   */
+  public static Json createDeduplicating() {
+    return DeduplicatingJson.INSTANCE;
+  }
+
+  /**
+   * Create an instance that extends the canonicalization of a {@link #createDeduplicating()}
+   * instance from one response to all reads made through it, such as the pages of one listing.
+   * The canonical values are held as long as the returned instance, which should be discarded
+   * with the listing. Other instances return themselves.
+   *
+   * @return Json sharing canonical values between reads
+   */
+  public Json scoped() {
+    return deduplicating ? new Json(mapper, true, new ConcurrentHashMap<>()) : this;
+  }
+
+  /**
+   * Create an instance that reads and writes Smile instead of text JSON, configured like {@link
+   * #create()}. Models round-trip through it unchanged, in a more compact and faster to parse
+   * form; use {@link #toBytes(Object)} and the byte array {@code fromJson} methods with it.
+   * Requires jackson-dataformat-smile on the classpath.
+   *
+   * @return Json for Smile
+   */
+  public static Json createSmile() {
+    return SmileJson.INSTANCE;
+  }
+
+  /**
+   * Create an instance that reads and writes CBOR instead of text JSON, configured like {@link
+   * #create()}; use {@link #toBytes(Object)} and the byte array {@code fromJson} methods with it.
+   * Requires jackson-dataformat-cbor on the classpath.
+   *
+   * @return Json for CBOR
+   */
+  public static Json createCbor() {
+    return CborJson.INSTANCE;
   }
 
   /**
@@ -73,7 +158,38 @@ public class Json {
    * @see #toJson(Object)
    */
   public String toJson(final Object value) throws JsonProcessingException {
-    return mapper.writeValueAsString(value);
+    if (isNull(value)) {
+      return mapper.writeValueAsString(null);
+    }
+    return writer(value).writeValueAsString(value);
+  }
+
+  /**
+   * Serialize an object to bytes, in the format of this instance.
+   *
+   * @param value The object to serialize.
+   * @return The serialized object.
+   */
+  public byte[] toBytes(final Object value) throws JsonProcessingException {
+    if (isNull(value)) {
+      return mapper.writeValueAsBytes(null);
+    }
+    return writer(value).writeValueAsBytes(value);
+  }
+
+  /**
+   * Serialize an object to bytes, in the format of this instance. Use when object is expected to
+   * be serializable.
+   *
+   * @param value The object to serialize.
+   * @return The serialized object.
+   */
+  public byte[] toBytesUnchecked(final Object value) {
+    try {
+      return toBytes(value);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException(e);
+    }
   }
 
   /**
@@ -99,7 +215,7 @@ public class Json {
    * @return The serialized object.
    */
   public <T> T fromJson(final String content, final Class<T> clazz) throws IOException {
-    return mapper.readValue(content, clazz);
+    return reader(clazz).readValue(content);
   }
 
   /**
@@ -111,7 +227,7 @@ public class Json {
    */
   public <T> T fromJson(final String content, final TypeReference<T> typeReference)
       throws IOException {
-    return mapper.readValue(content, typeReference);
+    return reader(typeReference).readValue(content);
   }
 
   /**
@@ -122,7 +238,7 @@ public class Json {
    * @return The serialized object.
    */
   public <T> T fromJson(final String content, final JavaType javaType) throws IOException {
-    return mapper.readValue(content, javaType);
+    return reader(javaType).readValue(content);
   }
 
   /**
@@ -133,7 +249,7 @@ public class Json {
    * @return The serialized object.
    */
   public <T> T fromJson(final byte[] bytes, final Class<T> clazz) throws IOException {
-    return mapper.readValue(bytes, clazz);
+    return reader(clazz).readValue(bytes);
   }
 
   /**
@@ -145,7 +261,7 @@ public class Json {
    */
   public <T> T fromJson(final byte[] bytes, final TypeReference<T> typeReference)
       throws IOException {
-    return mapper.readValue(bytes, typeReference);
+    return reader(typeReference).readValue(bytes);
   }
 
   /**
@@ -156,7 +272,7 @@ public class Json {
    * @return The serialized object.
    */
   public <T> T fromJson(final byte[] bytes, final JavaType javaType) throws IOException {
-    return mapper.readValue(bytes, javaType);
+    return reader(javaType).readValue(bytes);
   }
 
   /**
@@ -169,7 +285,7 @@ public class Json {
    */
   public <T> T fromJsonUnchecked(final String content, final Class<T> clazz) {
     try {
-      return mapper.readValue(content, clazz);
+      return reader(clazz).readValue(content);
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
@@ -185,7 +301,7 @@ public class Json {
    */
   public <T> T fromJsonUnchecked(final String content, final TypeReference<T> typeReference) {
     try {
-      return mapper.readValue(content, typeReference);
+      return reader(typeReference).readValue(content);
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
@@ -202,7 +318,7 @@ public class Json {
   @SuppressWarnings("Duplicates")
   public <T> T fromJsonUncheckedNotNull(final String content, final Class<T> clazz) {
     try {
-      final T t = mapper.readValue(content, clazz);
+      final T t = reader(clazz).readValue(content);
       if (isNull(t)) {
         throw new DeserializationException(content);
       }
@@ -224,7 +340,125 @@ public class Json {
   public <T> T fromJsonUncheckedNotNull(
       final String content, final TypeReference<T> typeReference) {
     try {
-      final T t = mapper.readValue(content, typeReference);
+      final T t = reader(typeReference).readValue(content);
+      if (isNull(t)) {
+        throw new DeserializationException(content);
+      }
+      return t;
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * De-serialize the projected fields of an object from a json string, skipping all others. Use
+   * when you don't know if object is serializable.
+   *
+   * @param content The string to de-serialize.
+   * @param clazz The object to de-serialize to.
+   * @param projection The fields to de-serialize.
+   * @return The serialized object.
+   */
+  public <T> T fromJson(final String content, final Class<T> clazz, final Projection projection)
+      throws IOException {
+    return readProjected(reader(clazz), content, projection);
+  }
+
+  /**
+   * De-serialize the projected fields of an object from a json string, skipping all others. Use
+   * when you don't know if object is serializable.
+   *
+   * @param content The string to de-serialize.
+   * @param typeReference The object to de-serialize to.
+   * @param projection The fields to de-serialize.
+   * @return The serialized object.
+   */
+  public <T> T fromJson(
+      final String content, final TypeReference<T> typeReference, final Projection projection)
+      throws IOException {
+    return readProjected(reader(typeReference), content, projection);
+  }
+
+  /**
+   * De-serialize the projected fields of an object from a json string, skipping all others. Use
+   * when you know the object is serializable.
+   *
+   * @param content The string to de-serialize.
+   * @param clazz The object to de-serialize to.
+   * @param projection The fields to de-serialize.
+   * @return The serialized object.
+   */
+  public <T> T fromJsonUncheckedNotNull(
+      final String content, final Class<T> clazz, final Projection projection) {
+    return notNull(content, () -> fromJson(content, clazz, projection));
+  }
+
+  /**
+   * De-serialize the projected fields of an object from a json string, skipping all others. Use
+   * when you know the object is serializable.
+   *
+   * @param content The string to de-serialize.
+   * @param typeReference The object to de-serialize to.
+   * @param projection The fields to de-serialize.
+   * @return The serialized object.
+   */
+  public <T> T fromJsonUncheckedNotNull(
+      final String content, final TypeReference<T> typeReference, final Projection projection) {
+    return notNull(content, () -> fromJson(content, typeReference, projection));
+  }
+
+  /**
+   * De-serialize the value found at a JSON pointer within a json string, such as the item array of
+   * a listing wrapped in an object. The rest of the document is skipped rather than bound. Use when
+   * you know the object is serializable.
+   *
+   * @param content The string to de-serialize.
+   * @param typeReference The object to de-serialize to.
+   * @param pointer Location of the value, for instance "/check_runs".
+   * @return The serialized object.
+   */
+  public <T> T fromJsonAtUncheckedNotNull(
+      final String content, final TypeReference<T> typeReference, final String pointer) {
+    return notNull(content, () -> reader(typeReference).at(pointer).readValue(content));
+  }
+
+  /**
+   * Build the readers for the given types ahead of their first use.
+   *
+   * @param typeReferences types to be read
+   * @return this instance
+   */
+  public Json warmUp(final TypeReference<?>... typeReferences) {
+    for (final TypeReference<?> typeReference : typeReferences) {
+      reader(typeReference);
+    }
+    return this;
+  }
+
+  /**
+   * Build the readers for the given classes ahead of their first use.
+   *
+   * @param classes classes to be read
+   * @return this instance
+   */
+  public Json warmUp(final Class<?>... classes) {
+    for (final Class<?> clazz : classes) {
+      reader(clazz);
+    }
+    return this;
+  }
+
+  private static <T> T readProjected(
+      final ObjectReader reader, final String content, final Projection projection)
+      throws IOException {
+    try (JsonParser parser = new ProjectingParser(reader.createParser(content), projection)) {
+      return reader.readValue(parser);
+    }
+  }
+
+  private static <T> T notNull(final String content, final Read<T> read) {
+    try {
+      final T t = read.read();
       if (isNull(t)) {
         throw new DeserializationException(content);
       }
@@ -234,20 +468,103 @@ public class Json {
     }
   }
 
+  /** A read that may fail. */
+  private interface Read<T> {
+    T read() throws IOException;
+  }
+
+  private ObjectReader reader(final Class<?> clazz) {
+    return readers.computeIfAbsent(clazz, key -> scope(mapper.readerFor(clazz)));
+  }
+
+  private ObjectWriter writer(final Object value) {
+    return writers.computeIfAbsent(value.getClass(), mapper::writerFor);
+  }
+
+  private ObjectReader reader(final TypeReference<?> typeReference) {
+    final Type type = typeReference.getType();
+    return readers.computeIfAbsent(type, key -> scope(mapper.readerFor(typeReference)));
+  }
+
+  private ObjectReader reader(final JavaType javaType) {
+    return readers.computeIfAbsent(javaType, key -> scope(mapper.readerFor(javaType)));
+  }
+
+  private ObjectReader scope(final ObjectReader reader) {
+    return pool == null ? reader : reader.withAttribute(DeduplicatingDeserializer.POOL, pool);
+  }
+
   private static class DefaultMapper {
 
-    private static final ObjectMapper INSTANCE =
-        new ObjectMapper()
-            .registerModule(new ParameterNamesModule())
-            .registerModule(new Jdk8Module())
-            .registerModule(new JavaTimeModule())
-            .registerModule(new GithubApiModule())
-            .disable(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE)
-            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
-            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
-            .enable(SerializationFeature.WRITE_DATES_WITH_ZONE_ID)
-            .enable(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES)
-            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
-            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+    private static final Logger log = LoggerFactory.getLogger(DefaultMapper.class);
+
+    private static final ObjectMapper INSTANCE = configure(new ObjectMapper());
+
+    /**
+     * Apply the modules, features and naming strategy shared by every format.
+     *
+     * @param mapper mapper for the format
+     * @return configured mapper
+     */
+    private static ObjectMapper configure(final ObjectMapper mapper) {
+      return mapper
+          .registerModule(new ParameterNamesModule())
+          .registerModule(new Jdk8Module())
+          .registerModule(new JavaTimeModule())
+          .registerModule(new GithubApiModule())
+          .disable(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE)
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+          .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+          .enable(SerializationFeature.WRITE_DATES_WITH_ZONE_ID)
+          .enable(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES)
+          .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+          .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+          .registerModules(accessorModules());
+    }
+
+    private static final String BLACKBIRD_MODULE =
+        "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
+    /**
+     * Blackbird replaces reflective property access with generated lambdas. It is used when it is
+     * on the classpath, unless the system property {@code github.json.blackbird} is set to false.
+     */
+    private static Module[] accessorModules() {
+      if (!Boolean.parseBoolean(System.getProperty("github.json.blackbird", "true"))) {
+        return new Module[0];
+      }
+      try {
+        return new Module[] {
+          (Module) Class.forName(BLACKBIRD_MODULE).getDeclaredConstructor().newInstance()
+        };
+      } catch (ClassNotFoundException e) {
+        return new Module[0];
+      } catch (ReflectiveOperationException | LinkageError e) {
+        log.warn("Could not enable the Jackson Blackbird module", e);
+        return new Module[0];
+      }
+    }
+  }
+
+  /** Text JSON, with equal values read as one instance. */
+  private static class DeduplicatingJson {
+    private static final Json INSTANCE =
+        new Json(
+            DefaultMapper.configure(new ObjectMapper())
+                .registerModule(DeduplicatingDeserializer.module()),
+            true,
+            null);
+  }
+
+  /** Smile, a binary encoding of the JSON data model. */
+  private static class SmileJson {
+    private static final Json INSTANCE =
+        new Json(DefaultMapper.configure(new ObjectMapper(new SmileFactory())));
+  }
+
+  /** CBOR, the Concise Binary Object Representation of RFC 8949. */
+  private static class CborJson {
+    private static final Json INSTANCE =
+        new Json(DefaultMapper.configure(new ObjectMapper(new CBORFactory())));
   }
 }
@@ -0,0 +1,137 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Parser passing only the properties selected by a {@link Projection}. The values of other
+ * properties are skipped by the underlying parser, so no tokens are buffered and nothing is
+ * materialized for them. Objects and arrays on the way to a selected property are kept, even
+ * when none of their properties are selected.
+ */
+class ProjectingParser extends JsonParserDelegate {
+
+  private final Projection.Node root;
+  private final Deque<Projection.Node> levels = new ArrayDeque<>();
+  private Projection.Node property;
+
+  ProjectingParser(final JsonParser delegate, final Projection projection) {
+    super(delegate);
+    this.root = projection.root();
+  }
+
+  @Override
+  public JsonToken nextToken() throws IOException {
+    while (true) {
+      final JsonToken token = delegate.nextToken();
+      if (token == null) {
+        return null;
+      }
+      switch (token) {
+        case FIELD_NAME:
+          property = levels.peek().property(delegate.currentName());
+          if (property == null) {
+            delegate.nextToken();
+            delegate.skipChildren();
+            continue;
+          }
+          return token;
+        case START_OBJECT:
+        case START_ARRAY:
+          levels.push(levelOfValue());
+          return token;
+        case END_OBJECT:
+        case END_ARRAY:
+          levels.pop();
+          return token;
+        default:
+          return token;
+      }
+    }
+  }
+
+  @Override
+  public JsonParser skipChildren() throws IOException {
+    final JsonToken token = delegate.currentToken();
+    if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+      delegate.skipChildren();
+      levels.pop();
+    }
+    return this;
+  }
+
+  @Override
+  public JsonToken nextValue() throws IOException {
+    final JsonToken token = nextToken();
+    return token == JsonToken.FIELD_NAME ? nextToken() : token;
+  }
+
+  @Override
+  public String nextFieldName() throws IOException {
+    return nextToken() == JsonToken.FIELD_NAME ? currentName() : null;
+  }
+
+  @Override
+  public boolean nextFieldName(final SerializableString str) throws IOException {
+    return nextToken() == JsonToken.FIELD_NAME && str.getValue().equals(currentName());
+  }
+
+  @Override
+  public String nextTextValue() throws IOException {
+    return nextToken() == JsonToken.VALUE_STRING ? getText() : null;
+  }
+
+  @Override
+  public int nextIntValue(final int defaultValue) throws IOException {
+    return nextToken() == JsonToken.VALUE_NUMBER_INT ? getIntValue() : defaultValue;
+  }
+
+  @Override
+  public long nextLongValue(final long defaultValue) throws IOException {
+    return nextToken() == JsonToken.VALUE_NUMBER_INT ? getLongValue() : defaultValue;
+  }
+
+  @Override
+  public Boolean nextBooleanValue() throws IOException {
+    final JsonToken token = nextToken();
+    if (token == JsonToken.VALUE_TRUE) {
+      return Boolean.TRUE;
+    }
+    return token == JsonToken.VALUE_FALSE ? Boolean.FALSE : null;
+  }
+
+  /** Level of the object or array just started: its property's, its array's, or the root. */
+  private Projection.Node levelOfValue() {
+    final JsonStreamContext enclosing = delegate.getParsingContext().getParent();
+    if (enclosing == null || enclosing.inRoot()) {
+      return root;
+    }
+    return enclosing.inArray() ? levels.peek() : property;
+  }
+}
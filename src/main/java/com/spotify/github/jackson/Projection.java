@@ -0,0 +1,111 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.jackson;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * The fields of a response to deserialize, as dotted paths of JSON property names such as {@code
+ * "number"}, {@code "user.login"} or {@code "head.repo.full_name"}. Paths apply to every element
+ * of arrays, including the items of a listing.
+ *
+ * <p>Everything else is skipped by the parser without being materialized, and is left unset in
+ * the returned model: null, empty or absent. Selecting a path selects its whole subtree. Nested
+ * models with required attributes need those attributes selected as well.
+ */
+public final class Projection {
+
+  private final Node root = new Node();
+  private final String paths;
+
+  private Projection(final Collection<String> paths) {
+    if (paths.isEmpty()) {
+      throw new IllegalArgumentException("A projection needs at least one path");
+    }
+    for (final String path : paths) {
+      Node node = root;
+      for (final String name : requireNonNull(path).split("\\.", -1)) {
+        if (name.isEmpty()) {
+          throw new IllegalArgumentException("Invalid projection path: " + path);
+        }
+        node = node.children.computeIfAbsent(name, key -> new Node());
+      }
+      node.leaf = true;
+    }
+    this.paths = String.join(",", new TreeSet<>(paths));
+  }
+
+  /**
+   * Create a projection of the given paths.
+   *
+   * @param paths dotted paths of JSON property names
+   * @return projection
+   */
+  public static Projection of(final String... paths) {
+    return new Projection(Arrays.asList(paths));
+  }
+
+  /**
+   * Create a projection of the given paths.
+   *
+   * @param paths dotted paths of JSON property names
+   * @return projection
+   */
+  public static Projection of(final Collection<String> paths) {
+    return new Projection(paths);
+  }
+
+  /**
+   * The top level of the selected paths.
+   *
+   * @return root node
+   */
+  Node root() {
+    return root;
+  }
+
+  @Override
+  public String toString() {
+    return "Projection{" + paths + "}";
+  }
+
+  /** A level of the selected paths; array elements stay at the level of their array. */
+  static final class Node {
+    private final Map<String, Node> children = new HashMap<>();
+    private boolean leaf;
+
+    /**
+     * The level of a property of an object at this level.
+     *
+     * @param name property name
+     * @return level of the property, or null if it is not selected
+     */
+    Node property(final String name) {
+      return leaf ? this : children.get(name);
+    }
+  }
+}
@@ -0,0 +1,71 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.checks;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.spotify.github.GithubStyle;
+import com.spotify.github.Parameters;
+import java.util.Optional;
+import org.immutables.value.Value;
+
+/**
+ * Filter parameters for listing the check runs of a ref, applied by GitHub. To be serialized as
+ * key=value.
+ *
+ * @see "https://docs.github.com/en/rest/checks/runs#list-check-runs-for-a-git-reference"
+ */
+@Value.Immutable
+@GithubStyle
+@JsonSerialize(as = ImmutableCheckRunsFilter.class)
+@JsonDeserialize(as = ImmutableCheckRunsFilter.class)
+public interface CheckRunsFilter extends Parameters {
+
+  /**
+   * Only return check runs with this name.
+   *
+   * @return check run name
+   */
+  @SuppressWarnings("checkstyle:methodname")
+  Optional<String> check_name();
+
+  /**
+   * Only return check runs with this status.
+   *
+   * @return check run status
+   */
+  Optional<CheckRunStatus> status();
+
+  /**
+   * Only return check runs created by the GitHub App with this id.
+   *
+   * @return app id
+   */
+  @SuppressWarnings("checkstyle:methodname")
+  Optional<Long> app_id();
+
+  /**
+   * Can be one of latest or all. Default: latest, the most recent run of each check suite.
+   *
+   * @return filter by completed_at
+   */
+  Optional<String> filter();
+}
@@ -0,0 +1,57 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.checks;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.spotify.github.GithubStyle;
+import com.spotify.github.Parameters;
+import java.util.Optional;
+import org.immutables.value.Value;
+
+/**
+ * Filter parameters for listing the check suites of a ref, applied by GitHub. To be serialized as
+ * key=value.
+ *
+ * @see "https://docs.github.com/en/rest/checks/suites#list-check-suites-for-a-git-reference"
+ */
+@Value.Immutable
+@GithubStyle
+@JsonSerialize(as = ImmutableCheckSuitesFilter.class)
+@JsonDeserialize(as = ImmutableCheckSuitesFilter.class)
+public interface CheckSuitesFilter extends Parameters {
+
+  /**
+   * Only return check suites containing a check run with this name.
+   *
+   * @return check run name
+   */
+  @SuppressWarnings("checkstyle:methodname")
+  Optional<String> check_name();
+
+  /**
+   * Only return check suites created by the GitHub App with this id.
+   *
+   * @return app id
+   */
+  @SuppressWarnings("checkstyle:methodname")
+  Optional<Long> app_id();
+}
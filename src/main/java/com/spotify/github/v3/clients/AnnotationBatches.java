@@ -0,0 +1,263 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import com.google.common.collect.Lists;
+import com.spotify.github.v3.checks.Annotation;
+import com.spotify.github.v3.checks.CheckRunOutput;
+import com.spotify.github.v3.checks.CheckRunRequest;
+import com.spotify.github.v3.checks.CheckRunResponse;
+import com.spotify.github.v3.checks.CheckRunStatus;
+import com.spotify.github.v3.checks.ImmutableCheckRunOutput;
+import com.spotify.github.v3.checks.ImmutableCheckRunRequest;
+import com.spotify.github.v3.exceptions.CheckRunAnnotationException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Sends a check run update carrying more annotations than GitHub accepts in one request. The
+ * annotations are split into batches of {@link #MAX_ANNOTATIONS}; all but the last are sent as
+ * in-progress updates, up to {@code parallelism} at a time, since GitHub appends annotations in
+ * whatever order they arrive. The last batch travels with the original request once every other
+ * batch has been accepted, so status and conclusion are always set last.
+ *
+ * <p>When a batch fails no further batch is started, and the update completes with a {@link
+ * CheckRunAnnotationException} describing what is left to send once the batches in flight settle.
+ */
+final class AnnotationBatches {
+
+  /** Most annotations GitHub accepts in a single check run request. */
+  static final int MAX_ANNOTATIONS = 50;
+
+  private final BiFunction<Long, CheckRunRequest, CompletableFuture<CheckRunResponse>> update;
+  private final long id;
+  private final CheckRunRequest request;
+  private final List<List<Annotation>> batches;
+  private final int parallelism;
+  private final CompletableFuture<CheckRunResponse> result = new CompletableFuture<>();
+  private final Deque<Integer> queue = new ArrayDeque<>();
+  private final BitSet sent = new BitSet();
+  private int inFlight;
+  private boolean finishing;
+  private Throwable failure;
+
+  private AnnotationBatches(
+      final BiFunction<Long, CheckRunRequest, CompletableFuture<CheckRunResponse>> update,
+      final long id,
+      final CheckRunRequest request,
+      final int parallelism) {
+    this.update = update;
+    this.id = id;
+    this.request = request;
+    this.batches = Lists.partition(annotations(request), MAX_ANNOTATIONS);
+    this.parallelism = parallelism;
+  }
+
+  static boolean needsSplit(final CheckRunRequest request) {
+    return request != null && annotations(request).size() > MAX_ANNOTATIONS;
+  }
+
+  /**
+   * Create a check run, then add the annotations that did not fit in the creation request.
+   *
+   * @param create sends a single creation request
+   * @param update sends a single update request
+   * @param request check run to create
+   * @param parallelism most intermediate batches in flight at a time
+   * @return the check run as of the final update
+   */
+  static CompletableFuture<CheckRunResponse> create(
+      final Function<CheckRunRequest, CompletableFuture<CheckRunResponse>> create,
+      final BiFunction<Long, CheckRunRequest, CompletableFuture<CheckRunResponse>> update,
+      final CheckRunRequest request,
+      final int parallelism) {
+    final List<Annotation> annotations = annotations(request);
+    final CheckRunRequest first =
+        intermediate(request, annotations.subList(0, MAX_ANNOTATIONS));
+    final CheckRunRequest rest =
+        withAnnotations(request, annotations.subList(MAX_ANNOTATIONS, annotations.size()));
+    return create
+        .apply(first)
+        .thenCompose(created -> update(update, created.id(), rest, parallelism));
+  }
+
+  /**
+   * Update a check run, splitting its annotations into batches when there are too many.
+   *
+   * @param update sends a single update request
+   * @param id check run id
+   * @param request update to send
+   * @param parallelism most intermediate batches in flight at a time
+   * @return the check run as of the final update
+   */
+  static CompletableFuture<CheckRunResponse> update(
+      final BiFunction<Long, CheckRunRequest, CompletableFuture<CheckRunResponse>> update,
+      final long id,
+      final CheckRunRequest request,
+      final int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be positive, got " + parallelism);
+    }
+    if (!needsSplit(request)) {
+      return update.apply(id, request);
+    }
+    final AnnotationBatches batches = new AnnotationBatches(update, id, request, parallelism);
+    for (int i = 0; i < batches.batches.size() - 1; i++) {
+      batches.queue.add(i);
+    }
+    batches.drain();
+    return batches.result;
+  }
+
+  private void drain() {
+    while (true) {
+      final int next;
+      synchronized (this) {
+        if (finishing || inFlight >= parallelism) {
+          return;
+        }
+        if (failure != null || queue.isEmpty()) {
+          if (inFlight > 0) {
+            return;
+          }
+          finishing = true;
+          next = -1;
+        } else {
+          next = queue.poll();
+          inFlight++;
+        }
+      }
+      if (next < 0) {
+        finish();
+        return;
+      }
+      CompletableFuture<CheckRunResponse> batch;
+      try {
+        batch = update.apply(id, intermediate(request, batches.get(next)));
+      } catch (RuntimeException e) {
+        batch = CompletableFuture.failedFuture(e);
+      }
+      batch.whenComplete(
+          (response, throwable) -> {
+            synchronized (this) {
+              inFlight--;
+              if (throwable == null) {
+                sent.set(next);
+              } else if (failure == null) {
+                failure = unwrap(throwable);
+              }
+            }
+            drain();
+          });
+    }
+  }
+
+  private void finish() {
+    final CheckRunRequest remaining = withAnnotations(request, unsent());
+    if (failure != null) {
+      result.completeExceptionally(new CheckRunAnnotationException(id, remaining, failure));
+      return;
+    }
+    CompletableFuture<CheckRunResponse> last;
+    try {
+      last = update.apply(id, remaining);
+    } catch (RuntimeException e) {
+      last = CompletableFuture.failedFuture(e);
+    }
+    last.whenComplete(
+        (response, throwable) -> {
+          if (throwable != null) {
+            result.completeExceptionally(
+                new CheckRunAnnotationException(id, remaining, unwrap(throwable)));
+          } else {
+            result.complete(response);
+          }
+        });
+  }
+
+  private List<Annotation> unsent() {
+    final List<Annotation> unsent = new ArrayList<>();
+    for (int i = 0; i < batches.size(); i++) {
+      if (!sent.get(i)) {
+        unsent.addAll(batches.get(i));
+      }
+    }
+    return unsent;
+  }
+
+  private static List<Annotation> annotations(final CheckRunRequest request) {
+    return request.output().map(CheckRunOutput::annotations).orElse(Collections.emptyList());
+  }
+
+  /** The request with its output carrying only the given annotations. */
+  private static CheckRunRequest withAnnotations(
+      final CheckRunRequest request, final List<Annotation> annotations) {
+    return ImmutableCheckRunRequest.builder()
+        .from(request)
+        .output(
+            ImmutableCheckRunOutput.builder()
+                .from(request.output().orElseThrow())
+                .annotations(annotations)
+                .build())
+        .build();
+  }
+
+  /**
+   * An update adding one batch of annotations without completing the check run. Title and summary
+   * are kept since GitHub requires them on every output; images and actions wait for the final
+   * update.
+   */
+  private static CheckRunRequest intermediate(
+      final CheckRunRequest request, final List<Annotation> annotations) {
+    final CheckRunOutput output = request.output().orElseThrow();
+    return ImmutableCheckRunRequest.builder()
+        .from(request)
+        .status(
+            request.status() == CheckRunStatus.completed
+                ? CheckRunStatus.in_progress
+                : request.status())
+        .conclusion(Optional.empty())
+        .completedAt(Optional.empty())
+        .actions(Collections.emptyList())
+        .output(
+            ImmutableCheckRunOutput.builder()
+                .title(output.title())
+                .summary(output.summary())
+                .annotations(annotations)
+                .build())
+        .build();
+  }
+
+  private static Throwable unwrap(final Throwable throwable) {
+    return throwable instanceof CompletionException && throwable.getCause() != null
+        ? throwable.getCause()
+        : throwable;
+  }
+}
@@ -0,0 +1,104 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import com.spotify.github.http.StreamingBody;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+
+/**
+ * Body of a create blob request, {@code {"content":"<base64>","encoding":"base64"}}, with the
+ * content base64 encoded as it is copied from its source into the connection. Only a copy buffer
+ * is held in memory, whatever the size of the blob.
+ */
+final class Base64BlobBody implements StreamingBody {
+
+  private static final byte[] PREFIX = "{\"content\":\"".getBytes(US_ASCII);
+  private static final byte[] SUFFIX = "\",\"encoding\":\"base64\"}".getBytes(US_ASCII);
+  private static final int BUFFER_SIZE = 49_152;
+  private static final int BASE64_GROUP = 3;
+  private static final int BASE64_CHARS = 4;
+
+  /** Opens the content, once per write of the body. */
+  private interface Source {
+    InputStream open() throws IOException;
+  }
+
+  private final Source source;
+  private final long length;
+  private final boolean oneShot;
+
+  private Base64BlobBody(final Source source, final long length, final boolean oneShot) {
+    this.source = source;
+    this.length = length;
+    this.oneShot = oneShot;
+  }
+
+  static Base64BlobBody of(final Path file) throws IOException {
+    return new Base64BlobBody(() -> Files.newInputStream(file), Files.size(file), false);
+  }
+
+  static Base64BlobBody of(final InputStream content, final long length) {
+    if (length < 0) {
+      throw new IllegalArgumentException("Blob length must not be negative: " + length);
+    }
+    return new Base64BlobBody(() -> content, length, true);
+  }
+
+  @Override
+  public long contentLength() {
+    final long encoded = (length + BASE64_GROUP - 1) / BASE64_GROUP * BASE64_CHARS;
+    return PREFIX.length + encoded + SUFFIX.length;
+  }
+
+  @Override
+  public boolean oneShot() {
+    return oneShot;
+  }
+
+  @Override
+  public void writeTo(final OutputStream out) throws IOException {
+    out.write(PREFIX);
+    try (InputStream in = source.open();
+        OutputStream base64 = Base64.getEncoder().wrap(CloseShieldOutputStream.wrap(out))) {
+      final byte[] buffer = new byte[BUFFER_SIZE];
+      long remaining = length;
+      while (remaining > 0) {
+        final int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+        if (read < 0) {
+          throw new EOFException(
+              "Blob content ended " + remaining + " bytes short of " + length + " bytes");
+        }
+        base64.write(buffer, 0, read);
+        remaining -= read;
+      }
+    }
+    out.write(SUFFIX);
+  }
+}
@@ -0,0 +1,82 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Decodes the base64 content of a repository contents response while it is being parsed.
+ *
+ * <p>The encoded string is never materialized: the parser decodes it from its input buffer
+ * straight into the output, so memory use does not grow with the size of the file.
+ */
+final class Base64ContentDecoder {
+
+  private static final JsonFactory FACTORY = new JsonFactory();
+  private static final String BASE64 = "base64";
+
+  private Base64ContentDecoder() {}
+
+  /**
+   * Decode the content of a file contents response.
+   *
+   * @param json contents response body
+   * @param out destination of the decoded bytes
+   * @return number of bytes written
+   * @throws IOException if the body is not the contents of a base64 encoded file, or on I/O
+   *     failure
+   */
+  static long decode(final InputStream json, final OutputStream out) throws IOException {
+    try (JsonParser parser = FACTORY.createParser(json)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IOException("Expected the contents of a file, got " + parser.currentToken());
+      }
+      long written = -1;
+      String encoding = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String name = parser.currentName();
+        final JsonToken value = parser.nextToken();
+        if ("content".equals(name) && value == JsonToken.VALUE_STRING) {
+          written = parser.readBinaryValue(Base64Variants.MIME, out);
+        } else if ("encoding".equals(name)) {
+          encoding = parser.getValueAsString();
+        } else {
+          parser.skipChildren();
+        }
+      }
+      // GitHub sends the encoding after the content, so it can only be checked once decoded.
+      if (encoding != null && !BASE64.equals(encoding)) {
+        throw new IOException(
+            "Unsupported content encoding " + encoding + ", fetch the file as raw media instead");
+      }
+      if (written < 0) {
+        throw new IOException("Response has no file content");
+      }
+      return written;
+    }
+  }
+}
@@ -0,0 +1,260 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.spotify.github.v3.checks.CheckRunOutput;
+import com.spotify.github.v3.checks.CheckRunRequest;
+import com.spotify.github.v3.checks.CheckRunResponse;
+import com.spotify.github.v3.checks.CheckRunStatus;
+import com.spotify.github.v3.checks.ImmutableCheckRunOutput;
+import com.spotify.github.v3.checks.ImmutableCheckRunRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalesces frequent updates of the same check run into fewer requests.
+ *
+ * <p>The first update of a check run is held for the debounce window; updates arriving meanwhile
+ * are merged into it, later fields replacing earlier ones, and the merged update is sent once the
+ * window is over. Annotations are the exception: GitHub appends them, so they are accumulated
+ * rather than replaced. An update completing the check run, by its status or by setting a
+ * conclusion, which GitHub treats as completing it, is sent right away, together with whatever was
+ * pending. Updates of a check run are sent one at a time and in order.
+ *
+ * <p>The future of each update completes with the response of the request that carried it.
+ */
+public final class CheckRunUpdater {
+
+  private final ChecksClient checks;
+  private final Executor delayed;
+  private final Map<Long, State> states = new HashMap<>();
+  private final AtomicLong received = new AtomicLong();
+  private final AtomicLong sent = new AtomicLong();
+  // Generations outlive states, so a window timer left from a removed state never matches.
+  private long generations;
+
+  CheckRunUpdater(final ChecksClient checks, final Duration window) {
+    if (window.isNegative()) {
+      throw new IllegalArgumentException("Debounce window must not be negative, got " + window);
+    }
+    this.checks = checks;
+    this.delayed = CompletableFuture.delayedExecutor(window.toNanos(), NANOSECONDS);
+  }
+
+  /**
+   * Queue an update of a check run.
+   *
+   * @param id the checkRun id
+   * @param checkRun the checkRun payload
+   * @return response to the request the update was sent with
+   */
+  public CompletableFuture<CheckRunResponse> update(
+      final long id, final CheckRunRequest checkRun) {
+    received.incrementAndGet();
+    final CompletableFuture<CheckRunResponse> future;
+    final long generation;
+    synchronized (this) {
+      final State state = states.computeIfAbsent(id, key -> new State());
+      if (state.pending == null) {
+        state.pending = checkRun;
+        state.waiting = new CompletableFuture<>();
+        state.generation = ++generations;
+      } else {
+        state.pending = merge(state.pending, checkRun);
+      }
+      state.due |= completes(checkRun);
+      future = state.waiting;
+      generation = state.due ? -1 : state.generation;
+    }
+    if (generation >= 0) {
+      delayed.execute(() -> expire(id, generation));
+    }
+    send(id);
+    return future;
+  }
+
+  /**
+   * Send every pending update now, without waiting for its window to end.
+   *
+   * @return completes once the pending updates are answered
+   */
+  public CompletableFuture<Void> flush() {
+    final List<Long> ids;
+    final List<CompletableFuture<CheckRunResponse>> futures = new ArrayList<>();
+    synchronized (this) {
+      ids = new ArrayList<>(states.keySet());
+      states.values().stream()
+          .filter(state -> state.pending != null)
+          .forEach(
+              state -> {
+                state.due = true;
+                futures.add(state.waiting);
+              });
+    }
+    ids.forEach(this::send);
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+  }
+
+  /**
+   * Number of updates queued.
+   *
+   * @return updates received
+   */
+  public long received() {
+    return received.get();
+  }
+
+  /**
+   * Number of update requests sent to GitHub.
+   *
+   * @return requests sent
+   */
+  public long sent() {
+    return sent.get();
+  }
+
+  /**
+   * Number of requests saved by merging updates, counting those still pending.
+   *
+   * @return updates that did not need a request of their own
+   */
+  public synchronized long saved() {
+    final long pending = states.values().stream().filter(state -> state.pending != null).count();
+    return received.get() - sent.get() - pending;
+  }
+
+  private void expire(final long id, final long generation) {
+    synchronized (this) {
+      final State state = states.get(id);
+      if (state == null || state.pending == null || state.generation != generation) {
+        return;
+      }
+      state.due = true;
+    }
+    send(id);
+  }
+
+  private void send(final long id) {
+    final CheckRunRequest request;
+    final CompletableFuture<CheckRunResponse> waiting;
+    synchronized (this) {
+      final State state = states.get(id);
+      if (state == null || state.sending || !state.due || state.pending == null) {
+        return;
+      }
+      request = state.pending;
+      waiting = state.waiting;
+      state.pending = null;
+      state.waiting = null;
+      state.due = false;
+      state.sending = true;
+    }
+    sent.incrementAndGet();
+    CompletableFuture<CheckRunResponse> update;
+    try {
+      update = checks.updateCheckRun(id, request);
+    } catch (RuntimeException e) {
+      update = CompletableFuture.failedFuture(e);
+    }
+    update.whenComplete(
+        (response, throwable) -> {
+          synchronized (this) {
+            final State state = states.get(id);
+            state.sending = false;
+            if (state.pending == null) {
+              states.remove(id);
+            }
+          }
+          if (throwable != null) {
+            waiting.completeExceptionally(throwable);
+          } else {
+            waiting.complete(response);
+          }
+          send(id);
+        });
+  }
+
+  /** Whether an update completes the check run, which setting a conclusion also does. */
+  private static boolean completes(final CheckRunRequest checkRun) {
+    return checkRun.status() == CheckRunStatus.completed || checkRun.conclusion().isPresent();
+  }
+
+  /**
+   * Merge two updates of a check run, fields set by the later one winning. Annotations of both are
+   * kept, in order, since GitHub appends rather than replaces them.
+   *
+   * @param earlier earlier update
+   * @param later later update
+   * @return merged update
+   */
+  static CheckRunRequest merge(final CheckRunRequest earlier, final CheckRunRequest later) {
+    return ImmutableCheckRunRequest.builder()
+        .from(later)
+        .conclusion(or(later.conclusion(), earlier.conclusion()))
+        .startedAt(or(later.startedAt(), earlier.startedAt()))
+        .completedAt(or(later.completedAt(), earlier.completedAt()))
+        .externalId(or(later.externalId(), earlier.externalId()))
+        .detailsUrl(or(later.detailsUrl(), earlier.detailsUrl()))
+        .actions(later.actions().isEmpty() ? earlier.actions() : later.actions())
+        .output(mergeOutput(earlier.output(), later.output()))
+        .build();
+  }
+
+  private static Optional<CheckRunOutput> mergeOutput(
+      final Optional<CheckRunOutput> earlier, final Optional<CheckRunOutput> later) {
+    if (earlier.isEmpty() || later.isEmpty()) {
+      return or(later, earlier);
+    }
+    final CheckRunOutput before = earlier.get();
+    final CheckRunOutput after = later.get();
+    return Optional.of(
+        ImmutableCheckRunOutput.builder()
+            .title(or(after.title(), before.title()))
+            .summary(or(after.summary(), before.summary()))
+            .text(or(after.text(), before.text()))
+            .images(after.images().isEmpty() ? before.images() : after.images())
+            .addAllAnnotations(before.annotations())
+            .addAllAnnotations(after.annotations())
+            .build());
+  }
+
+  private static <T> Optional<T> or(final Optional<T> preferred, final Optional<T> fallback) {
+    return preferred.isPresent() ? preferred : fallback;
+  }
+
+  /** Updates of one check run waiting to be sent. */
+  private static final class State {
+    private CheckRunRequest pending;
+    private CompletableFuture<CheckRunResponse> waiting;
+    private long generation;
+    private boolean due;
+    private boolean sending;
+  }
+}
@@ -20,14 +20,25 @@
 
 package com.spotify.github.v3.clients;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableMap;
+import com.spotify.github.Parameters;
+import com.spotify.github.async.AsyncPage;
+import com.spotify.github.async.AsyncPagePublisher;
 import com.spotify.github.v3.checks.CheckRunRequest;
 import com.spotify.github.v3.checks.CheckRunResponse;
 import com.spotify.github.v3.checks.CheckRunResponseList;
+import com.spotify.github.v3.checks.CheckRunsFilter;
 import com.spotify.github.v3.checks.CheckSuite;
 import com.spotify.github.v3.checks.CheckSuiteResponseList;
+import com.spotify.github.v3.checks.CheckSuitesFilter;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import javax.ws.rs.core.HttpHeaders;
 
 /** Checks API client */
@@ -40,6 +51,15 @@ public class ChecksClient {
   private static final String LIST_CHECK_RUNS_URI = "/repos/%s/%s/commits/%s/check-runs";
   private static final String GET_CHECK_RUN_URI = "/repos/%s/%s/check-runs/%s";
 
+  private static final TypeReference<List<CheckRunResponse>> LIST_CHECK_RUNS =
+      new TypeReference<>() {};
+  private static final TypeReference<List<CheckSuite>> LIST_CHECK_SUITES =
+      new TypeReference<>() {};
+  private static final int CHECKS_PAGE_SIZE = 100;
+
+  /** Most annotation batches sent at a time when an update has to be split. */
+  static final int DEFAULT_ANNOTATION_PARALLELISM = 4;
+
   private final GitHubClient github;
   private final String owner;
   private final String repo;
@@ -67,27 +87,52 @@ public class ChecksClient {
   /**
    * Create a checkRun.
    *
+   * <p>Any number of annotations may be given. Past the 50 GitHub accepts per request, the check
+   * run is created in progress with the first 50, the rest are added in batches, and the requested
+   * status and conclusion are set by the last update. If a batch fails, the future completes with
+   * a {@link com.spotify.github.v3.exceptions.CheckRunAnnotationException} holding the update
+   * still to be sent.
+   *
    * @param checkRun the checkRunRequest payload to be created
    * @return the CheckRunResponse
    */
   public CompletableFuture<CheckRunResponse> createCheckRun(final CheckRunRequest checkRun) {
-    final String path = String.format(CHECK_RUNS_URI, owner, repo);
-    return github.post(
-        path, github.json().toJsonUnchecked(checkRun), CheckRunResponse.class, extraHeaders);
+    if (AnnotationBatches.needsSplit(checkRun)) {
+      return AnnotationBatches.create(
+          this::postCheckRun, this::patchCheckRun, checkRun, DEFAULT_ANNOTATION_PARALLELISM);
+    }
+    return postCheckRun(checkRun);
   }
 
   /**
    * Updates a checkRun.
    *
+   * <p>Any number of annotations may be given. Past the 50 GitHub accepts per request, they are
+   * sent in batches, a few at a time, and the requested status and conclusion are set by the last
+   * update. If a batch fails, the future completes with a {@link
+   * com.spotify.github.v3.exceptions.CheckRunAnnotationException} holding the update still to be
+   * sent, which can be passed back here to resume.
+   *
    * @param id the checkRun id
    * @param checkRun the checkRun payload
    * @return the completable future
    */
   public CompletableFuture<CheckRunResponse> updateCheckRun(
       final long id, final CheckRunRequest checkRun) {
-    final String path = String.format(GET_CHECK_RUN_URI, owner, repo, id);
-    return github.patch(
-        path, github.json().toJsonUnchecked(checkRun), CheckRunResponse.class, extraHeaders);
+    return AnnotationBatches.update(
+        this::patchCheckRun, id, checkRun, DEFAULT_ANNOTATION_PARALLELISM);
+  }
+
+  /**
+   * Create an updater coalescing frequent updates of the same check runs. Updates of a check run
+   * arriving within the window are merged and sent as one, except that completing a check run is
+   * sent right away.
+   *
+   * @param window how long the first pending update of a check run may wait for others
+   * @return check run updater
+   */
+  public CheckRunUpdater checkRunUpdater(final Duration window) {
+    return new CheckRunUpdater(this, window);
   }
 
   /**
@@ -112,6 +157,32 @@ public class ChecksClient {
     return github.request(path, CheckRunResponseList.class, extraHeaders);
   }
 
+  /**
+   * List every checkRun of a given ref matching a filter, a hundred per page. Unlike {@link
+   * #getCheckRuns(String)}, the listing is not limited to the first page.
+   *
+   * @param ref the ref
+   * @param filter filters applied by GitHub
+   * @return iterator of check run pages
+   */
+  public Iterator<AsyncPage<CheckRunResponse>> listCheckRuns(
+      final String ref, final CheckRunsFilter filter) {
+    return new GithubPageIterator<>(checkRunsPage(ref, filter));
+  }
+
+  /**
+   * Stream every checkRun of a given ref matching a filter, fetching a hundred per page as
+   * requested by the subscriber.
+   *
+   * @param ref the ref
+   * @param filter filters applied by GitHub
+   * @return check run publisher
+   */
+  public Flow.Publisher<CheckRunResponse> listCheckRunsPublisher(
+      final String ref, final CheckRunsFilter filter) {
+    return new AsyncPagePublisher<>(checkRunsPage(ref, filter));
+  }
+
   /**
    * Gets a checkRun by id.
    *
@@ -133,4 +204,63 @@ public class ChecksClient {
     final String path = String.format(LIST_CHECK_SUITES_REF_URI, owner, repo, sha);
     return github.request(path, CheckSuiteResponseList.class, extraHeaders);
   }
+
+  /**
+   * List every checkSuite of a given ref matching a filter, a hundred per page. Unlike {@link
+   * #getCheckSuites(String)}, the listing is not limited to the first page.
+   *
+   * @param ref the ref
+   * @param filter filters applied by GitHub
+   * @return iterator of check suite pages
+   */
+  public Iterator<AsyncPage<CheckSuite>> listCheckSuites(
+      final String ref, final CheckSuitesFilter filter) {
+    return new GithubPageIterator<>(checkSuitesPage(ref, filter));
+  }
+
+  /**
+   * Stream every checkSuite of a given ref matching a filter, fetching a hundred per page as
+   * requested by the subscriber.
+   *
+   * @param ref the ref
+   * @param filter filters applied by GitHub
+   * @return check suite publisher
+   */
+  public Flow.Publisher<CheckSuite> listCheckSuitesPublisher(
+      final String ref, final CheckSuitesFilter filter) {
+    return new AsyncPagePublisher<>(checkSuitesPage(ref, filter));
+  }
+
+  private GithubPage<CheckRunResponse> checkRunsPage(
+      final String ref, final CheckRunsFilter filter) {
+    final String path = withQuery(String.format(LIST_CHECK_RUNS_URI, owner, repo, ref), filter);
+    return new GithubPage<>(
+        github, path, LIST_CHECK_RUNS, CHECKS_PAGE_SIZE, "/check_runs", extraHeaders);
+  }
+
+  private GithubPage<CheckSuite> checkSuitesPage(
+      final String ref, final CheckSuitesFilter filter) {
+    final String path =
+        withQuery(String.format(LIST_CHECK_SUITES_REF_URI, owner, repo, ref), filter);
+    return new GithubPage<>(
+        github, path, LIST_CHECK_SUITES, CHECKS_PAGE_SIZE, "/check_suites", extraHeaders);
+  }
+
+  private static String withQuery(final String path, final Parameters filter) {
+    final String serial = filter.serialize();
+    return Strings.isNullOrEmpty(serial) ? path : path + "?" + serial;
+  }
+
+  private CompletableFuture<CheckRunResponse> postCheckRun(final CheckRunRequest checkRun) {
+    final String path = String.format(CHECK_RUNS_URI, owner, repo);
+    return github.post(
+        path, github.json().toJsonUnchecked(checkRun), CheckRunResponse.class, extraHeaders);
+  }
+
+  private CompletableFuture<CheckRunResponse> patchCheckRun(
+      final long id, final CheckRunRequest checkRun) {
+    final String path = String.format(GET_CHECK_RUN_URI, owner, repo, id);
+    return github.patch(
+        path, github.json().toJsonUnchecked(checkRun), CheckRunResponse.class, extraHeaders);
+  }
 }
@@ -0,0 +1,329 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.io.BaseEncoding;
+import com.spotify.github.async.Async;
+import com.spotify.github.v3.exceptions.RequestNotOkException;
+import com.spotify.github.v3.git.ShaLink;
+import com.spotify.github.v3.git.Tree;
+import com.spotify.github.v3.git.TreeItem;
+import com.spotify.github.v3.repos.Commit;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Commits a set of file changes to a branch in one go: uploads the blobs, creates the tree and
+ * the commit, and moves the branch.
+ *
+ * <p>The git blob SHA of every file is computed locally when it is added. Files identical to
+ * those in the branch's current tree are left out of the commit, and only blobs the repository
+ * does not already have are uploaded, several at a time. Should the branch move while the commit
+ * is being made, the commit is rebuilt on top of the new head, reusing the blobs already
+ * uploaded, so the branch is only ever fast-forwarded.
+ */
+public final class CommitBuilder {
+
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+  private static final String FILE_MODE = "100644";
+  private static final String BLOB = "blob";
+  private static final int CONFLICT = 409;
+  private static final int UNPROCESSABLE_ENTITY = 422;
+  private static final int DEFAULT_PARALLELISM = 8;
+  private static final int DEFAULT_ATTEMPTS = 3;
+  private static final int BUFFER_SIZE = 65_536;
+
+  private final GitDataClient git;
+  private final String branch;
+  private final Map<String, Change> changes = new LinkedHashMap<>();
+  private final Set<String> uploaded = ConcurrentHashMap.newKeySet();
+  private int parallelism = DEFAULT_PARALLELISM;
+  private int attempts = DEFAULT_ATTEMPTS;
+
+  CommitBuilder(final GitDataClient git, final String branch) {
+    this.git = git;
+    this.branch = branch;
+  }
+
+  /**
+   * Add or replace a file.
+   *
+   * @param path path of the file in the repository
+   * @param content file content
+   * @return this builder
+   */
+  public CommitBuilder add(final String path, final byte[] content) {
+    final String sha = blobSha(new ByteArrayInputStream(content), content.length);
+    changes.put(
+        path,
+        new Change(sha, () -> git.createBlob(new ByteArrayInputStream(content), content.length)));
+    return this;
+  }
+
+  /**
+   * Add or replace a file with the content of a local file, which is hashed right away and read
+   * again when uploaded.
+   *
+   * @param path path of the file in the repository
+   * @param file local file
+   * @return this builder
+   */
+  public CommitBuilder add(final String path, final Path file) {
+    final String sha;
+    try (InputStream in = Files.newInputStream(file)) {
+      sha = blobSha(in, Files.size(file));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    changes.put(path, new Change(sha, () -> git.createBlob(file)));
+    return this;
+  }
+
+  /**
+   * Delete a file. Files that do not exist are ignored.
+   *
+   * @param path path of the file in the repository
+   * @return this builder
+   */
+  public CommitBuilder delete(final String path) {
+    changes.put(path, new Change(null, null));
+    return this;
+  }
+
+  /**
+   * Set how many blobs are uploaded at a time, 8 by default.
+   *
+   * @param parallelism maximum number of uploads in flight
+   * @return this builder
+   */
+  public CommitBuilder parallelism(final int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be positive, got " + parallelism);
+    }
+    this.parallelism = parallelism;
+    return this;
+  }
+
+  /**
+   * Set how many times the commit is attempted when the branch moves concurrently, 3 by default.
+   *
+   * @param attempts maximum number of attempts
+   * @return this builder
+   */
+  public CommitBuilder attempts(final int attempts) {
+    if (attempts < 1) {
+      throw new IllegalArgumentException("Attempts must be positive, got " + attempts);
+    }
+    this.attempts = attempts;
+    return this;
+  }
+
+  /**
+   * Commit the changes and fast-forward the branch to the new commit.
+   *
+   * @param message commit message
+   * @return the new commit, or the branch head if no file actually changed
+   */
+  public CompletableFuture<Commit> commit(final String message) {
+    return attempt(message, 1);
+  }
+
+  private CompletableFuture<Commit> attempt(final String message, final int attempt) {
+    return git.getBranchReference(branch)
+        .thenCompose(reference -> commitOn(reference.object().sha(), message))
+        .handle(
+            (commit, throwable) -> {
+              if (throwable == null) {
+                return completedFuture(commit);
+              }
+              final Throwable cause =
+                  throwable.getCause() != null ? throwable.getCause() : throwable;
+              if (!(cause instanceof RejectedUpdate)) {
+                return CompletableFuture.<Commit>failedFuture(cause);
+              }
+              if (attempt < attempts) {
+                log.debug("Branch {} moved, retrying commit (attempt {})", branch, attempt + 1);
+                return attempt(message, attempt + 1);
+              }
+              return CompletableFuture.<Commit>failedFuture(cause.getCause());
+            })
+        .thenCompose(Function.identity());
+  }
+
+  private CompletableFuture<Commit> commitOn(final String head, final String message) {
+    return git.getCommit(head)
+        .thenCompose(
+            headCommit ->
+                git.getRecursiveTree(headCommit.tree().sha())
+                    .thenCompose(tree -> commitOn(headCommit, tree, message)));
+  }
+
+  private CompletableFuture<Commit> commitOn(
+      final Commit head, final Tree base, final String message) {
+    final Map<String, TreeItem> files = new HashMap<>();
+    final Set<String> known = ConcurrentHashMap.newKeySet();
+    for (final TreeItem item : base.tree()) {
+      if (BLOB.equals(item.type())) {
+        files.put(item.path(), item);
+        known.add(item.sha());
+      }
+    }
+    final boolean complete = !Boolean.TRUE.equals(base.truncated());
+    final List<ObjectNode> entries = new ArrayList<>();
+    final List<Change> uploads = new ArrayList<>();
+    final Set<String> queued = new HashSet<>();
+    changes.forEach(
+        (path, change) -> {
+          final TreeItem existing = files.get(path);
+          if (change.sha == null ? existing == null && complete : isUnchanged(existing, change)) {
+            return;
+          }
+          entries.add(
+              JsonNodeFactory.instance
+                  .objectNode()
+                  .put("path", path)
+                  .put("mode", existing != null ? existing.mode() : FILE_MODE)
+                  .put("type", BLOB)
+                  .put("sha", change.sha));
+          if (change.sha != null
+              && !known.contains(change.sha)
+              && !uploaded.contains(change.sha)
+              && queued.add(change.sha)) {
+            uploads.add(change);
+          }
+        });
+    if (entries.isEmpty()) {
+      return completedFuture(head);
+    }
+    log.debug(
+        "Committing {} files to {}, uploading {} blobs", entries.size(), branch, uploads.size());
+    return Async.mapAsync(uploads, parallelism, this::upload)
+        .thenCompose(shas -> git.createTreeFromEntries(entries, base.sha()))
+        .thenCompose(tree -> git.createCommit(message, List.of(head.sha()), tree.sha()))
+        .thenCompose(this::fastForward);
+  }
+
+  /** Move the branch to the commit, failing with {@link RejectedUpdate} if the branch moved. */
+  private CompletableFuture<Commit> fastForward(final Commit commit) {
+    return git.updateReference("heads/" + branch, commit.sha(), false)
+        .handle(
+            (reference, throwable) -> {
+              if (throwable == null) {
+                return commit;
+              }
+              final Throwable cause =
+                  throwable.getCause() != null ? throwable.getCause() : throwable;
+              throw isConflict(cause) ? new RejectedUpdate(cause) : new CompletionException(cause);
+            });
+  }
+
+  private CompletableFuture<ShaLink> upload(final Change change) {
+    return change
+        .upload
+        .get()
+        .whenComplete(
+            (blob, throwable) -> {
+              if (throwable != null) {
+                return;
+              }
+              if (!change.sha.equals(blob.sha())) {
+                throw new IllegalStateException(
+                    "Uploaded blob " + blob.sha() + " does not match " + change.sha);
+              }
+              uploaded.add(change.sha);
+            });
+  }
+
+  private static boolean isUnchanged(final TreeItem existing, final Change change) {
+    return existing != null && change.sha.equals(existing.sha());
+  }
+
+  private static boolean isConflict(final Throwable throwable) {
+    if (!(throwable instanceof RequestNotOkException)) {
+      return false;
+    }
+    final int status = ((RequestNotOkException) throwable).statusCode();
+    return status == CONFLICT || status == UNPROCESSABLE_ENTITY;
+  }
+
+  /** Git object id of a blob: SHA-1 over a "blob <length>\0" header and the content. */
+  static String blobSha(final InputStream content, final long length) {
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+      digest.update(("blob " + length + "\0").getBytes(US_ASCII));
+      final byte[] buffer = new byte[BUFFER_SIZE];
+      int read;
+      while ((read = content.read(buffer)) >= 0) {
+        digest.update(buffer, 0, read);
+      }
+      return BaseEncoding.base16().lowerCase().encode(digest.digest());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /** The branch moved before it could be updated; the commit is rebuilt on its new head. */
+  private static final class RejectedUpdate extends RuntimeException {
+    private RejectedUpdate(final Throwable cause) {
+      super(cause);
+    }
+  }
+
+  /** A file change: the blob SHA and how to upload it, both null for deletions. */
+  private static final class Change {
+    private final String sha;
+    private final Supplier<CompletableFuture<ShaLink>> upload;
+
+    private Change(
+        final String sha, final Supplier<CompletableFuture<ShaLink>> upload) {
+      this.sha = sha;
+      this.upload = upload;
+    }
+  }
+}
@@ -0,0 +1,38 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+/** Receives the progress of a download to a file. */
+@FunctionalInterface
+public interface DownloadProgress {
+
+  /** Ignores progress. */
+  DownloadProgress NONE = (bytesWritten, totalBytes) -> {};
+
+  /**
+   * Called as the download is written, from the thread writing it. After a resumed connection is
+   * restarted from the beginning, the bytes written start over from zero.
+   *
+   * @param bytesWritten bytes written to the file so far
+   * @param totalBytes length of the download, or -1 if the server did not announce it
+   */
+  void update(long bytesWritten, long totalBytes);
+}
@@ -0,0 +1,257 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import com.spotify.github.http.HttpResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Downloads a response body into a file.
+ *
+ * <p>The body is transferred into a {@link FileChannel} without passing through caller buffers,
+ * into a sibling file that is moved into place once complete. When the connection drops, or the
+ * body ends before its announced length, the download resumes with a {@code Range} request for
+ * the remaining bytes. {@code If-Range} makes the server send the whole body again if it has
+ * changed; so does a server that does not support ranges. Either way the download starts over,
+ * as it does when the first response carried no strong validator.
+ *
+ * <p>The body is read on the thread completing the response.
+ */
+final class FileDownload {
+
+  private static final Logger log = LoggerFactory.getLogger(FileDownload.class);
+
+  private static final int MAX_RESUMES = 3;
+  private static final long TRANSFER_CHUNK = 1_048_576;
+  private static final int PARTIAL_CONTENT = 206;
+  private static final Pattern CONTENT_RANGE = Pattern.compile("bytes (\\d+)-\\d+/(\\d+|\\*)");
+
+  private final GitHubClient github;
+  private final String path;
+  private final Map<String, String> headers;
+  private final Path target;
+  private final Path partial;
+  private final DownloadProgress progress;
+
+  // Only accessed by the attempt in flight.
+  private FileChannel channel;
+  private long written;
+  private long total = -1;
+  private String validator;
+  private int resumes;
+
+  private FileDownload(
+      final GitHubClient github,
+      final String path,
+      final Map<String, String> headers,
+      final Path target,
+      final DownloadProgress progress) {
+    this.github = github;
+    this.path = path;
+    this.headers = headers;
+    this.target = target;
+    this.partial = target.resolveSibling(target.getFileName() + ".part");
+    this.progress = progress;
+  }
+
+  /**
+   * Download the body of a GET request into a file.
+   *
+   * @param github github client
+   * @param path path to request
+   * @param headers extra request headers
+   * @param target file to write, replaced if it exists
+   * @param progress progress listener
+   * @return number of bytes written
+   */
+  static CompletableFuture<Long> download(
+      final GitHubClient github,
+      final String path,
+      final Map<String, String> headers,
+      final Path target,
+      final DownloadProgress progress) {
+    return new FileDownload(github, path, headers, target, progress).start();
+  }
+
+  private CompletableFuture<Long> start() {
+    try {
+      channel =
+          FileChannel.open(
+              partial,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.WRITE,
+              StandardOpenOption.TRUNCATE_EXISTING);
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(new UncheckedIOException(e));
+    }
+    return attempt()
+        .handle(
+            (bytes, error) -> {
+              try {
+                channel.close();
+                if (error == null) {
+                  moveIntoPlace();
+                  return bytes;
+                }
+                Files.deleteIfExists(partial);
+              } catch (IOException e) {
+                if (error == null) {
+                  throw new UncheckedIOException(e);
+                }
+                error.addSuppressed(e);
+              }
+              throw error instanceof CompletionException
+                  ? (CompletionException) error
+                  : new CompletionException(error);
+            });
+  }
+
+  private CompletableFuture<Long> attempt() {
+    final Map<String, String> requestHeaders = new HashMap<>(headers);
+    if (written > 0 && validator != null) {
+      requestHeaders.put("Range", "bytes=" + written + "-");
+      requestHeaders.put("If-Range", validator);
+    }
+    return github
+        .request(path, requestHeaders)
+        .handle(
+            (response, error) -> {
+              final IOException failure;
+              if (error != null) {
+                failure = resumable(error);
+              } else {
+                failure = transfer(response);
+              }
+              if (failure == null) {
+                return completedFuture(written);
+              }
+              if (resumes++ < MAX_RESUMES) {
+                log.warn("Download of {} interrupted at {} bytes, resuming", path, written, failure);
+                return attempt();
+              }
+              return CompletableFuture.<Long>failedFuture(new UncheckedIOException(failure));
+            })
+        .thenCompose(future -> future);
+  }
+
+  /** Copy the response body into the file, returning the failure to resume from, if any. */
+  private IOException transfer(final HttpResponse response) {
+    try (InputStream body = response.body()) {
+      if (response.statusCode() == PARTIAL_CONTENT) {
+        final String contentRange = header(response, "Content-Range");
+        final Matcher range = CONTENT_RANGE.matcher(contentRange == null ? "" : contentRange);
+        if (!range.matches() || Long.parseLong(range.group(1)) != written) {
+          throw new IllegalStateException("Unexpected range " + contentRange + " at " + written);
+        }
+        total = "*".equals(range.group(2)) ? -1 : Long.parseLong(range.group(2));
+      } else {
+        // The whole body, for the first request or because the server ignored the range.
+        channel.truncate(0);
+        written = 0;
+        total = contentLength(response);
+        validator = validator(response);
+      }
+      if (body != null) {
+        final ReadableByteChannel source = Channels.newChannel(body);
+        long transferred;
+        while ((transferred = channel.transferFrom(source, written, TRANSFER_CHUNK)) > 0) {
+          written += transferred;
+          progress.update(written, total);
+        }
+      }
+      if (total >= 0 && written != total) {
+        return new IOException("Expected " + total + " bytes, received " + written);
+      }
+      return null;
+    } catch (IOException e) {
+      return e;
+    } finally {
+      response.close();
+    }
+  }
+
+  private void moveIntoPlace() throws IOException {
+    try {
+      Files.move(
+          partial, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  /**
+   * A strong validator of the response, with which a range of the same body can be requested.
+   * Without one, an interrupted download starts over.
+   */
+  private static String validator(final HttpResponse response) {
+    final String etag = header(response, "ETag");
+    if (etag != null && !etag.startsWith("W/")) {
+      return etag;
+    }
+    return header(response, "Last-Modified");
+  }
+
+  /** Connection failures may be resumed; responses with an error status may not. */
+  private static IOException resumable(final Throwable error) {
+    final Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+    if (cause instanceof IOException) {
+      return (IOException) cause;
+    }
+    throw error instanceof CompletionException
+        ? (CompletionException) error
+        : new CompletionException(error);
+  }
+
+  private static long contentLength(final HttpResponse response) {
+    final String length = header(response, "Content-Length");
+    return length == null ? -1 : Long.parseLong(length);
+  }
+
+  private static String header(final HttpResponse response, final String name) {
+    for (final Map.Entry<String, List<String>> header : response.headers().entrySet()) {
+      if (name.equalsIgnoreCase(header.getKey()) && !header.getValue().isEmpty()) {
+        return header.getValue().get(0);
+      }
+    }
+    return null;
+  }
+}
@@ -25,16 +25,22 @@ import static com.spotify.github.v3.clients.GitHubClient.IGNORE_RESPONSE_CONSUME
 import static com.spotify.github.v3.clients.GitHubClient.LIST_REFERENCES;
 import static java.lang.String.format;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
 import com.spotify.github.v3.git.Reference;
 import com.spotify.github.v3.git.ShaLink;
 import com.spotify.github.v3.git.Tag;
 import com.spotify.github.v3.git.Tree;
+import com.spotify.github.v3.git.TreeChange;
 import com.spotify.github.v3.git.TreeItem;
 import com.spotify.github.v3.repos.Commit;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /** Reference Api client */
 public class GitDataClient {
@@ -48,12 +54,15 @@ public class GitDataClient {
   private static final String LIST_MATCHING_REFERENCES_URI = "/repos/%s/%s/git/matching-refs/%s";
 
   private static final String CREATE_COMMIT_URI_TEMPLATE = "/repos/%s/%s/git/commits";
+  private static final String COMMIT_SHA_URI_TEMPLATE = "/repos/%s/%s/git/commits/%s";
 
   private static final String TREE_SHA_URI_TEMPLATE = "/repos/%s/%s/git/trees/%s";
   private static final String TREE_URI_TEMPLATE = "/repos/%s/%s/git/trees";
 
   private static final String BLOB_URI_TEMPLATE = "/repos/%s/%s/git/blobs";
 
+  private static final int DEFAULT_TREE_PARALLELISM = 8;
+
   private final GitHubClient github;
   private final String owner;
   private final String repo;
@@ -123,7 +132,7 @@ public class GitDataClient {
    */
   public CompletableFuture<Tag> getTag(final String tag) {
     final String path = format(TAG_URI, owner, repo, tag);
-    return github.request(path, Tag.class);
+    return GitObjectCache.request(github, path, tag, Tag.class);
   }
 
   /**
@@ -256,6 +265,17 @@ public class GitDataClient {
     return github.post(path, requestBody, Commit.class);
   }
 
+  /**
+   * Get a git commit object.
+   *
+   * @param sha commit sha
+   * @return commit, with its tree and parents
+   */
+  public CompletableFuture<Commit> getCommit(final String sha) {
+    final String path = String.format(COMMIT_SHA_URI_TEMPLATE, owner, repo, sha);
+    return GitObjectCache.request(github, path, sha, Commit.class);
+  }
+
   /**
    * Get a repository tree.
    *
@@ -264,7 +284,7 @@ public class GitDataClient {
    */
   public CompletableFuture<Tree> getTree(final String sha) {
     final String path = String.format(TREE_SHA_URI_TEMPLATE, owner, repo, sha);
-    return github.request(path, Tree.class);
+    return GitObjectCache.request(github, path, sha, Tree.class);
   }
 
   /**
@@ -275,7 +295,72 @@ public class GitDataClient {
    */
   public CompletableFuture<Tree> getRecursiveTree(final String sha) {
     final String path = String.format(TREE_SHA_URI_TEMPLATE, owner, repo, sha);
-    return github.request(path + "?recursive=true", Tree.class);
+    return GitObjectCache.request(github, path + "?recursive=true", sha, Tree.class);
+  }
+
+  /**
+   * List every item of a tree with its full path, also when the tree is too large for {@link
+   * #getRecursiveTree(String)}, which GitHub then truncates. Truncated subtrees are expanded with
+   * further requests, 8 at a time.
+   *
+   * @param sha tree or commit sha
+   * @param consumer receives the items as they arrive, in no particular order, one at a time
+   * @return future completed once every item has been consumed
+   * @see #walkTree(String, int, Consumer)
+   */
+  public CompletableFuture<Void> walkTree(final String sha, final Consumer<TreeItem> consumer) {
+    return walkTree(sha, DEFAULT_TREE_PARALLELISM, consumer);
+  }
+
+  /**
+   * List every item of a tree with its full path, also when the tree is too large for {@link
+   * #getRecursiveTree(String)}. Each subtree GitHub truncates is listed a level at a time, with
+   * its own subtrees requested recursively in parallel, so the number of requests grows with the
+   * number of truncated subtrees rather than with the size of the tree.
+   *
+   * @param sha tree or commit sha
+   * @param parallelism maximum number of requests in flight
+   * @param consumer receives the items as they arrive, in no particular order, one at a time
+   * @return future completed once every item has been consumed
+   */
+  public CompletableFuture<Void> walkTree(
+      final String sha, final int parallelism, final Consumer<TreeItem> consumer) {
+    return TreeWalker.walk(this, sha, parallelism, consumer);
+  }
+
+  /**
+   * Stream the files that differ between two trees, see {@link #diffTrees(String, String, int,
+   * Consumer)}. Up to 8 trees are compared or listed at a time.
+   *
+   * @param oldSha old tree or commit sha
+   * @param newSha new tree or commit sha
+   * @param consumer receives the changes as they are found, in no particular order, one at a time
+   * @return future completed once every change has been consumed
+   */
+  public CompletableFuture<Void> diffTrees(
+      final String oldSha, final String newSha, final Consumer<TreeChange> consumer) {
+    return diffTrees(oldSha, newSha, DEFAULT_TREE_PARALLELISM, consumer);
+  }
+
+  /**
+   * Stream the files that differ between two trees, with their full paths. The trees are
+   * compared a level at a time, and subtrees with the same sha on both sides are skipped without
+   * being fetched, so the cost follows the size of the change rather than of the trees. Unlike
+   * {@link RepositoryClient#compareCommits(String, String)}, the result is not capped. Trees are
+   * read through the git object cache when one is configured.
+   *
+   * @param oldSha old tree or commit sha
+   * @param newSha new tree or commit sha
+   * @param parallelism maximum number of trees compared or listed at a time
+   * @param consumer receives the changes as they are found, in no particular order, one at a time
+   * @return future completed once every change has been consumed
+   */
+  public CompletableFuture<Void> diffTrees(
+      final String oldSha,
+      final String newSha,
+      final int parallelism,
+      final Consumer<TreeChange> consumer) {
+    return TreeDiffer.diff(this, oldSha, newSha, parallelism, consumer);
   }
 
   /**
@@ -293,6 +378,32 @@ public class GitDataClient {
   }
 
 
+  /**
+   * Create a tree from raw entries, which unlike {@link TreeItem}s keep a null sha, deleting the
+   * path from the base tree.
+   *
+   * @param entries tree entries
+   * @param baseTreeSha sha of existing tree used as base for new tree
+   * @return tree
+   */
+  CompletableFuture<Tree> createTreeFromEntries(
+      final List<ObjectNode> entries, final String baseTreeSha) {
+    final String path = String.format(TREE_URI_TEMPLATE, owner, repo);
+    final String requestBody =
+        github.json().toJsonUnchecked(ImmutableMap.of("base_tree", baseTreeSha, "tree", entries));
+    return github.post(path, requestBody, Tree.class);
+  }
+
+  /**
+   * Start a commit of several file changes to a branch, see {@link CommitBuilder}.
+   *
+   * @param branch branch name, without refs/heads
+   * @return commit builder
+   */
+  public CommitBuilder commitBuilder(final String branch) {
+    return new CommitBuilder(this, branch);
+  }
+
   /**
    * Post new content to the server.
    *
@@ -306,5 +417,35 @@ public class GitDataClient {
     return github.post(path, requestBody, ShaLink.class);
   }
 
+  /**
+   * Create a blob from a file. The file is base64 encoded as it is streamed into the request, so
+   * it is never held in memory.
+   *
+   * @param file file to upload
+   * @return sha of the created blob
+   */
+  public CompletableFuture<ShaLink> createBlob(final Path file) {
+    final String path = String.format(BLOB_URI_TEMPLATE, owner, repo);
+    final Base64BlobBody body;
+    try {
+      body = Base64BlobBody.of(file);
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    return github.postStreaming(path, body, ShaLink.class);
+  }
 
+  /**
+   * Create a blob from a stream. The content is base64 encoded as it is streamed into the
+   * request, so it is never held in memory. The stream is read once and closed; the request is
+   * not retried.
+   *
+   * @param content stream of the blob content
+   * @param length number of bytes to read from the stream
+   * @return sha of the created blob
+   */
+  public CompletableFuture<ShaLink> createBlob(final InputStream content, final long length) {
+    final String path = String.format(BLOB_URI_TEMPLATE, owner, repo);
+    return github.postStreaming(path, Base64BlobBody.of(content, length), ShaLink.class);
+  }
 }
@@ -27,9 +27,12 @@ import com.spotify.github.async.Async;
 import com.spotify.github.http.HttpClient;
 import com.spotify.github.http.HttpRequest;
 import com.spotify.github.http.HttpResponse;
+import com.spotify.github.http.HttpResponseCache;
 import com.spotify.github.http.ImmutableHttpRequest;
+import com.spotify.github.http.StreamingBody;
 import com.spotify.github.http.okhttp.OkHttpHttpClient;
 import com.spotify.github.jackson.Json;
+import com.spotify.github.jackson.Projection;
 import com.spotify.github.tracing.NoopTracer;
 import com.spotify.github.tracing.Tracer;
 import com.spotify.github.v3.Team;
@@ -51,6 +54,7 @@ import java.io.File;
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.net.URI;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
@@ -124,7 +128,7 @@ public class GitHubClient {
   private final URI baseUrl;
 
   private final Optional<URI> graphqlUrl;
-  private final Json json = Json.create();
+  private Json json = Json.create();
   private final HttpClient client;
   private Call.Factory callFactory;
   private final String token;
@@ -135,6 +139,12 @@ public class GitHubClient {
 
   private final Map<Integer, AccessToken> installationTokens;
 
+  private GitObjectCache gitObjectCache;
+
+  private HttpResponseCache responseCache;
+
+  private final SearchPacer searchPacer = SearchPacer.create();
+
   private GitHubClient(
       final HttpClient client,
       final URI baseUrl,
@@ -464,22 +474,36 @@ public class GitHubClient {
     if (client.getPrivateKey().isEmpty()) {
       throw new RuntimeException("Installation ID scoped client needs a private key");
     }
-    return new GitHubClient(
-        client.client,
-        client.baseUrl,
-        null,
-        null,
-        client.getPrivateKey().get(),
-        client.appId,
-        installationId);
+    return client.shareCachesWith(
+        new GitHubClient(
+            client.client,
+            client.baseUrl,
+            null,
+            null,
+            client.getPrivateKey().get(),
+            client.appId,
+            installationId));
   }
 
   public GitHubClient withScopeForInstallationId(final int installationId) {
     if (Optional.ofNullable(privateKey).isEmpty()) {
       throw new RuntimeException("Installation ID scoped client needs a private key");
     }
-    return new GitHubClient(
-        client, baseUrl, graphqlUrl.orElse(null), null, privateKey, appId, installationId);
+    return shareCachesWith(
+        new GitHubClient(
+            client, baseUrl, graphqlUrl.orElse(null), null, privateKey, appId, installationId));
+  }
+
+  /**
+   * Give a client derived from this one the same JSON reader, git object cache and response
+   * cache, so installation scoped clients keep the settings of the client they came from. Both
+   * caches partition their entries by credential, so installations never see each other's data.
+   */
+  private GitHubClient shareCachesWith(final GitHubClient scoped) {
+    scoped.json = json;
+    scoped.gitObjectCache = gitObjectCache;
+    scoped.responseCache = responseCache;
+    return scoped;
   }
 
   /**
@@ -514,6 +538,70 @@ public class GitHubClient {
             });
   }
 
+  /**
+   * Build the JSON readers for the paginated listing types up front, so that the first listing
+   * requests do not pay for it. Optional; typically called once at startup.
+   *
+   * @return this client
+   */
+  public GitHubClient warmUpJson() {
+    json.warmUp(
+        LIST_COMMENT_TYPE_REFERENCE,
+        LIST_COMMENT_REACTION_TYPE_REFERENCE,
+        LIST_REPOSITORY,
+        LIST_COMMIT_TYPE_REFERENCE,
+        LIST_REVIEW_TYPE_REFERENCE,
+        LIST_REVIEW_REQUEST_TYPE_REFERENCE,
+        LIST_STATUS_TYPE_REFERENCE,
+        LIST_FOLDERCONTENT_TYPE_REFERENCE,
+        LIST_PR_TYPE_REFERENCE,
+        LIST_PR_COMMENT_TYPE_REFERENCE,
+        LIST_BRANCHES,
+        LIST_REFERENCES,
+        LIST_REPOSITORY_INVITATION,
+        LIST_TEAMS,
+        LIST_TEAM_MEMBERS,
+        LIST_PENDING_TEAM_INVITATIONS,
+        LIST_FILE_ITEMS);
+    return this;
+  }
+
+  /**
+   * Serve commits, trees and annotated tags requested by object id from the given cache. The
+   * cache may be shared between clients; see {@link GitObjectCache}.
+   *
+   * @param gitObjectCache cache for immutable git objects
+   * @return this client
+   */
+  public GitHubClient withGitObjectCache(final GitObjectCache gitObjectCache) {
+    this.gitObjectCache = gitObjectCache;
+    return this;
+  }
+
+  /**
+   * Read equal strings, URIs, users, labels and repositories as a single instance, within each
+   * response and across the pages of each listing. Reduces the heap held by large crawls, at some
+   * cost in deserialization time; see {@link Json#createDeduplicating()}.
+   *
+   * @return this client
+   */
+  public GitHubClient withDeduplication() {
+    this.json = Json.createDeduplicating();
+    return this;
+  }
+
+  /**
+   * Revalidate GET requests against a persistent ETag cache. Entries are partitioned by the
+   * credentials of this client, so the cache may be shared with differently authenticated clients.
+   *
+   * @param responseCache response cache
+   * @return this client
+   */
+  public GitHubClient withResponseCache(final HttpResponseCache responseCache) {
+    this.responseCache = responseCache;
+    return this;
+  }
+
   public GitHubClient withTracer(final Tracer tracer) {
     this.tracer = tracer;
     this.client.setTracer(tracer);
@@ -601,6 +689,20 @@ public class GitHubClient {
     return json;
   }
 
+  Optional<GitObjectCache> gitObjectCache() {
+    return Optional.ofNullable(gitObjectCache);
+  }
+
+  /**
+   * The pacer shared by the search clients created from this client, since GitHub counts search
+   * requests per credential.
+   *
+   * @return search pacer
+   */
+  SearchPacer searchPacer() {
+    return searchPacer;
+  }
+
   /**
    * Make a http GET request for the given path on the server
    *
@@ -675,6 +777,38 @@ public class GitHubClient {
             response -> json().fromJsonUncheckedNotNull(response.bodyString(), typeReference));
   }
 
+  /**
+   * Make a http GET request for the given path on the server, deserializing only the projected
+   * fields of the body.
+   *
+   * @param path relative to the GitHub base url
+   * @param projection fields to deserialize
+   * @return body deserialized as provided type
+   */
+  <T> CompletableFuture<T> requestProjected(
+      final String path, final Class<T> clazz, final Projection projection) {
+    return call(path)
+        .thenApply(
+            response ->
+                json().fromJsonUncheckedNotNull(response.bodyString(), clazz, projection));
+  }
+
+  /**
+   * Make a http GET request for the given path on the server, deserializing only the projected
+   * fields of the body.
+   *
+   * @param path relative to the GitHub base url
+   * @param projection fields to deserialize
+   * @return body deserialized as provided type
+   */
+  <T> CompletableFuture<T> requestProjected(
+      final String path, final TypeReference<T> typeReference, final Projection projection) {
+    return call(path)
+        .thenApply(
+            response ->
+                json().fromJsonUncheckedNotNull(response.bodyString(), typeReference, projection));
+  }
+
   /**
    * Make a http POST request for the given path with provided JSON body.
    *
@@ -730,6 +864,27 @@ public class GitHubClient {
         .thenApply(response -> json().fromJsonUncheckedNotNull(response.bodyString(), clazz));
   }
 
+  /**
+   * Make a http POST request for the given path, streaming the JSON body to the connection.
+   *
+   * @param path relative to the GitHub base url
+   * @param body request body, written when the request is sent
+   * @param clazz class to cast response as
+   * @return response body deserialized as provided class
+   */
+  <T> CompletableFuture<T> postStreaming(
+      final String path, final StreamingBody body, final Class<T> clazz) {
+    return requestBuilder(path)
+        .thenCompose(
+            requestBuilder -> {
+              final HttpRequest request =
+                  requestBuilder.method("POST").body("").streamingBody(body).build();
+              log.debug("Making streaming POST request to {}", request.url());
+              return call(request);
+            })
+        .thenApply(response -> json().fromJsonUncheckedNotNull(response.bodyString(), clazz));
+  }
+
   /**
    * Make a POST request to the graphql endpoint of GitHub
    *
@@ -748,6 +903,27 @@ public class GitHubClient {
             });
   }
 
+  /**
+   * Create a loader batching GraphQL lookups made close together into single queries.
+   *
+   * @return GraphQL batch loader
+   */
+  public GraphqlBatchLoader createGraphqlBatchLoader() {
+    return createGraphqlBatchLoader(
+        GraphqlBatchLoader.DEFAULT_TICK, GraphqlBatchLoader.DEFAULT_MAX_COST);
+  }
+
+  /**
+   * Create a loader batching GraphQL lookups made close together into single queries.
+   *
+   * @param tick how long lookups are gathered before being sent
+   * @param maxCost total cost of the lookups sent in a single query
+   * @return GraphQL batch loader
+   */
+  public GraphqlBatchLoader createGraphqlBatchLoader(final Duration tick, final int maxCost) {
+    return new GraphqlBatchLoader(this, tick, maxCost);
+  }
+
   /**
    * Make a http PUT request for the given path with provided JSON body.
    *
@@ -1117,9 +1293,35 @@ public class GitHubClient {
   }
 
   private CompletableFuture<HttpResponse> call(final HttpRequest httpRequest) {
-    return this.client
-        .send(httpRequest)
-        .thenCompose(httpResponse -> handleResponse(httpRequest, httpResponse));
+    final CompletableFuture<HttpResponse> response =
+        responseCache == null
+            ? this.client.send(httpRequest)
+            : responseCache.send(this.client, httpRequest, cachePartition(httpRequest));
+    return response.thenCompose(httpResponse -> handleResponse(httpRequest, httpResponse));
+  }
+
+  /**
+   * Identifies the credential a request is made with. Installation tokens are short-lived, so
+   * App requests are partitioned by App and installation rather than by token.
+   */
+  private String cachePartition(final HttpRequest httpRequest) {
+    final String authorization = httpRequest.header(HttpHeaders.AUTHORIZATION);
+    if (token == null && authorization != null && authorization.startsWith("Bearer ")) {
+      return "app:" + appId;
+    }
+    return cachePartition();
+  }
+
+  /**
+   * Identifies the credential API requests of this client are made with.
+   *
+   * @return token, or App and installation, partition
+   */
+  String cachePartition() {
+    if (token != null) {
+      return "token:" + token;
+    }
+    return "app:" + appId + ":installation:" + installationId;
   }
 
   /**
@@ -1197,7 +1399,8 @@ public class GitHubClient {
       final HttpResponse response, final AtomicBoolean redirected) {
     if (response.statusCode() >= PERMANENT_REDIRECT
         && response.statusCode() <= TEMPORARY_REDIRECT
-        && !redirected.get()) {
+        && !redirected.get()
+        && !hasOneShotBody(response.request())) {
       redirected.set(true);
       // redo the same request with a new URL
       final String newLocation = response.headers().get("Location").get(0);
@@ -1209,6 +1412,7 @@ public class GitHubClient {
                         .url(newLocation)
                         .method(response.request().method())
                         .body(response.request().body())
+                        .streamingBody(response.request().streamingBody())
                         .build();
                 // Do the new call and complete the original future when the new call completes
                 return call(request);
@@ -1218,6 +1422,13 @@ public class GitHubClient {
     return completedFuture(response);
   }
 
+  /** A streamed body that has already been consumed cannot be sent to a redirect location. */
+  private static boolean hasOneShotBody(final HttpRequest request) {
+    return request != null
+        && request.streamingBody() != null
+        && request.streamingBody().oneShot();
+  }
+
   /** Wrapper to Constructors that expose File object for the privateKey argument */
   private static GitHubClient createOrThrow(
       final OkHttpClient httpClient,
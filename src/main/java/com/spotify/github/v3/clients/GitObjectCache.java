@@ -0,0 +1,203 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache for git objects that are addressed by their SHA: commits, trees and annotated tags. Such
+ * objects never change, so cached responses are served without revalidation.
+ *
+ * <p>Responses are kept in a bounded in-memory tier, weighed by their size. An optional directory
+ * adds an on-disk tier that survives restarts and can be shared between processes. Entries are
+ * written once and never rewritten; the directory is not pruned.
+ *
+ * <p>Only requests naming a full object id are cached; branch and tag names are always fetched.
+ * Entries are partitioned by credential: a hash of the client's partition is part of every key,
+ * so a cache shared between clients with different credentials never serves an object fetched
+ * with one of them to another.
+ */
+public class GitObjectCache {
+
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+  private static final Pattern OBJECT_ID = Pattern.compile("[0-9a-fA-F]{40}|[0-9a-fA-F]{64}");
+
+  private final Cache<String, String> memory;
+  private final Optional<Path> directory;
+
+  private GitObjectCache(final long maxBytes, final Optional<Path> directory) {
+    this.memory =
+        CacheBuilder.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((String key, String body) -> key.length() + body.length())
+            .build();
+    this.directory = directory;
+  }
+
+  /**
+   * Create an in-memory cache.
+   *
+   * @param maxBytes approximate upper bound of cached response bodies, in characters
+   * @return cache
+   */
+  public static GitObjectCache create(final long maxBytes) {
+    return new GitObjectCache(maxBytes, Optional.empty());
+  }
+
+  /**
+   * Create a cache backed by a directory, with an in-memory tier in front of it.
+   *
+   * @param maxBytes approximate upper bound of the in-memory tier, in characters
+   * @param directory directory for the on-disk tier, created if missing
+   * @return cache
+   */
+  public static GitObjectCache create(final long maxBytes, final Path directory) {
+    try {
+      Files.createDirectories(directory);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Cannot create cache directory " + directory, e);
+    }
+    return new GitObjectCache(maxBytes, Optional.of(directory));
+  }
+
+  /**
+   * Whether a reference is a full object id, and so names an immutable object.
+   *
+   * @param ref sha, branch or tag name
+   * @return true for a 40 or 64 character hexadecimal object id
+   */
+  static boolean isObjectId(final String ref) {
+    return ref != null && OBJECT_ID.matcher(ref).matches();
+  }
+
+  /**
+   * Fetch a git object, going through the client's cache when one is configured and the object
+   * is referenced by its id.
+   *
+   * @param github github client
+   * @param path request path
+   * @param ref object id, or any other reference accepted by the endpoint
+   * @param clazz response type
+   * @return deserialized object
+   */
+  static <T> CompletableFuture<T> request(
+      final GitHubClient github, final String path, final String ref, final Class<T> clazz) {
+    final Optional<GitObjectCache> cache = github.gitObjectCache();
+    if (cache.isEmpty() || !isObjectId(ref)) {
+      return github.request(path, clazz);
+    }
+    return cache.get().request(github, path, clazz);
+  }
+
+  private <T> CompletableFuture<T> request(
+      final GitHubClient github, final String path, final Class<T> clazz) {
+    final String key = key(github.cachePartition(), path);
+    final Optional<String> cached = get(key);
+    if (cached.isPresent()) {
+      return completedFuture(github.json().fromJsonUncheckedNotNull(cached.get(), clazz));
+    }
+    return github
+        .request(path)
+        .thenApply(
+            response -> {
+              final String body = response.bodyString();
+              final T value = github.json().fromJsonUncheckedNotNull(body, clazz);
+              put(key, body);
+              return value;
+            });
+  }
+
+  static String key(final String partition, final String path) {
+    return Hashing.sha256().hashString(partition, UTF_8) + " " + path;
+  }
+
+  Optional<String> get(final String key) {
+    final String body = memory.getIfPresent(key);
+    if (body != null || directory.isEmpty()) {
+      return Optional.ofNullable(body);
+    }
+    try {
+      final String stored = Files.readString(file(key), UTF_8);
+      memory.put(key, stored);
+      return Optional.of(stored);
+    } catch (NoSuchFileException e) {
+      return Optional.empty();
+    } catch (IOException e) {
+      log.warn("Could not read cached git object {}", key, e);
+      return Optional.empty();
+    }
+  }
+
+  void put(final String key, final String body) {
+    memory.put(key, body);
+    if (directory.isEmpty()) {
+      return;
+    }
+    final Path target = file(key);
+    if (Files.exists(target)) {
+      return;
+    }
+    Path tmp = null;
+    try {
+      tmp = Files.createTempFile(directory.get(), "object", ".tmp");
+      Files.writeString(tmp, body, UTF_8);
+      Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+    } catch (FileAlreadyExistsException e) {
+      // Another writer stored the same object first; its content is identical.
+    } catch (IOException e) {
+      log.warn("Could not store cached git object {}", key, e);
+    } finally {
+      deleteQuietly(tmp);
+    }
+  }
+
+  private static void deleteQuietly(final Path tmp) {
+    if (tmp == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(tmp);
+    } catch (IOException e) {
+      log.warn("Could not delete temporary file {}", tmp, e);
+    }
+  }
+
+  private Path file(final String key) {
+    return directory.get().resolve(Hashing.sha256().hashString(key, UTF_8).toString() + ".json");
+  }
+}
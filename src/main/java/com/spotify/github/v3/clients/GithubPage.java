@@ -20,24 +20,24 @@
 
 package com.spotify.github.v3.clients;
 
-import static java.util.Arrays.stream;
 import static java.util.Objects.nonNull;
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toMap;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.spotify.github.async.AsyncPage;
+import com.spotify.github.http.HttpResponse;
 import com.spotify.github.http.ImmutablePagination;
 import com.spotify.github.http.Link;
+import com.spotify.github.http.LinkHeaderParser;
 import com.spotify.github.http.Pagination;
+import com.spotify.github.jackson.Json;
+import com.spotify.github.jackson.Projection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.http.client.utils.URIBuilder;
 
 /**
@@ -52,6 +52,13 @@ public class GithubPage<T> implements AsyncPage<T> {
   private final String path;
   private final TypeReference<List<T>> typeReference;
   private final int itemsPerPage;
+  private final String itemsPointer;
+  private final Map<String, String> extraHeaders;
+  private final Projection projection;
+  private final AtomicReference<Json> json;
+  private CompletableFuture<HttpResponse> response;
+  private CompletableFuture<Map<String, Link>> links;
+  private CompletableFuture<Pagination> pagination;
 
   protected static String formatPath(final String path, final int itemsPerPage) {
     try {
@@ -75,10 +82,7 @@ public class GithubPage<T> implements AsyncPage<T> {
    */
   GithubPage(
       final GitHubClient github, final String path, final TypeReference<List<T>> typeReference) {
-    this.itemsPerPage = ITEM_PER_PAGE_DEFAULT;
-    this.github = github;
-    this.path = formatPath(path, ITEM_PER_PAGE_DEFAULT);
-    this.typeReference = typeReference;
+    this(github, path, typeReference, ITEM_PER_PAGE_DEFAULT);
   }
 
   /**
@@ -93,59 +97,141 @@ public class GithubPage<T> implements AsyncPage<T> {
       final String path,
       final TypeReference<List<T>> typeReference,
       final int itemsPerPage) {
-    this.itemsPerPage = itemsPerPage;
+    this(github, path, typeReference, itemsPerPage, null, Map.of(), null);
+  }
+
+  /**
+   * Constructor for listings whose items are wrapped in an object, next to a total count.
+   *
+   * @param github github client
+   * @param path resource page path
+   * @param typeReference type reference for deserialization
+   * @param itemsPerPage page size
+   * @param itemsPointer JSON pointer to the item array, for instance "/check_runs"
+   * @param extraHeaders headers sent with every page request, such as a preview Accept header
+   */
+  GithubPage(
+      final GitHubClient github,
+      final String path,
+      final TypeReference<List<T>> typeReference,
+      final int itemsPerPage,
+      final String itemsPointer,
+      final Map<String, String> extraHeaders) {
+    this(github, path, typeReference, itemsPerPage, itemsPointer, extraHeaders, null);
+  }
+
+  /**
+   * Constructor for listings deserializing only the projected fields of each item.
+   *
+   * @param github github client
+   * @param path resource page path
+   * @param typeReference type reference for deserialization
+   * @param itemsPerPage page size
+   * @param projection fields to deserialize
+   */
+  GithubPage(
+      final GitHubClient github,
+      final String path,
+      final TypeReference<List<T>> typeReference,
+      final int itemsPerPage,
+      final Projection projection) {
+    this(github, path, typeReference, itemsPerPage, null, Map.of(), projection);
+  }
+
+  /**
+   * Constructor for the first page of a listing.
+   *
+   * @param github github client
+   * @param path resource page path
+   * @param typeReference type reference for deserialization
+   * @param itemsPerPage page size
+   * @param itemsPointer JSON pointer to the item array, or null if the page is the array
+   * @param extraHeaders headers sent with every page request
+   * @param projection fields to deserialize, or null for all of them
+   */
+  private GithubPage(
+      final GitHubClient github,
+      final String path,
+      final TypeReference<List<T>> typeReference,
+      final int itemsPerPage,
+      final String itemsPointer,
+      final Map<String, String> extraHeaders,
+      final Projection projection) {
     this.github = github;
     this.path = formatPath(path, itemsPerPage);
     this.typeReference = typeReference;
+    this.itemsPerPage = itemsPerPage;
+    this.itemsPointer = itemsPointer;
+    this.extraHeaders = extraHeaders;
+    this.projection = projection;
+    this.json = new AtomicReference<>();
+  }
+
+  /**
+   * Constructor for another page of the same listing, sharing its settings and its {@link Json}.
+   *
+   * @param listing a page of the listing
+   * @param path resource page path
+   */
+  private GithubPage(final GithubPage<T> listing, final String path) {
+    this.github = listing.github;
+    this.path = formatPath(path, listing.itemsPerPage);
+    this.typeReference = listing.typeReference;
+    this.itemsPerPage = listing.itemsPerPage;
+    this.itemsPointer = listing.itemsPointer;
+    this.extraHeaders = listing.extraHeaders;
+    this.projection = listing.projection;
+    this.json = listing.json;
   }
 
   /** {@inheritDoc} */
   @Override
-  public CompletableFuture<Pagination> pagination() {
-    return linkMapAsync()
-        .thenApply(
-            linkMap -> {
-              final Optional<Integer> maybePreviousPageNumber =
-                  Optional.ofNullable(linkMap.get("prev"))
-                      .map(prevLink -> pageNumberFromUri(prevLink.url().toString() + 1).orElse(1));
+  public synchronized CompletableFuture<Pagination> pagination() {
+    if (pagination == null) {
+      pagination = linkMapAsync().thenApply(GithubPage::paginationFromLinks);
+    }
+    return pagination;
+  }
 
-              final Optional<Integer> maybeNextPageNumber =
-                  Optional.ofNullable(linkMap.get("next"))
-                      .map(
-                          prevLink ->
-                              pageNumberFromUri(prevLink.url().toString())
-                                  .orElseThrow(
-                                      () ->
-                                          new RuntimeException(
-                                              "Could not parse page number from Link header with rel=\"next\"")));
-
-              final Integer lastPageNumber =
-                  maybePreviousPageNumber
-                      .map(pageNumber -> pageNumber + 1)
-                      .orElseGet(
-                          () ->
-                              Optional.ofNullable(linkMap.get("last"))
-                                  .map(
-                                      lastLink ->
-                                          pageNumberFromUri(lastLink.url().toString())
-                                              .orElseThrow(
-                                                  () ->
-                                                      new RuntimeException(
-                                                          "Could not parse page number from Link "
-                                                              + "header with rel=\"last\"")))
-                                  .orElse(1));
-
-              final Integer currentPageNumber =
-                  maybeNextPageNumber.map(pageNumber -> pageNumber - 1).orElse(lastPageNumber);
-
-              final ImmutablePagination.Builder builder =
-                  ImmutablePagination.builder().current(currentPageNumber).last(lastPageNumber);
-
-              maybePreviousPageNumber.ifPresent(builder::previous);
-              maybeNextPageNumber.ifPresent(builder::next);
-
-              return builder.build();
-            });
+  private static Pagination paginationFromLinks(final Map<String, Link> linkMap) {
+    final Link prevLink = linkMap.get("prev");
+    final Link nextLink = linkMap.get("next");
+    final Link lastLink = linkMap.get("last");
+
+    // The first page link may omit the page parameter.
+    final int previousPageNumber = prevLink == null ? -1 : Math.max(pageNumber(prevLink), 1);
+    final int nextPageNumber = nextLink == null ? -1 : pageNumber(nextLink);
+    if (nextLink != null && nextPageNumber < 0) {
+      throw new RuntimeException("Could not parse page number from Link header with rel=\"next\"");
+    }
+
+    final int lastPageNumber;
+    if (lastLink != null) {
+      lastPageNumber = pageNumber(lastLink);
+      if (lastPageNumber < 0) {
+        throw new RuntimeException(
+            "Could not parse page number from Link header with rel=\"last\"");
+      }
+    } else {
+      // GitHub leaves out rel="last" on the last page itself.
+      lastPageNumber = previousPageNumber > 0 ? previousPageNumber + 1 : 1;
+    }
+
+    final int currentPageNumber = nextPageNumber > 0 ? nextPageNumber - 1 : lastPageNumber;
+
+    final ImmutablePagination.Builder builder =
+        ImmutablePagination.builder().current(currentPageNumber).last(lastPageNumber);
+    if (previousPageNumber > 0) {
+      builder.previous(previousPageNumber);
+    }
+    if (nextPageNumber > 0) {
+      builder.next(nextPageNumber);
+    }
+    return builder.build();
+  }
+
+  private static int pageNumber(final Link link) {
+    return LinkHeaderParser.pageNumber(link.url().toString());
   }
 
   /** {@inheritDoc} */
@@ -156,9 +242,9 @@ public class GithubPage<T> implements AsyncPage<T> {
             linkMap -> {
               final String nextPath =
                   Optional.ofNullable(linkMap.get("next"))
-                      .map(nextLink -> nextLink.url().toString().replaceAll(github.urlFor(""), ""))
+                      .map(nextLink -> relativePath(nextLink.url().toString()))
                       .orElseThrow(() -> new NoSuchElementException("Page iteration exhausted"));
-              return new GithubPage<>(github, nextPath, typeReference, itemsPerPage);
+              return new GithubPage<>(this, nextPath);
             });
   }
 
@@ -171,41 +257,77 @@ public class GithubPage<T> implements AsyncPage<T> {
   /** {@inheritDoc} */
   @Override
   public AsyncPage<T> clone() {
-    return new GithubPage<>(github, path, typeReference, itemsPerPage);
+    return new GithubPage<>(this, path);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<List<T>> items() {
+    return response().thenApply(response -> read(response.bodyString()));
+  }
+
+  private List<T> read(final String body) {
+    if (itemsPointer != null) {
+      return json().fromJsonAtUncheckedNotNull(body, typeReference, itemsPointer);
+    }
+    if (projection != null) {
+      return json().fromJsonUncheckedNotNull(body, typeReference, projection);
+    }
+    return json().fromJsonUncheckedNotNull(body, typeReference);
+  }
+
+  /**
+   * The Json all pages of this listing are read with, so that a deduplicating client holds the
+   * values repeated between pages once.
+   *
+   * @return listing Json
+   */
+  private Json json() {
+    return json.updateAndGet(listing -> listing != null ? listing : github.json().scoped());
   }
 
   /** {@inheritDoc} */
   @Override
   public Iterator<T> iterator() {
-    return github
-        .request(path)
-        .thenApply(
-            response ->
-                github.json().fromJsonUncheckedNotNull(response.bodyString(), typeReference))
-        .join()
-        .iterator();
+    return items().join().iterator();
   }
 
-  private CompletableFuture<Map<String, Link>> linkMapAsync() {
-    return github
-        .request(path)
-        .thenApply(
-            response ->
-                Optional.ofNullable(response.header("Link")).stream()
-                    .flatMap(linkHeader -> stream(linkHeader.split(",")))
-                    .map(linkString -> Link.from(linkString.split(";")))
-                    .filter(link -> link.rel().isPresent())
-                    .collect(toMap(link -> link.rel().get(), identity())));
+  /**
+   * The response backing this page. It is requested once and shared between the items and the
+   * pagination links, so that iterating a page and looking up its next page cost one request.
+   *
+   * @return page response
+   */
+  private synchronized CompletableFuture<HttpResponse> response() {
+    if (response == null) {
+      response =
+          extraHeaders.isEmpty() ? github.request(path) : github.request(path, extraHeaders);
+    }
+    return response;
   }
 
-  protected static Optional<Integer> pageNumberFromUri(final String uri) {
-    Pattern pageInQueryPattern = Pattern.compile("(^|\\?|&)page=(?<page>\\d+)", Pattern.CASE_INSENSITIVE);
-    try {
-      String query = new URIBuilder(uri).build().getQuery();
-      Matcher matcher = pageInQueryPattern.matcher(query);
-      return matcher.find() ? Optional.of(Integer.parseInt(matcher.group("page"))) : Optional.empty();
-    } catch (Exception e) {
-      return Optional.empty();
+  /**
+   * The links of this page, parsed once per response.
+   *
+   * @return links by relation type
+   */
+  private synchronized CompletableFuture<Map<String, Link>> linkMapAsync() {
+    if (links == null) {
+      links = response().thenApply(response -> LinkHeaderParser.parse(response.header("Link")));
     }
+    return links;
+  }
+
+  private String relativePath(final String url) {
+    final String base = github.urlFor("");
+    if (url.startsWith(base)) {
+      return url.substring(base.length());
+    }
+    return url.replace(base, "");
+  }
+
+  protected static Optional<Integer> pageNumberFromUri(final String uri) {
+    final int page = LinkHeaderParser.pageNumber(uri);
+    return page < 0 ? Optional.empty() : Optional.of(page);
   }
 }
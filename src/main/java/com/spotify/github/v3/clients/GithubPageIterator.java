@@ -20,24 +20,29 @@
 
 package com.spotify.github.v3.clients;
 
-import static java.util.Objects.isNull;
-import static java.util.Objects.nonNull;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 
 import com.spotify.github.async.AsyncPage;
-import java.util.Iterator;
+import com.spotify.github.async.AsyncPageIterator;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
- * Async page iterator implementation
+ * Async page iterator implementation.
+ *
+ * <p>The iterator state is the future of the page to be returned next. Advancing swaps it
+ * atomically for the future of its successor, so concurrent consumers never wait on each other
+ * and {@link #nextAsync()} never blocks. A page is handed out once the links telling its successor
+ * are known, so {@link #hasNext()} answers from them without waiting; while an advance is still in
+ * flight it answers true, and {@link #next()} then waits for the outcome.
  *
  * @param <T> resource type
  */
-public class GithubPageIterator<T> implements Iterator<AsyncPage<T>> {
+public class GithubPageIterator<T> implements AsyncPageIterator<T> {
 
-  private final Object lock = new Object();
-  private AsyncPage<T> current;
+  private final AtomicReference<CompletableFuture<Optional<AsyncPage<T>>>> upcoming;
 
   /**
    * C'tor.
@@ -45,37 +50,51 @@ public class GithubPageIterator<T> implements Iterator<AsyncPage<T>> {
    * @param initialPage initial async page
    */
   public GithubPageIterator(final AsyncPage<T> initialPage) {
-    this.current = initialPage;
+    this.upcoming = new AtomicReference<>(completedFuture(Optional.ofNullable(initialPage)));
   }
 
   /** {@inheritDoc} */
   @Override
   public boolean hasNext() {
-    synchronized (lock) {
-      return nonNull(current);
-    }
+    final CompletableFuture<Optional<AsyncPage<T>>> page = upcoming.get();
+    return !page.isDone() || page.isCompletedExceptionally() || page.join().isPresent();
   }
 
   /** {@inheritDoc} */
   @Override
   public AsyncPage<T> next() {
-    synchronized (lock) {
-      if (isNull(current)) {
-        throw new NoSuchElementException("Iteration exhausted");
-      }
+    return nextAsync()
+        .join()
+        .orElseThrow(() -> new NoSuchElementException("Iteration exhausted"));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<Optional<AsyncPage<T>>> nextAsync() {
+    final CompletableFuture<Optional<AsyncPage<T>>> following = new CompletableFuture<>();
+    final CompletableFuture<Optional<AsyncPage<T>>> page = upcoming.getAndSet(following);
+    page.thenCompose(GithubPageIterator::successor)
+        .whenComplete(
+            (successor, throwable) -> {
+              if (throwable != null) {
+                following.completeExceptionally(throwable);
+              } else {
+                following.complete(successor);
+              }
+            });
+    // A failed successor surfaces on the following advance, not on this page.
+    return following.exceptionally(throwable -> null).thenCompose(ignored -> page);
+  }
 
-      final AsyncPage<T> currentPage = current.clone();
-      current =
-          current
-              .hasNextPage()
-              .thenCompose(
-                  hasNext ->
-                      Optional.of(hasNext)
-                          .filter(Boolean::booleanValue)
-                          .map(ignore -> current.nextPage())
-                          .orElseGet(() -> completedFuture(null)))
-              .join();
-      return currentPage;
+  private static <T> CompletableFuture<Optional<AsyncPage<T>>> successor(
+      final Optional<AsyncPage<T>> maybePage) {
+    if (maybePage.isEmpty()) {
+      return completedFuture(Optional.empty());
     }
+    final AsyncPage<T> page = maybePage.get();
+    return page.hasNextPage()
+        .thenCompose(
+            hasNext ->
+                hasNext ? page.nextPage().thenApply(Optional::of) : completedFuture(Optional.empty()));
   }
 }
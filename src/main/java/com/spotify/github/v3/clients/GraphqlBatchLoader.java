@@ -0,0 +1,263 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.spotify.github.v3.exceptions.GraphqlException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Batches GraphQL lookups, in the manner of a DataLoader.
+ *
+ * <p>Each lookup is a single top level field with its selection, such as {@code
+ * repository(owner: "spotify", name: "github-java-client") { pullRequest(number: 1) { state
+ * mergeable } }}. Lookups made within a tick of the first one are sent together as one query, each
+ * under an alias of its own, and the query is cut short whenever the next lookup would take it
+ * past the cost limit. Identical lookups of a batch share their alias.
+ *
+ * <p>The future of each lookup completes with the value of its field, or fails with a {@link
+ * GraphqlException} when GitHub reports errors for that field. Errors not tied to a field, such as
+ * a lookup that does not parse, could come from any lookup of the batch: its lookups are then sent
+ * again in halves, until each such error is pinned on a single lookup. A failed request fails the
+ * whole batch.
+ */
+public final class GraphqlBatchLoader {
+
+  /** How long lookups are gathered before being sent, unless the batch fills up first. */
+  static final Duration DEFAULT_TICK = Duration.ofMillis(10);
+
+  /** Total cost of the lookups sent in a single query. */
+  static final int DEFAULT_MAX_COST = 100;
+
+  private static final String ALIAS = "l";
+
+  private final GitHubClient github;
+  private final Executor delayed;
+  private final int maxCost;
+  private Batch batch;
+
+  GraphqlBatchLoader(final GitHubClient github, final Duration tick, final int maxCost) {
+    if (maxCost < 1) {
+      throw new IllegalArgumentException("Cost limit must be positive, got " + maxCost);
+    }
+    this.github = github;
+    this.delayed = CompletableFuture.delayedExecutor(tick.toNanos(), NANOSECONDS);
+    this.maxCost = maxCost;
+  }
+
+  /**
+   * Look up a top level field, at a cost of one.
+   *
+   * @param field field with its arguments and selection
+   * @return value of the field, which may be a null node
+   */
+  public CompletableFuture<JsonNode> load(final String field) {
+    return load(field, 1);
+  }
+
+  /**
+   * Look up a top level field.
+   *
+   * @param field field with its arguments and selection
+   * @param cost share of the cost limit taken by the lookup, such as the number of nodes it
+   *     fetches
+   * @return value of the field, which may be a null node
+   */
+  public CompletableFuture<JsonNode> load(final String field, final int cost) {
+    if (cost < 1) {
+      throw new IllegalArgumentException("Cost must be positive, got " + cost);
+    }
+    final CompletableFuture<JsonNode> future;
+    Batch full = null;
+    Batch scheduled = null;
+    synchronized (this) {
+      if (batch != null && !batch.lookups.containsKey(field) && batch.cost + cost > maxCost) {
+        full = batch;
+        batch = null;
+      }
+      if (batch == null) {
+        batch = new Batch();
+        scheduled = batch;
+      }
+      final Lookup lookup =
+          batch.lookups.computeIfAbsent(
+              field,
+              key -> {
+                batch.cost += cost;
+                return new Lookup(ALIAS + batch.lookups.size());
+              });
+      future = new CompletableFuture<>();
+      lookup.futures.add(future);
+    }
+    if (full != null) {
+      send(full);
+    }
+    if (scheduled != null) {
+      final Batch tick = scheduled;
+      delayed.execute(() -> sendIfCurrent(tick));
+    }
+    return future;
+  }
+
+  /**
+   * Send the lookups gathered so far without waiting for the end of the tick.
+   */
+  public void flush() {
+    final Batch current;
+    synchronized (this) {
+      current = batch;
+      batch = null;
+    }
+    if (current != null) {
+      send(current);
+    }
+  }
+
+  /**
+   * Quote a string as a GraphQL string literal, to be used as an argument of a looked up field.
+   *
+   * @param value string value
+   * @return quoted and escaped literal
+   */
+  public static String quote(final String value) {
+    // GraphQL string literals share the escapes of JSON strings.
+    return TextNode.valueOf(value).toString();
+  }
+
+  private void sendIfCurrent(final Batch tick) {
+    synchronized (this) {
+      if (batch != tick) {
+        return;
+      }
+      batch = null;
+    }
+    send(tick);
+  }
+
+  private void send(final Batch batch) {
+    final String query =
+        batch.lookups.entrySet().stream()
+            .map(entry -> entry.getValue().alias + ": " + entry.getKey())
+            .collect(Collectors.joining(" ", "query { ", " }"));
+    final ObjectNode body = JsonNodeFactory.instance.objectNode().put("query", query);
+    final CompletableFuture<JsonNode> response;
+    try {
+      response =
+          github
+              .postGraphql(body.toString())
+              .thenApply(
+                  r -> github.json().fromJsonUncheckedNotNull(r.bodyString(), JsonNode.class));
+    } catch (RuntimeException e) {
+      batch.failAll(e);
+      return;
+    }
+    response.whenComplete(
+        (json, throwable) -> {
+          if (throwable != null) {
+            batch.failAll(throwable);
+          } else {
+            complete(batch, json);
+          }
+        });
+  }
+
+  private void complete(final Batch batch, final JsonNode response) {
+    final Map<String, List<String>> fieldErrors = new LinkedHashMap<>();
+    final List<String> queryErrors = new ArrayList<>();
+    for (final JsonNode error : response.path("errors")) {
+      final String message = error.path("message").asText("Unknown error");
+      final JsonNode path = error.path("path");
+      if (path.isArray() && path.size() > 0) {
+        fieldErrors.computeIfAbsent(path.get(0).asText(), alias -> new ArrayList<>()).add(message);
+      } else {
+        queryErrors.add(message);
+      }
+    }
+    final JsonNode data = response.path("data");
+    if (!queryErrors.isEmpty() || !data.isObject()) {
+      if (batch.lookups.size() > 1) {
+        batch.halves().forEach(this::send);
+        return;
+      }
+      batch.failAll(
+          new GraphqlException(
+              queryErrors.isEmpty() ? "Response holds no data" : String.join("; ", queryErrors)));
+      return;
+    }
+    for (final Lookup lookup : batch.lookups.values()) {
+      final List<String> errors = fieldErrors.get(lookup.alias);
+      if (errors != null) {
+        lookup.fail(new GraphqlException(String.join("; ", errors)));
+      } else {
+        final JsonNode value = data.get(lookup.alias);
+        lookup.futures.forEach(
+            future -> future.complete(value != null ? value : JsonNodeFactory.instance.nullNode()));
+      }
+    }
+  }
+
+  /** Lookups gathered for one query, by field. */
+  private static final class Batch {
+    private final Map<String, Lookup> lookups = new LinkedHashMap<>();
+    private int cost;
+
+    private void failAll(final Throwable throwable) {
+      lookups.values().forEach(lookup -> lookup.fail(throwable));
+    }
+
+    /** Split in two batches, each keeping the aliases of its lookups. */
+    private List<Batch> halves() {
+      final Batch first = new Batch();
+      final Batch second = new Batch();
+      final int half = lookups.size() / 2;
+      lookups.forEach(
+          (field, lookup) ->
+              (first.lookups.size() < half ? first : second).lookups.put(field, lookup));
+      return List.of(first, second);
+    }
+  }
+
+  /** A field of a batch and the callers waiting for it. */
+  private static final class Lookup {
+    private final String alias;
+    private final List<CompletableFuture<JsonNode>> futures = new ArrayList<>();
+
+    private Lookup(final String alias) {
+      this.alias = alias;
+    }
+
+    private void fail(final Throwable throwable) {
+      futures.forEach(future -> future.completeExceptionally(throwable));
+    }
+  }
+}
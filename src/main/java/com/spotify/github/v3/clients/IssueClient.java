@@ -24,6 +24,7 @@ import static com.spotify.github.v3.clients.GitHubClient.*;
 
 import com.google.common.collect.ImmutableMap;
 import com.spotify.github.async.AsyncPage;
+import com.spotify.github.async.AsyncPagePublisher;
 import com.spotify.github.http.HttpResponse;
 import com.spotify.github.v3.comment.Comment;
 import com.spotify.github.v3.comment.CommentReaction;
@@ -32,6 +33,7 @@ import com.spotify.github.v3.issues.Issue;
 import java.lang.invoke.MethodHandles;
 import java.util.Iterator;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -219,6 +221,30 @@ public class IssueClient {
     return new GithubPageIterator<>(new GithubPage<>(github, path, LIST_COMMENT_TYPE_REFERENCE));
   }
 
+  /**
+   * Lists repository comments as a publisher.
+   *
+   * @return a publisher of comments
+   */
+  public Flow.Publisher<Comment> listCommentsPublisher() {
+    return listCommentsPublisher(String.format(COMMENTS_URI_TEMPLATE, owner, repo));
+  }
+
+  /**
+   * Lists comments for a given issue number as a publisher.
+   *
+   * @param issueNumber the issue number
+   * @return a publisher of comments
+   */
+  public Flow.Publisher<Comment> listCommentsPublisher(final long issueNumber) {
+    return listCommentsPublisher(
+        String.format(COMMENTS_URI_NUMBER_TEMPLATE, owner, repo, issueNumber));
+  }
+
+  private Flow.Publisher<Comment> listCommentsPublisher(final String path) {
+    return new AsyncPagePublisher<>(new GithubPage<>(github, path, LIST_COMMENT_TYPE_REFERENCE));
+  }
+
   /**
    * Gets an issue by id.
    *
@@ -286,6 +312,18 @@ public class IssueClient {
         new GithubPage<>(github, path, LIST_COMMENT_REACTION_TYPE_REFERENCE));
   }
 
+  /**
+   * Lists reactions on a comment as a publisher.
+   *
+   * @param commentId the comment id
+   * @return a publisher of comment reactions
+   */
+  public Flow.Publisher<CommentReaction> listCommentReactionPublisher(final long commentId) {
+    final String path = String.format(COMMENTS_REACTION_TEMPLATE, owner, repo, commentId);
+    return new AsyncPagePublisher<>(
+        new GithubPage<>(github, path, LIST_COMMENT_REACTION_TYPE_REFERENCE));
+  }
+
   /**
    * Creates a reaction on an issue.
    *
@@ -28,12 +28,16 @@ import static com.spotify.github.v3.clients.GitHubClient.LIST_PR_TYPE_REFERENCE;
 import static com.spotify.github.v3.clients.GitHubClient.LIST_REVIEW_REQUEST_TYPE_REFERENCE;
 import static com.spotify.github.v3.clients.GitHubClient.LIST_REVIEW_TYPE_REFERENCE;
 import static java.lang.Math.toIntExact;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.isNull;
 
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableMap;
 import com.spotify.github.async.AsyncPage;
+import com.spotify.github.async.AsyncPagePublisher;
 import com.spotify.github.jackson.Json;
+import com.spotify.github.jackson.Projection;
+import com.spotify.github.v3.diff.DiffReader;
 import com.spotify.github.v3.git.FileItem;
 import com.spotify.github.v3.prs.Comment;
 import com.spotify.github.v3.prs.MergeParameters;
@@ -54,6 +58,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Predicate;
 import javax.ws.rs.core.HttpHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -111,6 +117,24 @@ public class PullRequestClient {
     return list(path);
   }
 
+  /**
+   * List repository pull requests using given parameters, deserializing only the projected fields
+   * of each pull request.
+   *
+   * @param parameters request parameters
+   * @param projection fields to deserialize, e.g. {@code Projection.of("number", "head.sha")}
+   * @return pull requests with only the projected fields set
+   */
+  public CompletableFuture<List<PullRequestItem>> list(
+      final PullRequestParameters parameters, final Projection projection) {
+    final String serial = parameters.serialize();
+    final String path =
+        String.format(
+            PR_TEMPLATE + (Strings.isNullOrEmpty(serial) ? "" : "?" + serial), owner, repo);
+    log.debug("Fetching pull requests from " + path);
+    return github.requestProjected(path, LIST_PR_TYPE_REFERENCE, projection);
+  }
+
   /**
    * Get a specific pull request.
    *
@@ -135,6 +159,19 @@ public class PullRequestClient {
     return github.request(path, PullRequest.class);
   }
 
+  /**
+   * Get a specific pull request, deserializing only the projected fields.
+   *
+   * @param prNumber pull request number
+   * @param projection fields to deserialize
+   * @return pull request with only the projected fields set
+   */
+  public CompletableFuture<PullRequest> get(final long prNumber, final Projection projection) {
+    final String path = String.format(PR_NUMBER_TEMPLATE, owner, repo, prNumber);
+    log.debug("Fetching pull request from " + path);
+    return github.requestProjected(path, PullRequest.class, projection);
+  }
+
   /**
    * Create a pull request.
    *
@@ -209,6 +246,35 @@ public class PullRequestClient {
         new GithubPage<>(github, path, LIST_COMMIT_TYPE_REFERENCE, itemsPerPage));
   }
 
+  /**
+   * List pull request commits, deserializing only the projected fields of each commit.
+   *
+   * @param prNumber pull request number
+   * @param itemsPerPage number of items per page
+   * @param projection fields to deserialize, e.g. {@code Projection.of("sha", "commit.message")}
+   * @return iterator of commits with only the projected fields set
+   */
+  public Iterator<AsyncPage<CommitItem>> listCommits(
+      final long prNumber, final int itemsPerPage, final Projection projection) {
+    final String path = String.format(PR_COMMITS_TEMPLATE, owner, repo, prNumber);
+    return new GithubPageIterator<>(
+        new GithubPage<>(github, path, LIST_COMMIT_TYPE_REFERENCE, itemsPerPage, projection));
+  }
+
+  /**
+   * List pull request commits as a publisher. Pages are fetched as items are requested.
+   *
+   * @param prNumber pull request number
+   * @param itemsPerPage number of items per page
+   * @return publisher of commits
+   */
+  public Flow.Publisher<CommitItem> listCommitsPublisher(
+      final long prNumber, final int itemsPerPage) {
+    final String path = String.format(PR_COMMITS_TEMPLATE, owner, repo, prNumber);
+    return new AsyncPagePublisher<>(
+        new GithubPage<>(github, path, LIST_COMMIT_TYPE_REFERENCE, itemsPerPage));
+  }
+
   /**
    * List pull request reviews. Reviews are returned in chronological order.
    *
@@ -260,6 +326,20 @@ public class PullRequestClient {
         new GithubPage<>(github, path, LIST_REVIEW_TYPE_REFERENCE, toIntExact(itemsPerPage)));
   }
 
+  /**
+   * List pull request reviews as a publisher. Reviews are published in chronological order.
+   *
+   * @param prNumber pull request number
+   * @param itemsPerPage number of items per page
+   * @return publisher of reviews
+   */
+  public Flow.Publisher<Review> listReviewsPublisher(
+      final long prNumber, final long itemsPerPage) {
+    final String path = String.format(PR_REVIEWS_TEMPLATE, owner, repo, prNumber);
+    return new AsyncPagePublisher<>(
+        new GithubPage<>(github, path, LIST_REVIEW_TYPE_REFERENCE, toIntExact(itemsPerPage)));
+  }
+
   /**
    * Creates a review for a pull request.
    *
@@ -429,7 +509,7 @@ public class PullRequestClient {
               if (isNull(body)) {
                 return Reader.nullReader();
               }
-              return new InputStreamReader(body);
+              return new InputStreamReader(body, UTF_8);
             });
   }
 
@@ -464,7 +544,48 @@ public class PullRequestClient {
               if (isNull(body)) {
                 return Reader.nullReader();
               }
-              return new InputStreamReader(body);
+              return new InputStreamReader(body, UTF_8);
+            });
+  }
+
+  /**
+   * Fetches a pull request diff and parses it as it streams in.
+   *
+   * @param prNumber pull request number
+   * @param pathFilter accepts the paths of the files to return events for
+   * @return reader of the diff's file, hunk and line events, to be closed by the caller
+   */
+  public CompletableFuture<DiffReader> readDiff(
+      final long prNumber, final Predicate<String> pathFilter) {
+    return readDiff(prNumber, "application/vnd.github.diff", pathFilter);
+  }
+
+  /**
+   * Fetches a pull request patch and parses the diffs of its commits as they stream in. Commit
+   * messages and other mail headers are skipped.
+   *
+   * @param prNumber pull request number
+   * @param pathFilter accepts the paths of the files to return events for
+   * @return reader of the patch's file, hunk and line events, to be closed by the caller
+   */
+  public CompletableFuture<DiffReader> readPatch(
+      final long prNumber, final Predicate<String> pathFilter) {
+    return readDiff(prNumber, "application/vnd.github.patch", pathFilter);
+  }
+
+  private CompletableFuture<DiffReader> readDiff(
+      final long prNumber, final String mediaType, final Predicate<String> pathFilter) {
+    final String path = String.format(PR_NUMBER_TEMPLATE, owner, repo, prNumber);
+    final Map<String, String> extraHeaders = ImmutableMap.of(HttpHeaders.ACCEPT, mediaType);
+    log.debug("Fetching pull request {} from {}", mediaType, path);
+    return github
+        .request(path, extraHeaders)
+        .thenApply(
+            response -> {
+              final var body = response.body();
+              return isNull(body)
+                  ? DiffReader.create(Reader.nullReader(), pathFilter)
+                  : DiffReader.create(body, pathFilter);
             });
   }
 
@@ -473,6 +594,32 @@ public class PullRequestClient {
     return new GithubPageIterator<>(new GithubPage<>(github, path, LIST_FILE_ITEMS));
   }
 
+  /**
+   * List files changed by a pull request, deserializing only the projected fields of each file.
+   *
+   * @param prNumber pull request number
+   * @param projection fields to deserialize, e.g. {@code Projection.of("filename", "status")}
+   * @return iterator of changed files with only the projected fields set
+   */
+  public Iterator<AsyncPage<FileItem>> changedFiles(
+      final long prNumber, final Projection projection) {
+    final String path = String.format(PR_CHANGED_FILES_TEMPLATE, owner, repo, prNumber);
+    return new GithubPageIterator<>(
+        new GithubPage<>(
+            github, path, LIST_FILE_ITEMS, GithubPage.ITEM_PER_PAGE_DEFAULT, projection));
+  }
+
+  /**
+   * List files changed by a pull request as a publisher. Pages are fetched as items are requested.
+   *
+   * @param prNumber pull request number
+   * @return publisher of changed files
+   */
+  public Flow.Publisher<FileItem> changedFilesPublisher(final long prNumber) {
+    final String path = String.format(PR_CHANGED_FILES_TEMPLATE, owner, repo, prNumber);
+    return new AsyncPagePublisher<>(new GithubPage<>(github, path, LIST_FILE_ITEMS));
+  }
+
   /**
    * List pull requests using given parameters.
    *
@@ -496,6 +643,36 @@ public class PullRequestClient {
     return new GithubPageIterator<>(new GithubPage<>(github, path, LIST_PR_COMMENT_TYPE_REFERENCE));
   }
 
+  /**
+   * List pull request review comments, deserializing only the projected fields of each comment.
+   *
+   * @param prNumber pull request number
+   * @param projection fields to deserialize, e.g. {@code Projection.of("id", "body", "user.login")}
+   * @return iterator of comments with only the projected fields set
+   */
+  public Iterator<AsyncPage<Comment>> listComments(
+      final long prNumber, final Projection projection) {
+    final String path = String.format(PR_COMMENTS_TEMPLATE, owner, repo, prNumber);
+    return new GithubPageIterator<>(
+        new GithubPage<>(
+            github,
+            path,
+            LIST_PR_COMMENT_TYPE_REFERENCE,
+            GithubPage.ITEM_PER_PAGE_DEFAULT,
+            projection));
+  }
+
+  /**
+   * List pull request review comments as a publisher.
+   *
+   * @param prNumber pull request number
+   * @return publisher of comments
+   */
+  public Flow.Publisher<Comment> listCommentsPublisher(final long prNumber) {
+    final String path = String.format(PR_COMMENTS_TEMPLATE, owner, repo, prNumber);
+    return new AsyncPagePublisher<>(new GithubPage<>(github, path, LIST_PR_COMMENT_TYPE_REFERENCE));
+  }
+
   /**
    * Creates a reply to a pull request review comment.
    *
@@ -527,4 +704,17 @@ public class PullRequestClient {
     final String path = String.format(PR_REVIEW_COMMENTS_TEMPLATE, owner, repo, prNumber, reviewId);
     return new GithubPageIterator<>(new GithubPage<>(github, path, LIST_PR_COMMENT_TYPE_REFERENCE));
   }
+
+  /**
+   * List pull request review comments for a specific review as a publisher.
+   *
+   * @param prNumber pull request number
+   * @param reviewId the ID of the review
+   * @return publisher of comments for the review
+   */
+  public Flow.Publisher<Comment> listReviewCommentsPublisher(
+      final long prNumber, final long reviewId) {
+    final String path = String.format(PR_REVIEW_COMMENTS_TEMPLATE, owner, repo, prNumber, reviewId);
+    return new AsyncPagePublisher<>(new GithubPage<>(github, path, LIST_PR_COMMENT_TYPE_REFERENCE));
+  }
 }
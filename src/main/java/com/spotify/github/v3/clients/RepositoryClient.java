@@ -32,6 +32,8 @@ import static com.spotify.github.v3.clients.GitHubClient.LIST_REPOSITORY_INVITAT
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableMap;
 import com.spotify.github.async.AsyncPage;
+import com.spotify.github.async.AsyncPagePublisher;
+import com.spotify.github.jackson.Projection;
 import com.spotify.github.v3.comment.Comment;
 import com.spotify.github.v3.exceptions.RequestNotOkException;
 import com.spotify.github.v3.git.Tree;
@@ -51,14 +53,23 @@ import com.spotify.github.v3.repos.Repository;
 import com.spotify.github.v3.repos.RepositoryInvitation;
 import com.spotify.github.v3.repos.Status;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.lang.invoke.MethodHandles;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.function.Predicate;
 import javax.ws.rs.core.HttpHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -97,6 +108,8 @@ public class RepositoryClient {
   private static final String REPOSITORY_INVITATIONS = "/repos/%s/%s/invitations";
   private static final String REPOSITORY_DOWNLOAD_TARBALL = "/repos/%s/%s/tarball/%s";
   private static final String REPOSITORY_DOWNLOAD_ZIPBALL = "/repos/%s/%s/zipball/%s";
+  private static final Map<String, String> RAW_MEDIA_HEADERS =
+      ImmutableMap.of(HttpHeaders.ACCEPT, "application/vnd.github.raw");
   private final String owner;
   private final String repo;
   private final GitHubClient github;
@@ -169,6 +182,17 @@ public class RepositoryClient {
     return github.request(path, Repository.class);
   }
 
+  /**
+   * Get information about this repository, deserializing only the projected fields.
+   *
+   * @param projection fields to deserialize, e.g. {@code Projection.of("default_branch")}
+   * @return repository information with only the projected fields set
+   */
+  public CompletableFuture<Repository> getRepository(final Projection projection) {
+    final String path = String.format(REPOSITORY_URI_TEMPLATE, owner, repo);
+    return github.requestProjected(path, Repository.class, projection);
+  }
+
   /**
    * Update Repository properties
    * https://docs.github.com/en/rest/repos/repos?apiVersion=2022-11-28#update-a-repository
@@ -191,6 +215,18 @@ public class RepositoryClient {
     return github.request(path, LIST_REPOSITORY);
   }
 
+  /**
+   * List all repositories in this organization, deserializing only the projected fields of each.
+   *
+   * @param projection fields to deserialize
+   * @return list of repositories with only the projected fields set
+   */
+  public CompletableFuture<List<Repository>> listOrganizationRepositories(
+      final Projection projection) {
+    final String path = String.format(LIST_REPOSITORY_TEMPLATE, owner);
+    return github.requestProjected(path, LIST_REPOSITORY, projection);
+  }
+
   /**
    * List repositories for the authenticated user.
    *
@@ -206,6 +242,39 @@ public class RepositoryClient {
     return new GithubPageIterator<>(new GithubPage<>(github, path, LIST_REPOSITORY));
   }
 
+  /**
+   * List repositories for the authenticated user, deserializing only the projected fields of each.
+   *
+   * @param filter filter parameters
+   * @param projection fields to deserialize, e.g. {@code Projection.of("full_name", "archived")}
+   * @return list of repositories with only the projected fields set
+   */
+  public Iterator<AsyncPage<Repository>> listAuthenticatedUserRepositories(
+      final AuthenticatedUserRepositoriesFilter filter, final Projection projection) {
+    final String serial = filter.serialize();
+    final String path =
+        LIST_REPOSITORIES_FOR_AUTHENTICATED_USER
+            + (Strings.isNullOrEmpty(serial) ? "" : "?" + serial);
+    return new GithubPageIterator<>(
+        new GithubPage<>(
+            github, path, LIST_REPOSITORY, GithubPage.ITEM_PER_PAGE_DEFAULT, projection));
+  }
+
+  /**
+   * List repositories for the authenticated user as a publisher.
+   *
+   * @param filter optional filters
+   * @return publisher of repositories
+   */
+  public Flow.Publisher<Repository> listAuthenticatedUserRepositoriesPublisher(
+      final AuthenticatedUserRepositoriesFilter filter) {
+    final String serial = filter.serialize();
+    final String path =
+        LIST_REPOSITORIES_FOR_AUTHENTICATED_USER
+            + (Strings.isNullOrEmpty(serial) ? "" : "?" + serial);
+    return new AsyncPagePublisher<>(new GithubPage<>(github, path, LIST_REPOSITORY));
+  }
+
   /**
    * Check if a user is collaborator of the repo.
    *
@@ -304,6 +373,87 @@ public class RepositoryClient {
     return downloadRepository(REPOSITORY_DOWNLOAD_ZIPBALL, Optional.of(ref));
   }
 
+  /**
+   * Downloads a tar archive of the repository at the given ref into a file.
+   *
+   * @param ref branch, tag or commit to download
+   * @param target file to write the archive to, replaced if it exists
+   * @return number of bytes written
+   * @see #downloadTarball(String, Path, DownloadProgress)
+   */
+  public CompletableFuture<Long> downloadTarball(final String ref, final Path target) {
+    return downloadTarball(ref, target, DownloadProgress.NONE);
+  }
+
+  /**
+   * Downloads a tar archive of the repository at the given ref into a file. The archive is
+   * transferred straight into the file's channel, its length is verified when the server
+   * announces it, and a dropped connection is resumed with a range request where the server
+   * supports it. The file only appears once complete.
+   *
+   * @param ref branch, tag or commit to download
+   * @param target file to write the archive to, replaced if it exists
+   * @param progress receives the bytes written so far
+   * @return number of bytes written
+   */
+  public CompletableFuture<Long> downloadTarball(
+      final String ref, final Path target, final DownloadProgress progress) {
+    final var repoPath = String.format(REPOSITORY_DOWNLOAD_TARBALL, owner, repo, ref);
+    return FileDownload.download(github, repoPath, Map.of(), target, progress);
+  }
+
+  /**
+   * Downloads a zip archive of the repository at the given ref into a file.
+   *
+   * @param ref branch, tag or commit to download
+   * @param target file to write the archive to, replaced if it exists
+   * @return number of bytes written
+   * @see #downloadTarball(String, Path, DownloadProgress)
+   */
+  public CompletableFuture<Long> downloadZipball(final String ref, final Path target) {
+    return downloadZipball(ref, target, DownloadProgress.NONE);
+  }
+
+  /**
+   * Downloads a zip archive of the repository at the given ref into a file, like {@link
+   * #downloadTarball(String, Path, DownloadProgress)}.
+   *
+   * @param ref branch, tag or commit to download
+   * @param target file to write the archive to, replaced if it exists
+   * @param progress receives the bytes written so far
+   * @return number of bytes written
+   */
+  public CompletableFuture<Long> downloadZipball(
+      final String ref, final Path target, final DownloadProgress progress) {
+    final var repoPath = String.format(REPOSITORY_DOWNLOAD_ZIPBALL, owner, repo, ref);
+    return FileDownload.download(github, repoPath, Map.of(), target, progress);
+  }
+
+  /**
+   * Streams the files of the repository at the given ref out of its tarball, without writing the
+   * archive anywhere. Files rejected by the filter are skipped as they go past. The reader must
+   * be closed to release the connection.
+   *
+   * @param ref branch, tag or commit to read
+   * @param pathFilter accepts the repository relative paths of the files to return
+   * @return reader iterating the accepted files
+   */
+  public CompletableFuture<TarballReader> readTarball(
+      final String ref, final Predicate<String> pathFilter) {
+    final var repoPath = String.format(REPOSITORY_DOWNLOAD_TARBALL, owner, repo, ref);
+    return github
+        .request(repoPath)
+        .thenApply(
+            response -> {
+              try {
+                return TarballReader.gzip(response.body(), pathFilter);
+              } catch (IOException e) {
+                response.close();
+                throw new UncheckedIOException(e);
+              }
+            });
+  }
+
   private CompletableFuture<Optional<InputStream>> downloadRepository(
       final String path, final Optional<String> maybeRef) {
     final var repoRef = maybeRef.orElse("");
@@ -392,6 +542,21 @@ public class RepositoryClient {
     return new GithubPageIterator<>(new GithubPage<>(github, path, LIST_STATUS_TYPE_REFERENCE));
   }
 
+  /**
+   * List statuses for a specific ref as a publisher. Statuses are published in reverse
+   * chronological order.
+   *
+   * @param sha the commit sha
+   * @param itemsPerPage number of items per page
+   * @return publisher of statuses
+   */
+  public Flow.Publisher<Status> listCommitStatusesPublisher(
+      final String sha, final int itemsPerPage) {
+    final String path = String.format(STATUS_URI_TEMPLATE, owner, repo, sha);
+    return new AsyncPagePublisher<>(
+        new GithubPage<>(github, path, LIST_STATUS_TYPE_REFERENCE, itemsPerPage));
+  }
+
   /**
    * List repository commits.
    *
@@ -426,7 +591,7 @@ public class RepositoryClient {
    */
   public CompletableFuture<Commit> getCommit(final String sha) {
     final String path = String.format(COMMIT_SHA_URI_TEMPLATE, owner, repo, sha);
-    return github.request(path, Commit.class);
+    return GitObjectCache.request(github, path, sha, Commit.class);
   }
 
   /**
@@ -439,7 +604,7 @@ public class RepositoryClient {
   @Deprecated
   public CompletableFuture<Tree> getTree(final String sha) {
     final String path = String.format(TREE_SHA_URI_TEMPLATE, owner, repo, sha);
-    return github.request(path, Tree.class);
+    return GitObjectCache.request(github, path, sha, Tree.class);
   }
 
   /**
@@ -463,6 +628,86 @@ public class RepositoryClient {
     return github.request(getContentPath(path, "?ref=" + ref), Content.class);
   }
 
+  /**
+   * Get repository contents of a file, decoding its base64 content into the given file while the
+   * response is parsed. Neither the encoded nor the decoded content is held in memory. The target
+   * is removed again if the content cannot be written.
+   *
+   * @param path path to a file
+   * @param ref name of the commit/branch/tag
+   * @param target file to write the content to, replaced if it exists
+   * @return number of bytes written
+   */
+  public CompletableFuture<Long> getFileContent(
+      final String path, final String ref, final Path target) {
+    return github
+        .request(getContentPath(path, "?ref=" + ref))
+        .thenApply(
+            response -> {
+              try (InputStream body = response.body();
+                  OutputStream out = Files.newOutputStream(target)) {
+                return Base64ContentDecoder.decode(body, out);
+              } catch (IOException e) {
+                deleteIfExists(target, e);
+                throw new UncheckedIOException(e);
+              } finally {
+                response.close();
+              }
+            });
+  }
+
+  /**
+   * Get repository contents of a file as raw media. The body is streamed rather than embedded in
+   * JSON as base64, which also works for files above the 1 MB limit of the JSON representation.
+   * The caller must close the returned stream.
+   *
+   * @param path path to a file
+   * @return file content
+   */
+  public CompletableFuture<InputStream> getRawFileContent(final String path) {
+    return rawFileContent(getContentPath(path, ""));
+  }
+
+  /**
+   * Get repository contents of a file as raw media. The caller must close the returned stream.
+   *
+   * @param path path to a file
+   * @param ref name of the commit/branch/tag
+   * @return file content
+   */
+  public CompletableFuture<InputStream> getRawFileContent(final String path, final String ref) {
+    return rawFileContent(getContentPath(path, "?ref=" + ref));
+  }
+
+  /**
+   * Get repository contents of a file as raw media, as a channel. The caller must close the
+   * returned channel.
+   *
+   * @param path path to a file
+   * @param ref name of the commit/branch/tag
+   * @return file content
+   */
+  public CompletableFuture<ReadableByteChannel> getRawFileChannel(
+      final String path, final String ref) {
+    return getRawFileContent(path, ref).thenApply(Channels::newChannel);
+  }
+
+  private CompletableFuture<InputStream> rawFileContent(final String contentPath) {
+    return github
+        .request(contentPath, RAW_MEDIA_HEADERS)
+        .thenApply(
+            response ->
+                Optional.ofNullable(response.body()).orElseGet(InputStream::nullInputStream));
+  }
+
+  private static void deleteIfExists(final Path path, final IOException cause) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      cause.addSuppressed(e);
+    }
+  }
+
   /**
    * Create a file
    *
@@ -581,6 +826,29 @@ public class RepositoryClient {
     return new GithubPageIterator<>(new GithubPage<>(github, path, LIST_BRANCHES));
   }
 
+  /**
+   * List all branches in repository, deserializing only the projected fields of each branch.
+   *
+   * @param projection fields to deserialize, e.g. {@code Projection.of("name", "commit.sha")}
+   * @return list of branches with only the projected fields set
+   */
+  public Iterator<AsyncPage<Branch>> listAllBranches(final Projection projection) {
+    final String path = String.format(LIST_BRANCHES_TEMPLATE, owner, repo);
+    return new GithubPageIterator<>(
+        new GithubPage<>(
+            github, path, LIST_BRANCHES, GithubPage.ITEM_PER_PAGE_DEFAULT, projection));
+  }
+
+  /**
+   * List all branches in this repository as a publisher.
+   *
+   * @return publisher of branches
+   */
+  public Flow.Publisher<Branch> listAllBranchesPublisher() {
+    final String path = String.format(LIST_BRANCHES_TEMPLATE, owner, repo);
+    return new AsyncPagePublisher<>(new GithubPage<>(github, path, LIST_BRANCHES));
+  }
+
   /**
    * Delete a comment for a given id.
    *
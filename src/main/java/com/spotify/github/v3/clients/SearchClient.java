@@ -21,12 +21,18 @@
 package com.spotify.github.v3.clients;
 
 import com.google.common.base.Strings;
+import com.spotify.github.http.HttpResponse;
+import com.spotify.github.v3.User;
+import com.spotify.github.v3.repos.Repository;
+import com.spotify.github.v3.search.SearchIssue;
 import com.spotify.github.v3.search.SearchIssues;
 import com.spotify.github.v3.search.SearchRepositories;
 import com.spotify.github.v3.search.SearchUsers;
 import com.spotify.github.v3.search.requests.SearchParameters;
+import com.spotify.github.v3.search.requests.SearchRange;
 import java.lang.invoke.MethodHandles;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +43,9 @@ public class SearchClient {
   static final String USERS_URI = "/search/users";
   static final String REPOSITORIES_URI = "/search/repositories";
   static final String ISSUES_URI = "/search/issues";
+  /** Most search pages requested at a time by a streaming search. */
+  static final int DEFAULT_SEARCH_PARALLELISM = 4;
+
   private final GitHubClient github;
 
   SearchClient(final GitHubClient github) {
@@ -77,11 +86,149 @@ public class SearchClient {
     return search(REPOSITORIES_URI, parameters, SearchRepositories.class);
   }
 
+  /**
+   * Stream every user matching a search. GitHub lists at most 1000 results per query, so past
+   * that the results are cut short; use {@link #streamUsers(SearchParameters, SearchRange,
+   * Consumer)} to get them all.
+   *
+   * @param parameters user search parameters, the page and page size are ignored
+   * @param consumer called with each user, one at a time
+   * @return completes once every user has been handed to the consumer
+   */
+  public CompletableFuture<Void> streamUsers(
+      final SearchParameters parameters, final Consumer<User> consumer) {
+    return streamUsers(parameters, null, consumer);
+  }
+
+  /**
+   * Stream every user matching a search, splitting it along a range, such as {@code
+   * created} dates or {@code followers}, whenever it matches more than 1000 users.
+   *
+   * @param parameters user search parameters, the page and page size are ignored
+   * @param partitionBy range covering every user searched for
+   * @param consumer called with each user, one at a time
+   * @return completes once every user has been handed to the consumer
+   */
+  public CompletableFuture<Void> streamUsers(
+      final SearchParameters parameters,
+      final SearchRange partitionBy,
+      final Consumer<User> consumer) {
+    final Object lane = new Object();
+    return SearchStream.stream(
+        p -> search(USERS_URI, p, SearchUsers.class, lane),
+        SearchUsers::items,
+        User::id,
+        parameters,
+        partitionBy,
+        DEFAULT_SEARCH_PARALLELISM,
+        consumer);
+  }
+
+  /**
+   * Stream every issue matching a search. GitHub lists at most 1000 results per query, so past
+   * that the results are cut short; use {@link #streamIssues(SearchParameters, SearchRange,
+   * Consumer)} to get them all.
+   *
+   * @param parameters issue search parameters, the page and page size are ignored
+   * @param consumer called with each issue, one at a time
+   * @return completes once every issue has been handed to the consumer
+   */
+  public CompletableFuture<Void> streamIssues(
+      final SearchParameters parameters, final Consumer<SearchIssue> consumer) {
+    return streamIssues(parameters, null, consumer);
+  }
+
+  /**
+   * Stream every issue matching a search, splitting it along a range, such as {@code created}
+   * or {@code updated} dates, whenever it matches more than 1000 issues.
+   *
+   * @param parameters issue search parameters, the page and page size are ignored
+   * @param partitionBy range covering every issue searched for
+   * @param consumer called with each issue, one at a time
+   * @return completes once every issue has been handed to the consumer
+   */
+  public CompletableFuture<Void> streamIssues(
+      final SearchParameters parameters,
+      final SearchRange partitionBy,
+      final Consumer<SearchIssue> consumer) {
+    final Object lane = new Object();
+    return SearchStream.stream(
+        p -> search(ISSUES_URI, p, SearchIssues.class, lane),
+        SearchIssues::items,
+        SearchIssue::id,
+        parameters,
+        partitionBy,
+        DEFAULT_SEARCH_PARALLELISM,
+        consumer);
+  }
+
+  /**
+   * Stream every repository matching a search. GitHub lists at most 1000 results per query, so
+   * past that the results are cut short; use {@link #streamRepositories(SearchParameters,
+   * SearchRange, Consumer)} to get them all.
+   *
+   * @param parameters repository search parameters, the page and page size are ignored
+   * @param consumer called with each repository, one at a time
+   * @return completes once every repository has been handed to the consumer
+   */
+  public CompletableFuture<Void> streamRepositories(
+      final SearchParameters parameters, final Consumer<Repository> consumer) {
+    return streamRepositories(parameters, null, consumer);
+  }
+
+  /**
+   * Stream every repository matching a search, splitting it along a range, such as {@code
+   * created} dates or {@code size}, whenever it matches more than 1000 repositories.
+   *
+   * @param parameters repository search parameters, the page and page size are ignored
+   * @param partitionBy range covering every repository searched for
+   * @param consumer called with each repository, one at a time
+   * @return completes once every repository has been handed to the consumer
+   */
+  public CompletableFuture<Void> streamRepositories(
+      final SearchParameters parameters,
+      final SearchRange partitionBy,
+      final Consumer<Repository> consumer) {
+    final Object lane = new Object();
+    return SearchStream.stream(
+        p -> search(REPOSITORIES_URI, p, SearchRepositories.class, lane),
+        SearchRepositories::items,
+        Repository::id,
+        parameters,
+        partitionBy,
+        DEFAULT_SEARCH_PARALLELISM,
+        consumer);
+  }
+
+  /**
+   * The pacer holding back search requests to keep within the search rate limit. It is shared by
+   * the search clients of a {@link GitHubClient}, and reports how long searches wait.
+   *
+   * @return search pacer
+   */
+  public SearchPacer pacer() {
+    return github.searchPacer();
+  }
+
   private <T> CompletableFuture<T> search(
       final String baseUrl, final SearchParameters parameters, final Class<T> clazz) {
+    return search(baseUrl, parameters, clazz, null);
+  }
+
+  private <T> CompletableFuture<T> search(
+      final String baseUrl,
+      final SearchParameters parameters,
+      final Class<T> clazz,
+      final Object lane) {
     final String serial = parameters.serialize();
     final String path = baseUrl + (Strings.isNullOrEmpty(serial) ? "" : "?" + serial);
     log.debug("Fetching search result for:" + path);
-    return github.request(path, clazz);
+    final SearchPacer pacer = github.searchPacer();
+    final CompletableFuture<HttpResponse> response =
+        lane == null
+            ? pacer.submit(() -> github.request(path))
+            : pacer.submit(lane, () -> github.request(path));
+    return response.thenApply(
+        r -> github.json().fromJsonUncheckedNotNull(r.bodyString(), clazz));
   }
 }
@@ -0,0 +1,363 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.spotify.github.http.HttpResponse;
+import com.spotify.github.v3.exceptions.RequestNotOkException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Paces search requests, which GitHub counts against a rate limit of their own, much lower than
+ * the one of the rest of the API, and watches for abuse with secondary limits.
+ *
+ * <p>Requests wait in a local queue until they may start without exceeding:
+ *
+ * <ul>
+ *   <li>the search limit, {@value #SEARCH_REQUESTS_PER_MINUTE} requests a minute until GitHub
+ *       reports another one in {@code X-RateLimit-Limit};
+ *   <li>the requests left until the limit resets, as reported by {@code X-RateLimit-Remaining} and
+ *       {@code X-RateLimit-Reset}, spread evenly over the time left rather than sent in a burst;
+ *   <li>any {@code Retry-After} delay asked for by GitHub.
+ * </ul>
+ *
+ * <p>Requests are queued per lane, each search stream having its own, and lanes take turns, so a
+ * large partitioned search does not hold back other searches. Waiting never blocks a thread.
+ */
+public final class SearchPacer {
+
+  /** Search requests GitHub allows per minute to an authenticated client. */
+  static final int SEARCH_REQUESTS_PER_MINUTE = 30;
+
+  private static final String SEARCH = "search";
+  private static final long MILLIS_PER_SECOND = 1000;
+
+  /** Schedules a task after a delay. */
+  interface Scheduler {
+    void schedule(Runnable task, long delayMillis);
+  }
+
+  private final long windowMillis;
+  private final LongSupplier clock;
+  private final Scheduler scheduler;
+  private final Deque<Long> starts = new ArrayDeque<>();
+  private final Map<Object, Lane> lanes = new IdentityHashMap<>();
+  private final Deque<Lane> turns = new ArrayDeque<>();
+  private final Object sharedLane = new Object();
+  private final AtomicLong dispatched = new AtomicLong();
+  private final AtomicLong totalWaitMillis = new AtomicLong();
+  private final AtomicLong maxWaitMillis = new AtomicLong();
+  private int limit;
+  private int remaining = -1;
+  private long resetAt;
+  private long pausedUntil;
+  private long lastStart;
+  private long wakeUpAt = Long.MAX_VALUE;
+  private int queued;
+  private int maxQueued;
+
+  SearchPacer(
+      final int limit,
+      final Duration window,
+      final LongSupplier clock,
+      final Scheduler scheduler) {
+    this.limit = limit;
+    this.windowMillis = window.toMillis();
+    this.clock = clock;
+    this.scheduler = scheduler;
+  }
+
+  static SearchPacer create() {
+    return new SearchPacer(
+        SEARCH_REQUESTS_PER_MINUTE,
+        Duration.ofMinutes(1),
+        System::currentTimeMillis,
+        (task, delay) ->
+            CompletableFuture.delayedExecutor(delay, MILLISECONDS).execute(task));
+  }
+
+  /**
+   * Queue a request in the lane shared by one-off searches.
+   *
+   * @param request starts the request
+   * @return response
+   */
+  CompletableFuture<HttpResponse> submit(final Supplier<CompletableFuture<HttpResponse>> request) {
+    return submit(sharedLane, request);
+  }
+
+  /**
+   * Queue a request in a lane.
+   *
+   * @param lane key of the lane, compared by identity
+   * @param request starts the request
+   * @return response
+   */
+  CompletableFuture<HttpResponse> submit(
+      final Object lane, final Supplier<CompletableFuture<HttpResponse>> request) {
+    final Pending pending = new Pending(request, clock.getAsLong());
+    synchronized (this) {
+      final Lane queue =
+          lanes.computeIfAbsent(
+              lane,
+              key -> {
+                final Lane created = new Lane(key);
+                turns.addLast(created);
+                return created;
+              });
+      queue.pending.addLast(pending);
+      queued++;
+      maxQueued = Math.max(maxQueued, queued);
+    }
+    dispatch();
+    return pending.response;
+  }
+
+  /**
+   * Number of search requests waiting for their turn.
+   *
+   * @return queue depth
+   */
+  public synchronized int queueDepth() {
+    return queued;
+  }
+
+  /**
+   * Largest number of search requests seen waiting at once.
+   *
+   * @return peak queue depth
+   */
+  public synchronized int maxQueueDepth() {
+    return maxQueued;
+  }
+
+  /**
+   * Number of search requests started.
+   *
+   * @return requests started
+   */
+  public long dispatched() {
+    return dispatched.get();
+  }
+
+  /**
+   * Time search requests spent waiting in the queue, all together.
+   *
+   * @return total wait
+   */
+  public Duration totalWait() {
+    return Duration.ofMillis(totalWaitMillis.get());
+  }
+
+  /**
+   * Longest time a search request spent waiting in the queue.
+   *
+   * @return longest wait
+   */
+  public Duration maxWait() {
+    return Duration.ofMillis(maxWaitMillis.get());
+  }
+
+  private void dispatch() {
+    while (true) {
+      final Pending next;
+      synchronized (this) {
+        if (turns.isEmpty()) {
+          return;
+        }
+        final long now = clock.getAsLong();
+        final long at = earliestStart(now);
+        if (at > now) {
+          if (at < wakeUpAt) {
+            wakeUpAt = at;
+            scheduler.schedule(this::wakeUp, at - now);
+          }
+          return;
+        }
+        final Lane lane = turns.pollFirst();
+        next = lane.pending.pollFirst();
+        if (lane.pending.isEmpty()) {
+          lanes.remove(lane.key);
+        } else {
+          turns.addLast(lane);
+        }
+        queued--;
+        starts.addLast(now);
+        lastStart = now;
+        if (remaining > 0) {
+          remaining--;
+        }
+        final long waited = now - next.queuedAt;
+        totalWaitMillis.addAndGet(waited);
+        maxWaitMillis.accumulateAndGet(waited, Math::max);
+      }
+      dispatched.incrementAndGet();
+      start(next);
+    }
+  }
+
+  private void wakeUp() {
+    synchronized (this) {
+      wakeUpAt = Long.MAX_VALUE;
+    }
+    dispatch();
+  }
+
+  private void start(final Pending pending) {
+    final CompletableFuture<HttpResponse> response;
+    try {
+      response = pending.request.get();
+    } catch (RuntimeException e) {
+      pending.response.completeExceptionally(e);
+      return;
+    }
+    response.whenComplete(
+        (value, throwable) -> {
+          if (throwable != null) {
+            final Throwable cause =
+                throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause()
+                    : throwable;
+            if (cause instanceof RequestNotOkException) {
+              observe(((RequestNotOkException) cause).headers());
+            }
+            pending.response.completeExceptionally(cause);
+          } else {
+            observe(value.headers());
+            pending.response.complete(value);
+          }
+          dispatch();
+        });
+  }
+
+  /** Earliest time the next request may start. Called with the lock held. */
+  private long earliestStart(final long now) {
+    while (!starts.isEmpty() && starts.peekFirst() + windowMillis <= now) {
+      starts.pollFirst();
+    }
+    long at = Math.max(now, pausedUntil);
+    if (starts.size() >= limit) {
+      at = Math.max(at, starts.peekFirst() + windowMillis);
+    }
+    if (resetAt <= now) {
+      remaining = -1;
+    } else if (remaining == 0) {
+      at = Math.max(at, resetAt);
+    } else if (remaining > 0) {
+      at = Math.max(at, lastStart + (resetAt - now) / remaining);
+    }
+    return at;
+  }
+
+  /**
+   * Update the pacing from the rate limit headers of a search response.
+   *
+   * @param headers response headers
+   */
+  void observe(final Map<String, List<String>> headers) {
+    final String resource = header(headers, "X-RateLimit-Resource");
+    if (resource != null && !SEARCH.equals(resource)) {
+      return;
+    }
+    final long now = clock.getAsLong();
+    synchronized (this) {
+      final Long reportedLimit = number(header(headers, "X-RateLimit-Limit"));
+      if (reportedLimit != null && reportedLimit > 0) {
+        limit = reportedLimit.intValue();
+      }
+      final Long reportedRemaining = number(header(headers, "X-RateLimit-Remaining"));
+      final Long reportedReset = number(header(headers, "X-RateLimit-Reset"));
+      if (reportedRemaining != null && reportedReset != null) {
+        final long reset = reportedReset * MILLIS_PER_SECOND;
+        if (reset == resetAt && remaining >= 0) {
+          // Responses may arrive out of order; the lowest count is the most recent.
+          remaining = (int) Math.min(remaining, reportedRemaining);
+        } else if (reset > now) {
+          resetAt = reset;
+          remaining = reportedRemaining.intValue();
+        }
+      }
+      final Long retryAfter = number(header(headers, "Retry-After"));
+      if (retryAfter != null) {
+        pausedUntil = Math.max(pausedUntil, now + retryAfter * MILLIS_PER_SECOND);
+      }
+    }
+  }
+
+  private static String header(final Map<String, List<String>> headers, final String name) {
+    if (headers == null) {
+      return null;
+    }
+    for (final Map.Entry<String, List<String>> header : headers.entrySet()) {
+      if (name.equalsIgnoreCase(header.getKey())) {
+        final List<String> values =
+            header.getValue() == null ? Collections.emptyList() : header.getValue();
+        return values.isEmpty() ? null : values.get(0);
+      }
+    }
+    return null;
+  }
+
+  private static Long number(final String value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return Long.parseLong(value.trim());
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /** Requests of one lane, in order. */
+  private static final class Lane {
+    private final Object key;
+    private final Deque<Pending> pending = new ArrayDeque<>();
+
+    private Lane(final Object key) {
+      this.key = key;
+    }
+  }
+
+  /** A request waiting for its turn. */
+  private static final class Pending {
+    private final Supplier<CompletableFuture<HttpResponse>> request;
+    private final long queuedAt;
+    private final CompletableFuture<HttpResponse> response = new CompletableFuture<>();
+
+    private Pending(final Supplier<CompletableFuture<HttpResponse>> request, final long queuedAt) {
+      this.request = request;
+      this.queuedAt = queuedAt;
+    }
+  }
+}
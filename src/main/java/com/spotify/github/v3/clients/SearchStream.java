@@ -0,0 +1,151 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import com.spotify.github.async.BoundedScheduler;
+import com.spotify.github.v3.search.Search;
+import com.spotify.github.v3.search.requests.ImmutableSearchParameters;
+import com.spotify.github.v3.search.requests.SearchParameters;
+import com.spotify.github.v3.search.requests.SearchRange;
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Streams every result of a search, however many. GitHub returns at most {@link #MAX_RESULTS}
+ * results per query; when a query matches more, it is split along a {@link SearchRange} into
+ * disjoint queries, each estimated to fit, and those still too large are split again. Pages are
+ * requested up to {@code parallelism} at a time.
+ *
+ * <p>Results are matched by id so that one moving between pages or partitions while the search
+ * runs, an issue being updated for instance, is handed to the consumer only once.
+ *
+ * @param <R> search response type
+ * @param <T> result type
+ */
+final class SearchStream<R extends Search, T> {
+
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  /** Most results GitHub returns for a single query. */
+  static final int MAX_RESULTS = 1000;
+
+  /** Largest page size of the search API. */
+  static final int PAGE_SIZE = 100;
+
+  private final Function<SearchParameters, CompletableFuture<R>> fetch;
+  private final Function<R, List<T>> items;
+  private final Function<T, Object> id;
+  private final SearchParameters parameters;
+  private final Consumer<T> consumer;
+  private final BoundedScheduler<Query, R> scheduler;
+  private final Set<Object> seen = new HashSet<>();
+
+  private SearchStream(
+      final Function<SearchParameters, CompletableFuture<R>> fetch,
+      final Function<R, List<T>> items,
+      final Function<T, Object> id,
+      final SearchParameters parameters,
+      final int parallelism,
+      final Consumer<T> consumer) {
+    this.fetch = fetch;
+    this.items = items;
+    this.id = id;
+    this.parameters = parameters;
+    this.consumer = consumer;
+    this.scheduler = BoundedScheduler.create(parallelism, this::page, this::handle);
+  }
+
+  static <R extends Search, T> CompletableFuture<Void> stream(
+      final Function<SearchParameters, CompletableFuture<R>> fetch,
+      final Function<R, List<T>> items,
+      final Function<T, Object> id,
+      final SearchParameters parameters,
+      final SearchRange partitionBy,
+      final int parallelism,
+      final Consumer<T> consumer) {
+    final SearchStream<R, T> stream =
+        new SearchStream<>(fetch, items, id, parameters, parallelism, consumer);
+    stream.scheduler.submit(new Query(partitionBy, 1));
+    return stream.scheduler.run();
+  }
+
+  private CompletableFuture<R> page(final Query query) {
+    return fetch.apply(parametersFor(query));
+  }
+
+  private SearchParameters parametersFor(final Query query) {
+    final String q = parameters.q() == null ? "" : parameters.q();
+    return ImmutableSearchParameters.builder()
+        .from(parameters)
+        .q(query.range == null ? q : (q + " " + query.range.toQualifier()).trim())
+        .per_page(PAGE_SIZE)
+        .page(query.page)
+        .build();
+  }
+
+  private void handle(final Query query, final R response) {
+    final int total = response.totalCount() == null ? 0 : response.totalCount();
+    if (query.page == 1) {
+      if (total > MAX_RESULTS && query.range != null && query.range.isSplittable()) {
+        // Aim for parts half full, so that most fit even when results are unevenly spread.
+        final int parts = (int) Math.min(Integer.MAX_VALUE, 2L * total / MAX_RESULTS + 1);
+        query.range.split(parts).forEach(range -> scheduler.submit(new Query(range, 1)));
+        return;
+      }
+      if (total > MAX_RESULTS) {
+        log.warn(
+            "Search for {} matches {} results, only the first {} can be listed",
+            parametersFor(query).q(),
+            total,
+            MAX_RESULTS);
+      }
+      final int pages = (Math.min(total, MAX_RESULTS) + PAGE_SIZE - 1) / PAGE_SIZE;
+      for (int page = 2; page <= pages; page++) {
+        scheduler.submit(new Query(query.range, page));
+      }
+    }
+    final List<T> found = items.apply(response);
+    for (final T item : found == null ? Collections.<T>emptyList() : found) {
+      if (seen.add(id.apply(item))) {
+        consumer.accept(item);
+      }
+    }
+  }
+
+  /** A page of a query, narrowed to a range when partitioned. */
+  private static final class Query {
+    private final SearchRange range;
+    private final int page;
+
+    private Query(final SearchRange range, final int page) {
+      this.range = range;
+      this.page = page;
+    }
+  }
+}
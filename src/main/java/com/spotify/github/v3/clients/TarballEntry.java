@@ -0,0 +1,85 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import java.io.InputStream;
+
+/**
+ * A regular file read from a repository tarball. The content stream is only valid until the next
+ * entry is requested from the {@link TarballReader} it came from.
+ */
+public final class TarballEntry {
+
+  private final String path;
+  private final long size;
+  private final int mode;
+  private final InputStream content;
+
+  TarballEntry(final String path, final long size, final int mode, final InputStream content) {
+    this.path = path;
+    this.size = size;
+    this.mode = mode;
+    this.content = content;
+  }
+
+  /**
+   * Path of the file within the repository, without the top level directory GitHub wraps the
+   * archive in.
+   *
+   * @return path, using forward slashes
+   */
+  public String path() {
+    return path;
+  }
+
+  /**
+   * Size of the file.
+   *
+   * @return size in bytes
+   */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * Unix permission bits of the file, e.g. 0755 for executables.
+   *
+   * @return file mode
+   */
+  public int mode() {
+    return mode;
+  }
+
+  /**
+   * Content of the file, ending after {@link #size()} bytes. Closing it does not close the
+   * archive.
+   *
+   * @return content stream
+   */
+  public InputStream content() {
+    return content;
+  }
+
+  @Override
+  public String toString() {
+    return path + " (" + size + " bytes)";
+  }
+}
@@ -0,0 +1,388 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Iterates the regular files of a gzipped tar archive, such as a repository tarball, straight off
+ * its stream.
+ *
+ * <p>Only one 512 byte header block is held at a time. Entries rejected by the path filter, and
+ * whatever a consumer leaves unread of an accepted entry, are skipped without being buffered, so
+ * memory use does not depend on the size of the archive. Directories, links and other special
+ * entries are skipped too. Both ustar and the PAX and GNU long name extensions GitHub emits are
+ * understood.
+ *
+ * <p>Errors reading the archive surface as {@link UncheckedIOException} from the iterator.
+ */
+public final class TarballReader implements Iterator<TarballEntry>, Closeable {
+
+  private static final int BLOCK = 512;
+  private static final int NAME_OFFSET = 0;
+  private static final int NAME_LENGTH = 100;
+  private static final int MODE_OFFSET = 100;
+  private static final int MODE_LENGTH = 8;
+  private static final int SIZE_OFFSET = 124;
+  private static final int SIZE_LENGTH = 12;
+  private static final int CHECKSUM_OFFSET = 148;
+  private static final int CHECKSUM_LENGTH = 8;
+  private static final int TYPE_OFFSET = 156;
+  private static final int MAGIC_OFFSET = 257;
+  private static final int PREFIX_OFFSET = 345;
+  private static final int PREFIX_LENGTH = 155;
+  private static final int MAX_EXTENDED_HEADER = 1_048_576;
+  private static final int BYTE_MASK = 0xff;
+  private static final int BINARY_FLAG = 0x80;
+  private static final int BINARY_VALUE_MASK = 0x7f;
+  private static final int BITS_PER_BYTE = 8;
+  private static final int OCTAL = 8;
+  private static final int DECIMAL = 10;
+  private static final int GZIP_BUFFER = 65_536;
+  private static final byte[] USTAR = "ustar".getBytes(UTF_8);
+
+  private final InputStream in;
+  private final Predicate<String> filter;
+  private final byte[] header = new byte[BLOCK];
+  private TarballEntry next;
+  private EntryStream current;
+  private boolean finished;
+
+  private TarballReader(final InputStream in, final Predicate<String> filter) {
+    this.in = in;
+    this.filter = filter;
+  }
+
+  /**
+   * Reads a gzipped tar archive.
+   *
+   * @param archive compressed archive, closed along with the reader
+   * @param filter accepts the repository relative paths of the files to return
+   * @return reader
+   * @throws IOException if the stream is not gzipped
+   */
+  public static TarballReader gzip(final InputStream archive, final Predicate<String> filter)
+      throws IOException {
+    return new TarballReader(new GZIPInputStream(archive, GZIP_BUFFER), requireNonNull(filter));
+  }
+
+  /**
+   * Reads an uncompressed tar archive.
+   *
+   * @param archive archive, closed along with the reader
+   * @param filter accepts the repository relative paths of the files to return
+   * @return reader
+   */
+  public static TarballReader tar(final InputStream archive, final Predicate<String> filter) {
+    return new TarballReader(requireNonNull(archive), requireNonNull(filter));
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null && !finished) {
+      try {
+        next = readNext();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return next != null;
+  }
+
+  @Override
+  public TarballEntry next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    final TarballEntry entry = next;
+    next = null;
+    return entry;
+  }
+
+  @Override
+  public void close() throws IOException {
+    finished = true;
+    in.close();
+  }
+
+  private TarballEntry readNext() throws IOException {
+    if (current != null) {
+      current.skipRemaining();
+      current = null;
+    }
+    String longName = null;
+    while (true) {
+      if (!readBlock()) {
+        finished = true;
+        return null;
+      }
+      verifyChecksum();
+      final char type = (char) header[TYPE_OFFSET];
+      final long size = number(SIZE_OFFSET, SIZE_LENGTH);
+      switch (type) {
+        case 'x':
+          longName = paxPath(readExtended(size), longName);
+          break;
+        case 'L':
+          longName = nullTerminated(readExtended(size));
+          break;
+        case '0':
+        case '\0':
+        case '7':
+          final String name = longName != null ? longName : headerName();
+          longName = null;
+          final String path = stripRoot(name);
+          current = new EntryStream(size);
+          if (!path.isEmpty() && filter.test(path)) {
+            return new TarballEntry(
+                path, size, (int) number(MODE_OFFSET, MODE_LENGTH), current);
+          }
+          current.skipRemaining();
+          current = null;
+          break;
+        default:
+          // Directories, links, devices and global headers carry nothing to return.
+          longName = null;
+          skipPadded(size);
+          break;
+      }
+    }
+  }
+
+  private boolean readBlock() throws IOException {
+    final int read = in.readNBytes(header, 0, BLOCK);
+    if (read == 0) {
+      return false;
+    }
+    if (read < BLOCK) {
+      throw new EOFException("Truncated tar header");
+    }
+    for (final byte b : header) {
+      if (b != 0) {
+        return true;
+      }
+    }
+    // A zero block marks the end of the archive.
+    return false;
+  }
+
+  private void verifyChecksum() throws IOException {
+    final long expected = number(CHECKSUM_OFFSET, CHECKSUM_LENGTH);
+    long sum = 0;
+    for (int i = 0; i < BLOCK; i++) {
+      final boolean inChecksum = i >= CHECKSUM_OFFSET && i < CHECKSUM_OFFSET + CHECKSUM_LENGTH;
+      sum += inChecksum ? ' ' : header[i] & BYTE_MASK;
+    }
+    if (sum != expected) {
+      throw new IOException("Invalid tar header checksum");
+    }
+  }
+
+  private byte[] readExtended(final long size) throws IOException {
+    if (size > MAX_EXTENDED_HEADER) {
+      throw new IOException("Extended tar header too large: " + size);
+    }
+    final byte[] data = in.readNBytes((int) size);
+    if (data.length < size) {
+      throw new EOFException("Truncated tar extended header");
+    }
+    skipFully(padding(size));
+    return data;
+  }
+
+  private void skipPadded(final long size) throws IOException {
+    skipFully(size + padding(size));
+  }
+
+  private void skipFully(final long n) throws IOException {
+    long remaining = n;
+    while (remaining > 0) {
+      final long skipped = in.skip(remaining);
+      if (skipped <= 0) {
+        if (in.read() < 0) {
+          throw new EOFException("Truncated tar entry");
+        }
+        remaining--;
+      } else {
+        remaining -= skipped;
+      }
+    }
+  }
+
+  private static long padding(final long size) {
+    return (BLOCK - size % BLOCK) % BLOCK;
+  }
+
+  private String headerName() {
+    final String name = string(NAME_OFFSET, NAME_LENGTH);
+    if (!startsWith(MAGIC_OFFSET, USTAR)) {
+      return name;
+    }
+    final String prefix = string(PREFIX_OFFSET, PREFIX_LENGTH);
+    return prefix.isEmpty() ? name : prefix + "/" + name;
+  }
+
+  private static String stripRoot(final String name) {
+    final int slash = name.indexOf('/');
+    return slash < 0 ? "" : name.substring(slash + 1);
+  }
+
+  /** Finds the path record among the "length key=value\n" records of a PAX header. */
+  private static String paxPath(final byte[] data, final String fallback) throws IOException {
+    int i = 0;
+    String path = fallback;
+    while (i < data.length) {
+      int length = 0;
+      int j = i;
+      while (j < data.length && data[j] != ' ') {
+        length = length * DECIMAL + (data[j] - '0');
+        j++;
+      }
+      if (length <= 0 || i + length > data.length) {
+        throw new IOException("Malformed PAX header");
+      }
+      final String record = new String(data, j + 1, i + length - j - 2, UTF_8);
+      if (record.startsWith("path=")) {
+        path = record.substring("path=".length());
+      }
+      i += length;
+    }
+    return path;
+  }
+
+  private static String nullTerminated(final byte[] data) {
+    int end = 0;
+    while (end < data.length && data[end] != 0) {
+      end++;
+    }
+    return new String(data, 0, end, UTF_8);
+  }
+
+  private String string(final int offset, final int length) {
+    int end = offset;
+    while (end < offset + length && header[end] != 0) {
+      end++;
+    }
+    return new String(header, offset, end - offset, UTF_8);
+  }
+
+  private boolean startsWith(final int offset, final byte[] magic) {
+    for (int i = 0; i < magic.length; i++) {
+      if (header[offset + i] != magic[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Parses an octal field, or a base-256 one as used by GNU tar for large sizes. */
+  private long number(final int offset, final int length) throws IOException {
+    if ((header[offset] & BINARY_FLAG) != 0) {
+      long value = header[offset] & BINARY_VALUE_MASK;
+      for (int i = offset + 1; i < offset + length; i++) {
+        value = (value << BITS_PER_BYTE) | (header[i] & BYTE_MASK);
+      }
+      return value;
+    }
+    long value = 0;
+    int i = offset;
+    while (i < offset + length && (header[i] == ' ' || header[i] == 0)) {
+      i++;
+    }
+    for (; i < offset + length && header[i] != ' ' && header[i] != 0; i++) {
+      if (header[i] < '0' || header[i] > '7') {
+        throw new IOException("Invalid tar header number");
+      }
+      value = value * OCTAL + (header[i] - '0');
+    }
+    return value;
+  }
+
+  /** Content of the current entry, bounded by its size. */
+  private final class EntryStream extends InputStream {
+    private final long size;
+    private long remaining;
+
+    private EntryStream(final long size) {
+      this.size = size;
+      this.remaining = size;
+    }
+
+    @Override
+    public int read() throws IOException {
+      if (remaining <= 0) {
+        return -1;
+      }
+      final int b = in.read();
+      if (b < 0) {
+        throw new EOFException("Truncated tar entry");
+      }
+      remaining--;
+      return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+      if (remaining <= 0) {
+        return len == 0 ? 0 : -1;
+      }
+      final int read = in.read(b, off, (int) Math.min(len, remaining));
+      if (read < 0) {
+        throw new EOFException("Truncated tar entry");
+      }
+      remaining -= read;
+      return read;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+      final long skipped = in.skip(Math.min(n, remaining));
+      remaining -= Math.max(skipped, 0);
+      return Math.max(skipped, 0);
+    }
+
+    @Override
+    public int available() throws IOException {
+      return (int) Math.min(in.available(), remaining);
+    }
+
+    @Override
+    public void close() {
+      // The archive stays open for the following entries.
+    }
+
+    private void skipRemaining() throws IOException {
+      skipFully(remaining + padding(size));
+      remaining = 0;
+    }
+  }
+}
@@ -23,6 +23,7 @@ package com.spotify.github.v3.clients;
 import static com.spotify.github.v3.clients.GitHubClient.*;
 
 import com.spotify.github.async.AsyncPage;
+import com.spotify.github.async.AsyncPagePublisher;
 import com.spotify.github.v3.Team;
 import com.spotify.github.v3.User;
 import com.spotify.github.v3.orgs.Membership;
@@ -36,6 +37,7 @@ import java.lang.invoke.MethodHandles;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -181,6 +183,19 @@ public class TeamClient {
     return new GithubPageIterator<>(new GithubPage<>(github, path, LIST_TEAM_MEMBERS, pageSize));
   }
 
+  /**
+   * List members of a specific team as a publisher.
+   *
+   * @param slug the team slug
+   * @param pageSize the number of users to fetch per page
+   * @return publisher of all users in a team
+   */
+  public Flow.Publisher<User> listTeamMembersPublisher(final String slug, final int pageSize) {
+    final String path = String.format(PAGED_MEMBERS_TEMPLATE, org, slug);
+    log.debug("Fetching members for: {}", path);
+    return new AsyncPagePublisher<>(new GithubPage<>(github, path, LIST_TEAM_MEMBERS, pageSize));
+  }
+
   /**
    * Delete a membership for a user.
    *
@@ -0,0 +1,203 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import com.spotify.github.async.BoundedScheduler;
+import com.spotify.github.v3.git.ImmutableTreeChange;
+import com.spotify.github.v3.git.ImmutableTreeItem;
+import com.spotify.github.v3.git.Tree;
+import com.spotify.github.v3.git.TreeChange;
+import com.spotify.github.v3.git.TreeItem;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Compares two trees top down. Entries with the same sha on both sides are skipped without
+ * being fetched, so only the subtrees that actually differ cost requests. Subtrees present on one
+ * side only are listed to report each of their files as added or deleted. Up to {@code
+ * parallelism} comparisons or listings are in flight at a time, and changes are handed to the
+ * consumer as each is found.
+ */
+final class TreeDiffer {
+
+  private static final String TREE = "tree";
+
+  private final GitDataClient git;
+  private final Consumer<TreeChange> consumer;
+  private final BoundedScheduler<Task, List<Tree>> scheduler;
+
+  private TreeDiffer(
+      final GitDataClient git, final int parallelism, final Consumer<TreeChange> consumer) {
+    this.git = git;
+    this.consumer = consumer;
+    this.scheduler = BoundedScheduler.create(parallelism, this::fetch, this::handle);
+  }
+
+  static CompletableFuture<Void> diff(
+      final GitDataClient git,
+      final String oldSha,
+      final String newSha,
+      final int parallelism,
+      final Consumer<TreeChange> consumer) {
+    final TreeDiffer differ = new TreeDiffer(git, parallelism, consumer);
+    if (!oldSha.equals(newSha)) {
+      differ.scheduler.submit(Task.compare(oldSha, newSha, ""));
+    }
+    return differ.scheduler.run();
+  }
+
+  /** Fetch the trees of a task: the old and the new tree to compare, or the one to list. */
+  private CompletableFuture<List<Tree>> fetch(final Task task) {
+    if (task.side == null) {
+      return git.getTree(task.oldSha).thenCombine(git.getTree(task.newSha), List::of);
+    }
+    final CompletableFuture<Tree> tree =
+        task.recursive ? git.getRecursiveTree(task.oldSha) : git.getTree(task.oldSha);
+    return tree.thenApply(List::of);
+  }
+
+  private void handle(final Task task, final List<Tree> trees) {
+    if (task.side == null) {
+      compare(task, trees.get(0), trees.get(1));
+    } else {
+      list(task, trees.get(0));
+    }
+  }
+
+  private void compare(final Task task, final Tree older, final Tree newer) {
+    final Map<String, TreeItem> remaining = new LinkedHashMap<>();
+    for (final TreeItem item : older.tree()) {
+      remaining.put(item.path(), item);
+    }
+    for (final TreeItem added : newer.tree()) {
+      final TreeItem removed = remaining.remove(added.path());
+      if (removed == null) {
+        addedOrDeleted(TreeChange.Type.ADDED, added, task.prefix);
+      } else if (isTree(removed) && isTree(added)) {
+        if (!removed.sha().equals(added.sha())) {
+          scheduler.submit(
+              Task.compare(removed.sha(), added.sha(), task.prefix + added.path() + "/"));
+        }
+      } else if (isTree(removed) || isTree(added)) {
+        addedOrDeleted(TreeChange.Type.DELETED, removed, task.prefix);
+        addedOrDeleted(TreeChange.Type.ADDED, added, task.prefix);
+      } else if (!removed.sha().equals(added.sha())
+          || !Objects.equals(removed.mode(), added.mode())) {
+        emit(TreeChange.Type.MODIFIED, task.prefix, removed, added);
+      }
+    }
+    for (final TreeItem removed : remaining.values()) {
+      addedOrDeleted(TreeChange.Type.DELETED, removed, task.prefix);
+    }
+  }
+
+  private void list(final Task task, final Tree tree) {
+    if (task.recursive && Boolean.TRUE.equals(tree.truncated())) {
+      scheduler.submit(Task.list(task.side, task.oldSha, task.prefix, false));
+      return;
+    }
+    for (final TreeItem item : tree.tree()) {
+      if (!isTree(item)) {
+        emit(task.side, task.prefix, item);
+      } else if (!task.recursive) {
+        scheduler.submit(Task.list(task.side, item.sha(), task.prefix + item.path() + "/", true));
+      }
+    }
+  }
+
+  private void addedOrDeleted(
+      final TreeChange.Type side, final TreeItem item, final String prefix) {
+    if (isTree(item)) {
+      scheduler.submit(Task.list(side, item.sha(), prefix + item.path() + "/", true));
+    } else {
+      emit(side, prefix, item);
+    }
+  }
+
+  private void emit(final TreeChange.Type side, final String prefix, final TreeItem item) {
+    if (side == TreeChange.Type.ADDED) {
+      emit(side, prefix, null, item);
+    } else {
+      emit(side, prefix, item, null);
+    }
+  }
+
+  private void emit(
+      final TreeChange.Type type,
+      final String prefix,
+      final TreeItem older,
+      final TreeItem newer) {
+    final String path = prefix + (newer != null ? newer : older).path();
+    final ImmutableTreeChange.Builder change = ImmutableTreeChange.builder().type(type).path(path);
+    if (older != null) {
+      change.oldItem(withPath(older, path));
+    }
+    if (newer != null) {
+      change.newItem(withPath(newer, path));
+    }
+    consumer.accept(change.build());
+  }
+
+  private static TreeItem withPath(final TreeItem item, final String path) {
+    return path.equals(item.path())
+        ? item
+        : ImmutableTreeItem.builder().from(item).path(path).build();
+  }
+
+  private static boolean isTree(final TreeItem item) {
+    return TREE.equals(item.type());
+  }
+
+  /** A pair of trees to compare, or a tree to list whose files were all added or deleted. */
+  private static final class Task {
+    private final TreeChange.Type side;
+    private final String oldSha;
+    private final String newSha;
+    private final String prefix;
+    private final boolean recursive;
+
+    private Task(
+        final TreeChange.Type side,
+        final String oldSha,
+        final String newSha,
+        final String prefix,
+        final boolean recursive) {
+      this.side = side;
+      this.oldSha = oldSha;
+      this.newSha = newSha;
+      this.prefix = prefix;
+      this.recursive = recursive;
+    }
+
+    static Task compare(final String oldSha, final String newSha, final String prefix) {
+      return new Task(null, oldSha, newSha, prefix, false);
+    }
+
+    static Task list(
+        final TreeChange.Type side, final String sha, final String prefix, final boolean recursive) {
+      return new Task(side, sha, null, prefix, recursive);
+    }
+  }
+}
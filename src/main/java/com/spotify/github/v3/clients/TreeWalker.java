@@ -0,0 +1,97 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import com.spotify.github.async.BoundedScheduler;
+import com.spotify.github.v3.git.ImmutableTreeItem;
+import com.spotify.github.v3.git.Tree;
+import com.spotify.github.v3.git.TreeItem;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Lists every item of a tree, however large. Each subtree is first requested recursively; when
+ * GitHub truncates the answer, the subtree is listed one level deep instead and its own subtrees
+ * are queued in turn. Up to {@code parallelism} requests are in flight at a time, and items are
+ * handed to the consumer as each response arrives rather than collected.
+ */
+final class TreeWalker {
+
+  private static final String TREE = "tree";
+
+  private final GitDataClient git;
+  private final Consumer<TreeItem> consumer;
+  private final BoundedScheduler<Pending, Tree> scheduler;
+
+  private TreeWalker(
+      final GitDataClient git, final int parallelism, final Consumer<TreeItem> consumer) {
+    this.git = git;
+    this.consumer = consumer;
+    this.scheduler = BoundedScheduler.create(parallelism, this::fetch, this::handle);
+  }
+
+  static CompletableFuture<Void> walk(
+      final GitDataClient git,
+      final String sha,
+      final int parallelism,
+      final Consumer<TreeItem> consumer) {
+    final TreeWalker walker = new TreeWalker(git, parallelism, consumer);
+    walker.scheduler.submit(new Pending(sha, "", true));
+    return walker.scheduler.run();
+  }
+
+  private CompletableFuture<Tree> fetch(final Pending pending) {
+    return pending.recursive ? git.getRecursiveTree(pending.sha) : git.getTree(pending.sha);
+  }
+
+  private void handle(final Pending pending, final Tree tree) {
+    if (pending.recursive && Boolean.TRUE.equals(tree.truncated())) {
+      // Start over one level at a time, rather than guess which entries are missing.
+      scheduler.submit(new Pending(pending.sha, pending.prefix, false));
+      return;
+    }
+    for (final TreeItem item : tree.tree()) {
+      consumer.accept(withPrefix(pending.prefix, item));
+      if (!pending.recursive && TREE.equals(item.type())) {
+        scheduler.submit(new Pending(item.sha(), pending.prefix + item.path() + "/", true));
+      }
+    }
+  }
+
+  private static TreeItem withPrefix(final String prefix, final TreeItem item) {
+    return prefix.isEmpty()
+        ? item
+        : ImmutableTreeItem.builder().from(item).path(prefix + item.path()).build();
+  }
+
+  /** A tree still to be listed, with the path it is found at. */
+  private static final class Pending {
+    private final String sha;
+    private final String prefix;
+    private final boolean recursive;
+
+    private Pending(final String sha, final String prefix, final boolean recursive) {
+      this.sha = sha;
+      this.prefix = prefix;
+      this.recursive = recursive;
+    }
+  }
+}
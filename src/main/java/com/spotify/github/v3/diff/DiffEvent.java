@@ -0,0 +1,89 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.diff;
+
+/**
+ * An event of a streamed unified diff. A {@link Type#FILE} event opens each file, followed by a
+ * {@link Type#HUNK} event for each of its hunks, each in turn followed by the {@link Type#LINE}
+ * events of its lines.
+ */
+public final class DiffEvent {
+
+  /** Type of event. */
+  public enum Type {
+    FILE,
+    HUNK,
+    LINE
+  }
+
+  private final Type type;
+  private final DiffFile file;
+  private final DiffHunk hunk;
+  private final DiffLine line;
+
+  DiffEvent(final Type type, final DiffFile file, final DiffHunk hunk, final DiffLine line) {
+    this.type = type;
+    this.file = file;
+    this.hunk = hunk;
+    this.line = line;
+  }
+
+  /**
+   * Type of event.
+   *
+   * @return type
+   */
+  public Type type() {
+    return type;
+  }
+
+  /**
+   * File the event belongs to, for all event types.
+   *
+   * @return file
+   */
+  public DiffFile file() {
+    return file;
+  }
+
+  /**
+   * Hunk the event belongs to.
+   *
+   * @return hunk, null for file events
+   */
+  public DiffHunk hunk() {
+    return hunk;
+  }
+
+  /**
+   * Line of a line event.
+   *
+   * @return line, null for file and hunk events
+   */
+  public DiffLine line() {
+    return line;
+  }
+
+  @Override
+  public String toString() {
+    return type + " " + (line != null ? line : hunk != null ? hunk : file);
+  }
+}
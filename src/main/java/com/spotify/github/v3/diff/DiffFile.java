@@ -0,0 +1,98 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.diff;
+
+import java.util.Optional;
+
+/** A file section of a unified diff, as described by its extended git headers. */
+public final class DiffFile {
+
+  /** How the file was changed. */
+  public enum Status {
+    ADDED,
+    DELETED,
+    MODIFIED,
+    RENAMED,
+    COPIED
+  }
+
+  private final String oldPath;
+  private final String newPath;
+  private final Status status;
+  private final boolean binary;
+
+  DiffFile(final String oldPath, final String newPath, final Status status, final boolean binary) {
+    this.oldPath = oldPath;
+    this.newPath = newPath;
+    this.status = status;
+    this.binary = binary;
+  }
+
+  /**
+   * Path of the file before the change.
+   *
+   * @return old path, empty for added files
+   */
+  public Optional<String> oldPath() {
+    return Optional.ofNullable(oldPath);
+  }
+
+  /**
+   * Path of the file after the change.
+   *
+   * @return new path, empty for deleted files
+   */
+  public Optional<String> newPath() {
+    return Optional.ofNullable(newPath);
+  }
+
+  /**
+   * Path identifying the file: the new path, or the old one for deleted files.
+   *
+   * @return path
+   */
+  public String path() {
+    return newPath != null ? newPath : oldPath;
+  }
+
+  /**
+   * How the file was changed.
+   *
+   * @return status
+   */
+  public Status status() {
+    return status;
+  }
+
+  /**
+   * Whether the file is binary, in which case it has no hunks.
+   *
+   * @return true for binary files
+   */
+  public boolean binary() {
+    return binary;
+  }
+
+  @Override
+  public String toString() {
+    return status + " " + path();
+  }
+}
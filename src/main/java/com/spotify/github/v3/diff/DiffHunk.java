@@ -0,0 +1,94 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.diff;
+
+/** A hunk of a unified diff, from its "@@ -a,b +c,d @@" header. */
+public final class DiffHunk {
+
+  private final int oldStart;
+  private final int oldLines;
+  private final int newStart;
+  private final int newLines;
+  private final String section;
+
+  DiffHunk(
+      final int oldStart,
+      final int oldLines,
+      final int newStart,
+      final int newLines,
+      final String section) {
+    this.oldStart = oldStart;
+    this.oldLines = oldLines;
+    this.newStart = newStart;
+    this.newLines = newLines;
+    this.section = section;
+  }
+
+  /**
+   * First line of the hunk in the old file.
+   *
+   * @return one based line number
+   */
+  public int oldStart() {
+    return oldStart;
+  }
+
+  /**
+   * Number of old file lines covered by the hunk.
+   *
+   * @return line count
+   */
+  public int oldLines() {
+    return oldLines;
+  }
+
+  /**
+   * First line of the hunk in the new file.
+   *
+   * @return one based line number
+   */
+  public int newStart() {
+    return newStart;
+  }
+
+  /**
+   * Number of new file lines covered by the hunk.
+   *
+   * @return line count
+   */
+  public int newLines() {
+    return newLines;
+  }
+
+  /**
+   * Text following the hunk header, usually the enclosing function.
+   *
+   * @return section heading, empty if none
+   */
+  public String section() {
+    return section;
+  }
+
+  @Override
+  public String toString() {
+    return "@@ -" + oldStart + "," + oldLines + " +" + newStart + "," + newLines + " @@";
+  }
+}
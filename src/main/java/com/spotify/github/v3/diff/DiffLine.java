@@ -0,0 +1,87 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.diff;
+
+/** A line of a diff hunk. */
+public final class DiffLine {
+
+  /** Kind of hunk line, from its first character. */
+  public enum Kind {
+    CONTEXT,
+    ADDED,
+    REMOVED,
+    /** The "\ No newline at end of file" marker following the line it applies to. */
+    NO_NEWLINE
+  }
+
+  private final Kind kind;
+  private final String content;
+  private final int oldNumber;
+  private final int newNumber;
+
+  DiffLine(final Kind kind, final String content, final int oldNumber, final int newNumber) {
+    this.kind = kind;
+    this.content = content;
+    this.oldNumber = oldNumber;
+    this.newNumber = newNumber;
+  }
+
+  /**
+   * Kind of line.
+   *
+   * @return kind
+   */
+  public Kind kind() {
+    return kind;
+  }
+
+  /**
+   * Content of the line, without the leading marker character or line terminator.
+   *
+   * @return content
+   */
+  public String content() {
+    return content;
+  }
+
+  /**
+   * Line number in the old file.
+   *
+   * @return one based line number, or -1 for added lines and markers
+   */
+  public int oldNumber() {
+    return oldNumber;
+  }
+
+  /**
+   * Line number in the new file.
+   *
+   * @return one based line number, or -1 for removed lines and markers
+   */
+  public int newNumber() {
+    return newNumber;
+  }
+
+  @Override
+  public String toString() {
+    return kind + " " + content;
+  }
+}
@@ -0,0 +1,344 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.diff;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * Streaming parser for git unified diffs, such as pull request diffs and patches.
+ *
+ * <p>The diff is read a line at a time and turned into {@link DiffEvent}s as they are requested,
+ * so memory use does not depend on the size of the diff. Files rejected by the path filter are
+ * skipped without creating any events. Text outside file sections, such as the mail headers and
+ * signature of a patch, is ignored.
+ *
+ * <p>Errors reading the diff surface as {@link UncheckedIOException} from the iterator.
+ */
+public final class DiffReader implements Iterator<DiffEvent>, Closeable {
+
+  private static final String DIFF_GIT = "diff --git ";
+  private static final String HUNK = "@@ ";
+  private static final String NEW_PREFIX = " b/";
+  private static final String DEV_NULL = "/dev/null";
+  private static final int BUFFER_SIZE = 65_536;
+  private static final int DECIMAL = 10;
+
+  private enum State {
+    OUTSIDE,
+    HEADER,
+    SKIPPING,
+    BETWEEN_HUNKS,
+    IN_HUNK
+  }
+
+  private final BufferedReader reader;
+  private final Predicate<String> filter;
+  private State state = State.OUTSIDE;
+  private String pushback;
+  private DiffEvent next;
+  private boolean finished;
+
+  // Current file header being parsed.
+  private String oldPath;
+  private String newPath;
+  private DiffFile.Status status;
+  private boolean binary;
+
+  // Current file and hunk, with the hunk lines left and the next line numbers.
+  private DiffFile file;
+  private DiffHunk hunk;
+  private int oldLeft;
+  private int newLeft;
+  private int oldNumber;
+  private int newNumber;
+
+  private DiffReader(final BufferedReader reader, final Predicate<String> filter) {
+    this.reader = reader;
+    this.filter = filter;
+  }
+
+  /**
+   * Reads a UTF-8 encoded diff.
+   *
+   * @param diff diff, closed along with the reader
+   * @param pathFilter accepts the paths of the files to return events for
+   * @return reader
+   */
+  public static DiffReader create(final InputStream diff, final Predicate<String> pathFilter) {
+    return create(new InputStreamReader(requireNonNull(diff), UTF_8), pathFilter);
+  }
+
+  /**
+   * Reads a diff.
+   *
+   * @param diff diff, closed along with the reader
+   * @param pathFilter accepts the paths of the files to return events for
+   * @return reader
+   */
+  public static DiffReader create(final Reader diff, final Predicate<String> pathFilter) {
+    return new DiffReader(new BufferedReader(diff, BUFFER_SIZE), requireNonNull(pathFilter));
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null && !finished) {
+      try {
+        next = advance();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      finished = next == null;
+    }
+    return next != null;
+  }
+
+  @Override
+  public DiffEvent next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    final DiffEvent event = next;
+    next = null;
+    return event;
+  }
+
+  @Override
+  public void close() throws IOException {
+    finished = true;
+    reader.close();
+  }
+
+  private String readLine() throws IOException {
+    if (pushback != null) {
+      final String line = pushback;
+      pushback = null;
+      return line;
+    }
+    return reader.readLine();
+  }
+
+  private DiffEvent advance() throws IOException {
+    String line;
+    while ((line = readLine()) != null) {
+      switch (state) {
+        case IN_HUNK:
+          final DiffEvent event = hunkLine(line);
+          if (event != null) {
+            return event;
+          }
+          state = State.BETWEEN_HUNKS;
+          pushback = line;
+          break;
+        case HEADER:
+          if (line.startsWith(DIFF_GIT) || line.startsWith(HUNK)) {
+            pushback = line;
+            final DiffEvent opened = openFile();
+            if (opened != null) {
+              return opened;
+            }
+          } else {
+            headerLine(line);
+          }
+          break;
+        case BETWEEN_HUNKS:
+          if (line.startsWith(HUNK)) {
+            return openHunk(line);
+          }
+          startFileIfHeader(line);
+          break;
+        default:
+          startFileIfHeader(line);
+          break;
+      }
+    }
+    if (state == State.HEADER) {
+      return openFile();
+    }
+    return null;
+  }
+
+  private void startFileIfHeader(final String line) {
+    if (!line.startsWith(DIFF_GIT)) {
+      return;
+    }
+    state = State.HEADER;
+    status = DiffFile.Status.MODIFIED;
+    binary = false;
+    oldPath = null;
+    newPath = null;
+    final String names = line.substring(DIFF_GIT.length());
+    // "a/path b/path": split in the middle when both names are equal, which copes with spaces.
+    final int middle = names.length() / 2;
+    if (names.length() % 2 == 1
+        && names.charAt(middle) == ' '
+        && names.regionMatches(2, names, middle + NEW_PREFIX.length(), middle - 2)) {
+      oldPath = stripPrefix(names.substring(0, middle));
+      newPath = oldPath;
+    } else {
+      final int split = names.lastIndexOf(NEW_PREFIX);
+      if (split > 0) {
+        oldPath = stripPrefix(names.substring(0, split));
+        newPath = stripPrefix(names.substring(split + 1));
+      }
+    }
+  }
+
+  private void headerLine(final String line) {
+    if (line.startsWith("--- ")) {
+      oldPath = headerPath(line);
+    } else if (line.startsWith("+++ ")) {
+      newPath = headerPath(line);
+    } else if (line.startsWith("new file mode")) {
+      status = DiffFile.Status.ADDED;
+    } else if (line.startsWith("deleted file mode")) {
+      status = DiffFile.Status.DELETED;
+    } else if (line.startsWith("rename from ")) {
+      status = DiffFile.Status.RENAMED;
+      oldPath = line.substring("rename from ".length());
+    } else if (line.startsWith("rename to ")) {
+      newPath = line.substring("rename to ".length());
+    } else if (line.startsWith("copy from ")) {
+      status = DiffFile.Status.COPIED;
+      oldPath = line.substring("copy from ".length());
+    } else if (line.startsWith("copy to ")) {
+      newPath = line.substring("copy to ".length());
+    } else if (line.startsWith("Binary files ") || line.startsWith("GIT binary patch")) {
+      binary = true;
+    }
+  }
+
+  private DiffEvent openFile() {
+    if (status == DiffFile.Status.ADDED) {
+      oldPath = null;
+    } else if (status == DiffFile.Status.DELETED) {
+      newPath = null;
+    }
+    final DiffFile opened = new DiffFile(oldPath, newPath, status, binary);
+    if (opened.path() == null || !filter.test(opened.path())) {
+      state = State.SKIPPING;
+      return null;
+    }
+    file = opened;
+    state = State.BETWEEN_HUNKS;
+    return new DiffEvent(DiffEvent.Type.FILE, file, null, null);
+  }
+
+  private DiffEvent openHunk(final String line) {
+    // @@ -oldStart[,oldLines] +newStart[,newLines] @@ section
+    final int[] pos = {HUNK.length() + 1};
+    final int oldStart = number(line, pos, 0);
+    final int oldLines = isComma(line, pos) ? number(line, skip(pos), 0) : 1;
+    pos[0] += 2;
+    final int newStart = number(line, pos, 0);
+    final int newLines = isComma(line, pos) ? number(line, skip(pos), 0) : 1;
+    final int end = line.indexOf("@@", pos[0]);
+    final String section = end < 0 ? "" : line.substring(Math.min(end + HUNK.length(), line.length()));
+    hunk = new DiffHunk(oldStart, oldLines, newStart, newLines, section);
+    oldLeft = oldLines;
+    newLeft = newLines;
+    oldNumber = oldStart;
+    newNumber = newStart;
+    state = State.IN_HUNK;
+    return new DiffEvent(DiffEvent.Type.HUNK, file, hunk, null);
+  }
+
+  private DiffEvent hunkLine(final String line) {
+    final char marker = line.isEmpty() ? ' ' : line.charAt(0);
+    if (marker == '\\') {
+      return lineEvent(DiffLine.Kind.NO_NEWLINE, line, -1, -1);
+    }
+    if (oldLeft <= 0 && newLeft <= 0) {
+      return null;
+    }
+    final String content = line.isEmpty() ? line : line.substring(1);
+    switch (marker) {
+      case ' ':
+        oldLeft--;
+        newLeft--;
+        return lineEvent(DiffLine.Kind.CONTEXT, content, oldNumber++, newNumber++);
+      case '+':
+        newLeft--;
+        return lineEvent(DiffLine.Kind.ADDED, content, -1, newNumber++);
+      case '-':
+        oldLeft--;
+        return lineEvent(DiffLine.Kind.REMOVED, content, oldNumber++, -1);
+      default:
+        return null;
+    }
+  }
+
+  private DiffEvent lineEvent(
+      final DiffLine.Kind kind, final String content, final int oldLine, final int newLine) {
+    return new DiffEvent(
+        DiffEvent.Type.LINE, file, hunk, new DiffLine(kind, content, oldLine, newLine));
+  }
+
+  private static boolean isComma(final String line, final int[] pos) {
+    return pos[0] < line.length() && line.charAt(pos[0]) == ',';
+  }
+
+  private static int[] skip(final int[] pos) {
+    pos[0]++;
+    return pos;
+  }
+
+  private static int number(final String line, final int[] pos, final int fallback) {
+    int i = pos[0];
+    int value = 0;
+    while (i < line.length() && Character.isDigit(line.charAt(i))) {
+      value = value * DECIMAL + (line.charAt(i) - '0');
+      i++;
+    }
+    final boolean found = i > pos[0];
+    pos[0] = i;
+    return found ? value : fallback;
+  }
+
+  private static String headerPath(final String line) {
+    String path = line.substring("--- ".length());
+    final int tab = path.indexOf('\t');
+    if (tab >= 0) {
+      path = path.substring(0, tab);
+    }
+    return DEV_NULL.equals(path) ? null : stripPrefix(path);
+  }
+
+  private static String stripPrefix(final String path) {
+    final boolean prefixed =
+        path.length() > 2 && path.charAt(1) == '/' && (path.charAt(0) == 'a' || path.charAt(0) == 'b');
+    if (prefixed) {
+      return path.substring(2);
+    }
+    return path;
+  }
+}
@@ -0,0 +1,73 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.exceptions;
+
+import com.spotify.github.v3.checks.CheckRunRequest;
+
+/**
+ * A check run update split into several annotation batches did not go through entirely. The
+ * annotations already accepted by GitHub stay on the check run; {@link #remaining()} holds
+ * everything still to be sent, final status included, so the upload can be resumed with {@code
+ * updateCheckRun(checkRunId(), remaining())}.
+ */
+public class CheckRunAnnotationException extends GithubException {
+  private static final long serialVersionUID = 1L;
+
+  private final long checkRunId;
+  private final transient CheckRunRequest remaining;
+
+  /**
+   * C'tor.
+   *
+   * @param checkRunId id of the check run being updated
+   * @param remaining update still to be sent
+   * @param cause first failure
+   */
+  public CheckRunAnnotationException(
+      final long checkRunId, final CheckRunRequest remaining, final Throwable cause) {
+    super(
+        String.format(
+            "Check run %d update failed with %d annotations still to send",
+            checkRunId, remaining.output().map(output -> output.annotations().size()).orElse(0)),
+        cause);
+    this.checkRunId = checkRunId;
+    this.remaining = remaining;
+  }
+
+  /**
+   * Id of the check run being updated.
+   *
+   * @return check run id
+   */
+  public long checkRunId() {
+    return checkRunId;
+  }
+
+  /**
+   * The part of the update not yet accepted by GitHub: the annotations of every failed or unsent
+   * batch, along with the final status, conclusion and output.
+   *
+   * @return update to resume with
+   */
+  public CheckRunRequest remaining() {
+    return remaining;
+  }
+}
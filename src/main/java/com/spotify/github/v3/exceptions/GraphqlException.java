@@ -0,0 +1,35 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.exceptions;
+
+/** A GraphQL query, or one of the fields it selects, came back with errors. */
+public class GraphqlException extends GithubException {
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * C'tor for setting a message
+   *
+   * @param message error messages reported by GitHub
+   */
+  public GraphqlException(final String message) {
+    super(message);
+  }
+}
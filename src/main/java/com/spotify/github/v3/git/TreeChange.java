@@ -0,0 +1,54 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.git;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.spotify.github.GithubStyle;
+import java.util.Optional;
+import org.immutables.value.Value;
+
+/** A file that differs between two trees. */
+@Value.Immutable
+@GithubStyle
+@JsonSerialize(as = ImmutableTreeChange.class)
+@JsonDeserialize(as = ImmutableTreeChange.class)
+public interface TreeChange {
+
+  /** How the file differs. */
+  enum Type {
+    ADDED,
+    MODIFIED,
+    DELETED
+  }
+
+  /** Change type. */
+  Type type();
+
+  /** Full path of the file. */
+  String path();
+
+  /** The file in the old tree, absent for added files. */
+  Optional<TreeItem> oldItem();
+
+  /** The file in the new tree, absent for deleted files. */
+  Optional<TreeItem> newItem();
+}
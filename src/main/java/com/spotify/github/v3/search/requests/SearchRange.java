@@ -0,0 +1,135 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.search.requests;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An inclusive range of a search qualifier, such as {@code created:2020-01-01T00:00:00Z..
+ * 2020-12-31T23:59:59Z} or {@code size:0..1000}, that a search can be split along when it matches
+ * more results than GitHub returns for a single query.
+ *
+ * <p>Dates are handled with second precision. Splitting always yields disjoint ranges covering the
+ * original one, so that every result falls in exactly one of them.
+ */
+public final class SearchRange {
+
+  private final String qualifier;
+  private final long from;
+  private final long to;
+  private final boolean dates;
+
+  private SearchRange(final String qualifier, final long from, final long to, final boolean dates) {
+    this.qualifier = requireNonNull(qualifier);
+    if (from > to) {
+      throw new IllegalArgumentException("Empty range " + from + ".." + to);
+    }
+    this.from = from;
+    this.to = to;
+    this.dates = dates;
+  }
+
+  /**
+   * A range of dates, for qualifiers such as created, updated, closed, merged or pushed.
+   *
+   * @param qualifier search qualifier
+   * @param from first instant included
+   * @param to last instant included
+   * @return date range
+   */
+  public static SearchRange ofDates(final String qualifier, final Instant from, final Instant to) {
+    return new SearchRange(qualifier, from.getEpochSecond(), to.getEpochSecond(), true);
+  }
+
+  /**
+   * A range of numbers, for qualifiers such as size, stars, comments, repos or followers.
+   *
+   * @param qualifier search qualifier
+   * @param from first value included, not negative
+   * @param to last value included, less than {@link Long#MAX_VALUE}
+   * @return number range
+   */
+  public static SearchRange ofNumbers(final String qualifier, final long from, final long to) {
+    if (from < 0 || to == Long.MAX_VALUE) {
+      throw new IllegalArgumentException("Range out of bounds " + from + ".." + to);
+    }
+    return new SearchRange(qualifier, from, to, false);
+  }
+
+  /**
+   * Whether the range holds more than a single value, and can thus be split.
+   *
+   * @return true if splittable
+   */
+  public boolean isSplittable() {
+    return from < to;
+  }
+
+  /**
+   * Split the range into disjoint ranges of about the same width, as many as requested or as the
+   * range holds values.
+   *
+   * @param parts number of ranges wanted
+   * @return ranges covering this one, in order
+   */
+  public List<SearchRange> split(final int parts) {
+    if (parts < 1) {
+      throw new IllegalArgumentException("Parts must be positive, got " + parts);
+    }
+    final long values = to - from + 1;
+    final int count = (int) Math.min(parts, values);
+    final long width = values / count;
+    final long remainder = values % count;
+    final List<SearchRange> ranges = new ArrayList<>(count);
+    long start = from;
+    for (int i = 0; i < count; i++) {
+      final long end = start + width - 1 + (i < remainder ? 1 : 0);
+      ranges.add(new SearchRange(qualifier, start, end, dates));
+      start = end + 1;
+    }
+    return ranges;
+  }
+
+  /**
+   * The range as a search qualifier, to be appended to a query.
+   *
+   * @return qualifier, for instance {@code size:0..1000}
+   */
+  public String toQualifier() {
+    return qualifier + ":" + format(from) + ".." + format(to);
+  }
+
+  private String format(final long value) {
+    return dates
+        ? DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochSecond(value))
+        : Long.toString(value);
+  }
+
+  @Override
+  public String toString() {
+    return toQualifier();
+  }
+}
@@ -59,4 +59,13 @@ public class GitHubInstantTest {
     assertThat(gitHubInstant.epoch(), is(epoch));
     assertThat(gitHubInstant.instant(), is(Instant.ofEpochSecond(epoch)));
   }
+
+  @Test
+  public void keepsSubSecondPrecisionAndValueEquality() throws Exception {
+    final Instant instant = Instant.parse("2011-01-26T19:01:12.345Z");
+    assertThat(GitHubInstant.create(instant).instant(), is(instant));
+    assertThat(GitHubInstant.create(instant), equalTo(GitHubInstant.create(instant)));
+    assertThat(
+        GitHubInstant.create(instant).hashCode(), is(GitHubInstant.create(instant).hashCode()));
+  }
 }
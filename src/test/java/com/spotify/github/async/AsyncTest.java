@@ -0,0 +1,113 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.async;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class AsyncTest {
+
+  @Test
+  public void mapAsyncBoundsCallsInFlightAndKeepsOrder() throws Exception {
+    final List<CompletableFuture<String>> pending = new ArrayList<>();
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger maxInFlight = new AtomicInteger();
+    final List<Integer> items = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+    final CompletableFuture<List<String>> result =
+        Async.mapAsync(
+            items,
+            3,
+            item -> {
+              maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+              final CompletableFuture<String> call = new CompletableFuture<>();
+              pending.add(call);
+              return call.whenComplete((value, throwable) -> inFlight.decrementAndGet());
+            });
+
+    // Complete calls out of order, newest first.
+    while (!result.isDone()) {
+      pending.remove(pending.size() - 1).complete("done");
+    }
+
+    assertThat(maxInFlight.get(), is(3));
+    assertThat(result.get().size(), is(10));
+  }
+
+  @Test
+  public void mapAsyncReturnsResultsInItemOrder() throws Exception {
+    final List<CompletableFuture<Integer>> calls = new ArrayList<>();
+    final CompletableFuture<List<Integer>> result =
+        Async.mapAsync(
+            List.of(1, 2, 3),
+            3,
+            item -> {
+              final CompletableFuture<Integer> call = new CompletableFuture<>();
+              calls.add(call);
+              return call;
+            });
+
+    calls.get(2).complete(30);
+    calls.get(0).complete(10);
+    calls.get(1).complete(20);
+
+    assertThat(result.get(), contains(10, 20, 30));
+  }
+
+  @Test
+  public void mapAsyncHandlesSynchronousCallsAndEmptyInput() throws Exception {
+    final List<Integer> items = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+
+    assertThat(Async.mapAsync(items, 2, item -> completedFuture(item)).get().size(), is(100_000));
+    assertThat(Async.mapAsync(List.of(), 2, item -> completedFuture(item)).get().size(), is(0));
+  }
+
+  @Test
+  public void mapAsyncStopsAtFirstFailure() {
+    final AtomicInteger started = new AtomicInteger();
+    final CompletableFuture<List<Integer>> result =
+        Async.mapAsync(
+            List.of(1, 2, 3, 4),
+            1,
+            item -> {
+              started.incrementAndGet();
+              return item == 2
+                  ? CompletableFuture.failedFuture(new IllegalStateException("boom"))
+                  : completedFuture(item);
+            });
+
+    final ExecutionException e = assertThrows(ExecutionException.class, result::get);
+    assertThat(e.getCause().getMessage(), is("boom"));
+    assertThat(started.get(), is(2));
+  }
+}
@@ -0,0 +1,158 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.async;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+public class BoundedSchedulerTest {
+
+  @Test
+  public void runsTasksSubmittedByTheHandlerWithinTheBound() throws Exception {
+    final List<CompletableFuture<Integer>> pending = new ArrayList<>();
+    final List<Integer> handled = new ArrayList<>();
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger maxInFlight = new AtomicInteger();
+    final AtomicReference<BoundedScheduler<Integer, Integer>> scheduler = new AtomicReference<>();
+    scheduler.set(
+        BoundedScheduler.create(
+            2,
+            task -> {
+              maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+              final CompletableFuture<Integer> call = new CompletableFuture<>();
+              pending.add(call);
+              return call.whenComplete((value, throwable) -> inFlight.decrementAndGet());
+            },
+            (task, value) -> {
+              handled.add(task);
+              // Expand a binary tree of tasks 1 to 15.
+              if (task < 8) {
+                scheduler.get().submit(2 * task);
+                scheduler.get().submit(2 * task + 1);
+              }
+            }));
+    scheduler.get().submit(1);
+
+    final CompletableFuture<Void> result = scheduler.get().run();
+    int completed = 0;
+    while (!result.isDone()) {
+      // Complete calls out of order, newest first.
+      pending.remove(pending.size() - 1).complete(++completed);
+    }
+
+    result.get();
+    assertThat(maxInFlight.get(), is(2));
+    assertThat(handled, containsInAnyOrder(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15));
+  }
+
+  @Test
+  public void completesRightAwayWithoutTasks() {
+    final BoundedScheduler<Integer, Integer> scheduler =
+        BoundedScheduler.create(1, task -> completedFuture(task), (task, value) -> {});
+
+    assertThat(scheduler.run().isDone(), is(true));
+  }
+
+  @Test
+  public void keepsTheStackFlatForSynchronousTasks() throws Exception {
+    final AtomicInteger handled = new AtomicInteger();
+    final AtomicReference<BoundedScheduler<Integer, Integer>> scheduler = new AtomicReference<>();
+    scheduler.set(
+        BoundedScheduler.create(
+            1,
+            task -> completedFuture(task),
+            (task, value) -> {
+              handled.incrementAndGet();
+              if (task < 100_000) {
+                scheduler.get().submit(task + 1);
+              }
+            }));
+    scheduler.get().submit(1);
+
+    scheduler.get().run().get();
+
+    assertThat(handled.get(), is(100_000));
+  }
+
+  @Test
+  public void failsWhenATaskThrowsSynchronously() {
+    final AtomicInteger started = new AtomicInteger();
+    final BoundedScheduler<Integer, Integer> scheduler =
+        BoundedScheduler.create(
+            1,
+            task -> {
+              started.incrementAndGet();
+              if (task == 2) {
+                throw new IllegalStateException("boom");
+              }
+              return completedFuture(task);
+            },
+            (task, value) -> {});
+    for (int i = 1; i <= 4; i++) {
+      scheduler.submit(i);
+    }
+
+    final ExecutionException e = assertThrows(ExecutionException.class, scheduler.run()::get);
+    assertThat(e.getCause().getMessage(), is("boom"));
+    assertThat(started.get(), is(2));
+  }
+
+  @Test
+  public void failsWhenTheHandlerThrows() {
+    final AtomicInteger started = new AtomicInteger();
+    final BoundedScheduler<Integer, Integer> scheduler =
+        BoundedScheduler.create(
+            1,
+            task -> {
+              started.incrementAndGet();
+              return completedFuture(task);
+            },
+            (task, value) -> {
+              if (task == 1) {
+                throw new IllegalStateException("boom");
+              }
+            });
+    scheduler.submit(1);
+    scheduler.submit(2);
+
+    final ExecutionException e = assertThrows(ExecutionException.class, scheduler.run()::get);
+    assertThat(e.getCause().getMessage(), is("boom"));
+    assertThat(started.get(), is(1));
+  }
+
+  @Test
+  public void rejectsNonPositiveParallelism() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> BoundedScheduler.create(0, task -> completedFuture(task), (task, value) -> {}));
+  }
+}
@@ -0,0 +1,154 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.http;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import com.spotify.github.tracing.Tracer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Warm-start behaviour of {@link HttpResponseCache}: the time to reopen a populated cache, and the
+ * latency and hit rate of lookups afterwards, with part of the looked up keys never stored. Run
+ * with the test classpath, e.g. {@code java -cp <test classpath> org.openjdk.jmh.Main
+ * HttpResponseCacheBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpResponseCacheBenchmark {
+
+  private static final int ENTRIES = 10_000;
+  private static final int LOOKED_UP_KEYS = 12_500;
+  private static final long MAX_BYTES = 256L * 1024 * 1024;
+  private static final String PARTITION = "token:benchmark";
+  private static final int BODY_CHARS = 2048;
+  private static final int HTTP_OK = 200;
+
+  private Path directory;
+  private HttpResponseCache cache;
+
+  /** Lookup outcomes, reported next to the latency. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Outcomes {
+    public long hits;
+    public long misses;
+  }
+
+  @Setup(Level.Trial)
+  public void populate() throws IOException {
+    directory = Files.createTempDirectory("response-cache");
+    final byte[] body = ("{\"body\":\"" + "x".repeat(BODY_CHARS) + "\"}").getBytes(UTF_8);
+    final HttpClient origin =
+        new HttpClient() {
+          @Override
+          public CompletableFuture<HttpResponse> send(final HttpRequest request) {
+            return completedFuture(
+                new CachedHttpResponse(
+                    request,
+                    HTTP_OK,
+                    "OK",
+                    Map.of(
+                        "ETag", List.of("\"" + request.url().hashCode() + "\""),
+                        "Content-Type", List.of("application/json"),
+                        "Content-Length", List.of(String.valueOf(body.length))),
+                    body));
+          }
+
+          @Override
+          public void setTracer(final Tracer tracer) {}
+        };
+    try (HttpResponseCache populated = HttpResponseCache.create(directory, MAX_BYTES)) {
+      for (int i = 0; i < ENTRIES; i++) {
+        populated.send(origin, request(i), PARTITION).join();
+      }
+    }
+    cache = HttpResponseCache.create(directory, MAX_BYTES);
+  }
+
+  @TearDown(Level.Trial)
+  public void cleanUp() throws IOException {
+    cache.close();
+    try (Stream<Path> files = Files.walk(directory)) {
+      files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  @Benchmark
+  @Threads(4)
+  public boolean lookup(final Outcomes outcomes) {
+    final int i = ThreadLocalRandom.current().nextInt(LOOKED_UP_KEYS);
+    final boolean hit = cache.lookup(key(i)).isPresent();
+    if (hit) {
+      outcomes.hits++;
+    } else {
+      outcomes.misses++;
+    }
+    return hit;
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public int warmStart() throws IOException {
+    try (HttpResponseCache reopened = HttpResponseCache.create(directory, MAX_BYTES)) {
+      return reopened.size();
+    }
+  }
+
+  private static String key(final int i) {
+    return HttpResponseCache.key(PARTITION, request(i));
+  }
+
+  private static HttpRequest request(final int i) {
+    return ImmutableHttpRequest.builder()
+        .url("https://api.github.com/repos/owner/repo/pulls/" + i)
+        .headers(Map.of("Accept", List.of("application/json")))
+        .build();
+  }
+}
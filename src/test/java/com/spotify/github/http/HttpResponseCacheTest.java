@@ -0,0 +1,199 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.http;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.spotify.github.MockHelper;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class HttpResponseCacheTest {
+
+  private static final String URL = "https://api.github.com/repos/owner/repo";
+  private static final String BODY = "{\"name\":\"repo\"}";
+
+  @TempDir Path directory;
+
+  private HttpClient client;
+  private List<HttpRequest> sent;
+
+  @BeforeEach
+  public void setUp() {
+    client = mock(HttpClient.class);
+    sent = new ArrayList<>();
+    when(client.send(any()))
+        .thenAnswer(
+            invocation -> {
+              final HttpRequest request = invocation.getArgument(0);
+              sent.add(request);
+              if ("\"v1\"".equals(request.header("If-None-Match"))) {
+                return completedFuture(
+                    MockHelper.createMockHttpResponse(
+                        request.url(), 304, null, Map.of("X-RateLimit-Remaining", List.of("41"))));
+              }
+              return completedFuture(
+                  MockHelper.createMockHttpResponse(
+                      request.url(),
+                      200,
+                      BODY,
+                      Map.of(
+                          "ETag", List.of("\"v1\""),
+                          "Content-Type", List.of("application/json; charset=utf-8"),
+                          "Content-Length", List.of(String.valueOf(BODY.length())),
+                          "X-RateLimit-Remaining", List.of("42"))));
+            });
+  }
+
+  @Test
+  public void revalidatesAfterRestart() throws Exception {
+    try (HttpResponseCache cache = HttpResponseCache.create(directory, 1_000_000)) {
+      assertThat(cache.send(client, get(URL), "token:a").join().bodyString(), is(BODY));
+      assertThat(cache.hits(), is(0L));
+    }
+
+    try (HttpResponseCache cache = HttpResponseCache.create(directory, 1_000_000)) {
+      final HttpResponse response = cache.send(client, get(URL), "token:a").join();
+
+      assertThat(response.statusCode(), is(200));
+      assertThat(response.bodyString(), is(BODY));
+      assertThat(response.header("x-ratelimit-remaining"), is("41"));
+      assertThat(sent.get(1).header("If-None-Match"), is("\"v1\""));
+      assertThat(cache.hits(), is(1L));
+    }
+  }
+
+  @Test
+  public void partitionsByCredential() throws Exception {
+    try (HttpResponseCache cache = HttpResponseCache.create(directory, 1_000_000)) {
+      cache.send(client, get(URL), "token:a").join();
+      cache.send(client, get(URL), "token:b").join();
+
+      assertThat(sent.get(1).header("If-None-Match"), is((String) null));
+      assertThat(cache.hits(), is(0L));
+      assertThat(cache.size(), is(2));
+    }
+  }
+
+  @Test
+  public void compactsToTheSizeCap() throws Exception {
+    final long cap = 4_000;
+    try (HttpResponseCache cache = HttpResponseCache.create(directory, cap)) {
+      for (int i = 0; i < 200; i++) {
+        cache.send(client, get(URL + "/" + i), "token:a").join();
+      }
+      cache.send(client, get(URL + "/199"), "token:a").join();
+
+      assertThat(cache.hits(), is(1L));
+      assertThat(directorySize(), lessThanOrEqualTo(cap));
+    }
+  }
+
+  @Test
+  public void dropsTornRecords() throws Exception {
+    try (HttpResponseCache cache = HttpResponseCache.create(directory, 1_000_000)) {
+      cache.send(client, get(URL), "token:a").join();
+    }
+    final Path segment;
+    try (Stream<Path> files = Files.list(directory)) {
+      segment = files.findFirst().orElseThrow();
+    }
+    try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.APPEND)) {
+      channel.write(ByteBuffer.wrap(new byte[] {0x47, 0x48, 0x43, 0x31, 0, 0, 1}));
+    }
+
+    try (HttpResponseCache cache = HttpResponseCache.create(directory, 1_000_000)) {
+      assertThat(cache.size(), is(1));
+      cache.send(client, get(URL + "/other"), "token:a").join();
+    }
+    try (HttpResponseCache cache = HttpResponseCache.create(directory, 1_000_000)) {
+      assertThat(cache.size(), is(2));
+    }
+  }
+
+  @Test
+  public void passesUnsizedResponsesThrough() throws Exception {
+    final HttpResponse streamed =
+        MockHelper.createMockHttpResponse(
+            URL,
+            200,
+            BODY,
+            Map.of(
+                "ETag", List.of("\"v2\""),
+                "Content-Type", List.of("application/json")));
+    doReturn(completedFuture(streamed)).when(client).send(any());
+
+    try (HttpResponseCache cache = HttpResponseCache.create(directory, 1_000_000)) {
+      assertThat(cache.send(client, get(URL), "token:a").join(), is(sameInstance(streamed)));
+      assertThat(cache.size(), is(0));
+    }
+  }
+
+  @Test
+  public void passesOversizedResponsesThrough() throws Exception {
+    final HttpResponse streamed =
+        MockHelper.createMockHttpResponse(
+            URL,
+            200,
+            BODY,
+            Map.of(
+                "ETag", List.of("\"v2\""),
+                "Content-Type", List.of("application/json"),
+                "Content-Length", List.of("1000000")));
+    doReturn(completedFuture(streamed)).when(client).send(any());
+
+    try (HttpResponseCache cache = HttpResponseCache.create(directory, 1_000_000)) {
+      assertThat(cache.send(client, get(URL), "token:a").join(), is(sameInstance(streamed)));
+      assertThat(cache.size(), is(0));
+    }
+  }
+
+  private static HttpRequest get(final String url) {
+    return ImmutableHttpRequest.builder()
+        .url(url)
+        .putHeaders("Accept", List.of("application/json"))
+        .build();
+  }
+
+  private long directorySize() throws Exception {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.mapToLong(path -> path.toFile().length()).sum();
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.http;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Link header parsing throughput. Run with the test classpath, e.g.
+ * {@code java -cp <test classpath> org.openjdk.jmh.Main LinkHeaderParserBenchmark -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinkHeaderParserBenchmark {
+
+  static final String HEADER =
+      "<https://api.github.com/repositories/44219/issues/53/comments?page=1&per_page=100>;"
+          + " rel=\"prev\","
+          + " <https://api.github.com/repositories/44219/issues/53/comments?page=3&per_page=100>;"
+          + " rel=\"next\","
+          + " <https://api.github.com/repositories/44219/issues/53/comments?page=40&per_page=100>;"
+          + " rel=\"last\","
+          + " <https://api.github.com/repositories/44219/issues/53/comments?page=1&per_page=100>;"
+          + " rel=\"first\"";
+
+  @Benchmark
+  public Map<String, Link> parse() {
+    return LinkHeaderParser.parse(HEADER);
+  }
+
+  @Benchmark
+  public Map<String, Link> splitAndFrom() {
+    return Arrays.stream(HEADER.split(","))
+        .map(linkString -> Link.from(linkString.split(";")))
+        .collect(Collectors.toMap(link -> link.rel().get(), Function.identity()));
+  }
+
+  @Benchmark
+  public int pageNumber() {
+    return LinkHeaderParser.pageNumber(
+        "https://api.github.com/repositories/44219/issues/53/comments?per_page=100&page=40");
+  }
+}
@@ -0,0 +1,68 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.http;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+public class LinkHeaderParserTest {
+
+  @Test
+  public void parsesAllRelations() {
+    final Map<String, Link> links = LinkHeaderParser.parse(LinkHeaderParserBenchmark.HEADER);
+
+    assertThat(links.size(), is(4));
+    assertThat(
+        links.get("next").url().toString(),
+        is("https://api.github.com/repositories/44219/issues/53/comments?page=3&per_page=100"));
+    assertThat(links.get("last").rel(), is(Optional.of("last")));
+  }
+
+  @Test
+  public void handlesParametersAndMalformedInput() {
+    final Map<String, Link> links =
+        LinkHeaderParser.parse(
+            "<https://x/a?b=1,2>; title=\"a; b, c\"; REL=next; rel=\"ignored\","
+                + " <https://x/norel>; type=\"text/html\","
+                + " <https://x/first>; rel=\"first\", <https://x/dup>; rel=\"first\", <broken");
+
+    assertThat(links.size(), is(2));
+    assertThat(links.get("next").url().toString(), is("https://x/a?b=1,2"));
+    assertThat(links.get("next").title(), is(Optional.of("a; b, c")));
+    assertThat(links.get("first").url().toString(), is("https://x/first"));
+    assertThat(LinkHeaderParser.parse(null).isEmpty(), is(true));
+    assertThat(LinkHeaderParser.parse("").isEmpty(), is(true));
+  }
+
+  @Test
+  public void extractsPageNumber() {
+    assertThat(LinkHeaderParser.pageNumber("https://x/commits?page=5"), is(5));
+    assertThat(LinkHeaderParser.pageNumber("https://x/commits?per_page=100&PAGE=7#page=9"), is(7));
+    assertThat(LinkHeaderParser.pageNumber("https://x/commits?subpage=3&page=x&page=4"), is(4));
+    assertThat(LinkHeaderParser.pageNumber("https://x/commits?per_page=100"), is(-1));
+    assertThat(LinkHeaderParser.pageNumber("https://x/commits#page=2"), is(-1));
+    assertThat(LinkHeaderParser.pageNumber("https://x/commits?page=99999999999"), is(-1));
+  }
+}
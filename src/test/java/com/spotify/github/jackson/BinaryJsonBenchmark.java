@@ -0,0 +1,98 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.jackson;
+
+import static com.google.common.io.Resources.getResource;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.io.Resources;
+import com.spotify.github.v3.git.Tree;
+import com.spotify.github.v3.prs.PullRequest;
+import com.spotify.github.v3.repos.Repository;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encode and decode time of models in text JSON, Smile and CBOR; {@code JsonTest} checks that the
+ * binary encodings come out smaller. Run with the test classpath, e.g. {@code java -cp <test
+ * classpath> org.openjdk.jmh.Main BinaryJsonBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryJsonBenchmark {
+
+  @Param({"json", "smile", "cbor"})
+  public String format;
+
+  @Param({"pullRequest", "repository", "tree"})
+  public String payload;
+
+  private Json json;
+  private Class<?> type;
+  private Object model;
+  private byte[] encoded;
+
+  @Setup
+  public void setup() throws IOException {
+    json =
+        "smile".equals(format)
+            ? Json.createSmile()
+            : "cbor".equals(format) ? Json.createCbor() : Json.create();
+    final String fixture;
+    if ("pullRequest".equals(payload)) {
+      type = PullRequest.class;
+      fixture = "com/spotify/github/v3/prs/pull_request.json";
+    } else if ("repository".equals(payload)) {
+      type = Repository.class;
+      fixture = "com/spotify/github/v3/repos/repository.json";
+    } else {
+      type = Tree.class;
+      fixture = "com/spotify/github/v3/clients/recursive-tree.json";
+    }
+    model = Json.create().fromJson(Resources.toString(getResource(fixture), UTF_8), type);
+    encoded = json.toBytes(model);
+  }
+
+  @Benchmark
+  public byte[] encode() throws IOException {
+    return json.toBytes(model);
+  }
+
+  @Benchmark
+  public Object decode() throws IOException {
+    return json.fromJson(encoded, type);
+  }
+}
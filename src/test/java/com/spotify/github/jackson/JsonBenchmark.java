@@ -0,0 +1,111 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.jackson;
+
+import static com.google.common.io.Resources.getResource;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.io.Resources;
+import com.spotify.github.v3.git.FileItem;
+import com.spotify.github.v3.git.ImmutableFileItem;
+import com.spotify.github.v3.prs.PullRequest;
+import com.spotify.github.v3.repos.Repository;
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decoding cost of typical payloads. Run with the test classpath, e.g. {@code java -cp <test
+ * classpath> org.openjdk.jmh.Main JsonBenchmark -prof gc}; add {@code -jvmArgs
+ * -Dgithub.json.blackbird=false} to compare without Blackbird.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+  private static final TypeReference<List<FileItem>> LIST_FILE_ITEMS = new TypeReference<>() {};
+  private static final int FILES = 300;
+
+  private final Json json = Json.create();
+  private String pullRequest;
+  private String repository;
+  private String fileItems;
+
+  @Setup
+  public void setup() throws IOException {
+    pullRequest = fixture("com/spotify/github/v3/prs/pull_request.json");
+    repository = fixture("com/spotify/github/v3/repos/repository.json");
+    fileItems =
+        json.toJson(
+            IntStream.range(0, FILES)
+                .mapToObj(
+                    i ->
+                        ImmutableFileItem.builder()
+                            .sha("6dcb09b5b57875f334f61aebed695e2e4193db5e")
+                            .filename("src/main/java/File" + i + ".java")
+                            .status("modified")
+                            .additions(i)
+                            .deletions(1)
+                            .changes(i + 1)
+                            .blobUrl(URI.create("https://github.com/o/r/blob/sha/File" + i))
+                            .rawUrl(URI.create("https://github.com/o/r/raw/sha/File" + i))
+                            .patch("@@ -1,2 +1,2 @@\n-old\n+new")
+                            .build())
+                .collect(Collectors.toList()));
+  }
+
+  @Benchmark
+  public PullRequest pullRequest() throws IOException {
+    return json.fromJson(pullRequest, PullRequest.class);
+  }
+
+  @Benchmark
+  public Repository repository() throws IOException {
+    return json.fromJson(repository, Repository.class);
+  }
+
+  @Benchmark
+  public List<FileItem> fileItems() throws IOException {
+    return json.fromJson(fileItems, LIST_FILE_ITEMS);
+  }
+
+  private static String fixture(final String resource) throws IOException {
+    return Resources.toString(getResource(resource), UTF_8);
+  }
+}
@@ -0,0 +1,120 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.jackson;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import static com.google.common.io.Resources.getResource;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.io.Resources;
+import com.spotify.github.v3.comment.Comment;
+import com.spotify.github.v3.git.Tree;
+import com.spotify.github.v3.prs.PullRequest;
+import com.spotify.github.v3.repos.Repository;
+import com.spotify.github.v3.exceptions.DeserializationException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class JsonTest {
+
+  private static final String FOO =
+      "{\"long_value\":123456789,\"instant_value\":\"1973-11-29T21:33:09Z\"}";
+
+  @Test
+  public void sharesTheDefaultInstance() {
+    assertThat(Json.create() == Json.create(), is(true));
+  }
+
+  @Test
+  public void readsWithCachedReaders() throws Exception {
+    final TypeReference<List<Foo>> listOfFoo = new TypeReference<>() {};
+    final Json json = Json.create().warmUp(listOfFoo).warmUp(Foo.class);
+
+    final List<Foo> first = json.fromJson("[" + FOO + "]", listOfFoo);
+    final List<Foo> second =
+        json.fromJson("[" + FOO + "," + FOO + "]", new TypeReference<List<Foo>>() {});
+
+    assertThat(first.size(), is(1));
+    assertThat(second.size(), is(2));
+    assertThat(second.get(1).longValue().epoch(), is(123456789L));
+    assertThat(json.toJson(json.fromJson(FOO, Foo.class)), is(FOO));
+    assertThat(json.toJson(null), is("null"));
+    assertThrows(
+        DeserializationException.class, () -> json.fromJsonUncheckedNotNull("null", Foo.class));
+  }
+
+  @Test
+  public void deduplicatesWithinResponsesAndScopes() throws Exception {
+    final TypeReference<List<Comment>> listOfComment = new TypeReference<>() {};
+    final String page =
+        Resources.toString(
+            getResource("com/spotify/github/v3/clients/comments_page1.json"), UTF_8);
+
+    final List<Comment> plain = Json.create().fromJson(page, listOfComment);
+    assertThat(plain.get(1).issueUrl().get(), not(sameInstance(plain.get(0).issueUrl().get())));
+    assertThat(Json.create().scoped(), sameInstance(Json.create()));
+
+    final Json deduplicating = Json.createDeduplicating();
+    final List<Comment> first = deduplicating.fromJson(page, listOfComment);
+    final List<Comment> second = deduplicating.fromJson(page, listOfComment);
+    assertThat(first.get(1).issueUrl().get(), sameInstance(first.get(0).issueUrl().get()));
+    assertThat(first.get(1).user().login(), sameInstance(first.get(0).user().login()));
+    assertThat(second.get(0).user(), not(sameInstance(first.get(0).user())));
+
+    final Json listing = deduplicating.scoped();
+    final List<Comment> page1 = listing.fromJson(page, listOfComment);
+    final List<Comment> page2 = listing.fromJson(page, listOfComment);
+    assertThat(page2.get(0).user(), sameInstance(page1.get(0).user()));
+    assertThat(page2.get(0).htmlUrl(), sameInstance(page1.get(0).htmlUrl()));
+    assertThat(page2, is(first));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"smile", "cbor"})
+  public void roundTripsModelsThroughBinaryFormats(final String format) throws Exception {
+    final Json binary = "smile".equals(format) ? Json.createSmile() : Json.createCbor();
+
+    assertRoundTrip(binary, "com/spotify/github/v3/prs/pull_request.json", PullRequest.class);
+    assertRoundTrip(binary, "com/spotify/github/v3/repos/repository.json", Repository.class);
+    assertRoundTrip(binary, "com/spotify/github/v3/clients/tree.json", Tree.class);
+  }
+
+  private static <T> void assertRoundTrip(
+      final Json binary, final String fixture, final Class<T> clazz) throws Exception {
+    final Json text = Json.create();
+    final T model = text.fromJson(Resources.toString(getResource(fixture), UTF_8), clazz);
+    final String expected = text.toJson(model);
+
+    final byte[] bytes = binary.toBytes(model);
+
+    assertThat(text.toJson(binary.fromJson(bytes, clazz)), is(expected));
+    assertThat(bytes.length, lessThan(expected.getBytes(UTF_8).length));
+  }
+}
@@ -0,0 +1,89 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.jackson;
+
+import static com.google.common.io.Resources.getResource;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.io.Resources;
+import com.spotify.github.v3.prs.PullRequestItem;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reading a page of pull requests in full, and with a projection of the handful of fields a
+ * typical job reads. Run with the test classpath and the GC profiler to compare allocation, e.g.
+ * {@code java -cp <test classpath> org.openjdk.jmh.Main ProjectionBenchmark -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectionBenchmark {
+
+  private static final TypeReference<List<PullRequestItem>> LIST_OF_PR = new TypeReference<>() {};
+
+  private static final Projection PROJECTION =
+      Projection.of("number", "title", "state", "user.login", "head.sha", "base.ref");
+
+  @Param({"100"})
+  public int items;
+
+  private final Json json = Json.create();
+  private String page;
+
+  @Setup
+  public void setup() throws IOException {
+    final String item =
+        Resources.toString(getResource("com/spotify/github/v3/prs/pull_request_item.json"), UTF_8);
+    final StringBuilder builder = new StringBuilder("[");
+    for (int i = 0; i < items; i++) {
+      builder.append(i == 0 ? "" : ",").append(item);
+    }
+    page = builder.append(']').toString();
+    json.warmUp(LIST_OF_PR);
+  }
+
+  @Benchmark
+  public List<PullRequestItem> full() throws IOException {
+    return json.fromJson(page, LIST_OF_PR);
+  }
+
+  @Benchmark
+  public List<PullRequestItem> projected() throws IOException {
+    return json.fromJson(page, LIST_OF_PR, PROJECTION);
+  }
+}
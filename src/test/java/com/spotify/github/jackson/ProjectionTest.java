@@ -0,0 +1,96 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.jackson;
+
+import static com.spotify.github.FixtureHelper.loadFixture;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.spotify.github.v3.prs.PullRequestItem;
+import com.spotify.github.v3.repos.Repository;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class ProjectionTest {
+
+  private static final TypeReference<List<PullRequestItem>> LIST_OF_PR = new TypeReference<>() {};
+
+  private final Json json = Json.create();
+
+  @Test
+  public void readsOnlyProjectedFieldsOfEachItem() throws Exception {
+    final String item = loadFixture("prs/pull_request_item.json");
+    final List<PullRequestItem> items =
+        json.fromJson(
+            "[" + item + "," + item + "]",
+            LIST_OF_PR,
+            Projection.of("number", "title", "user.login", "head.sha"));
+
+    assertThat(items.size(), is(2));
+    final PullRequestItem pr = items.get(1);
+    assertThat(pr.number(), is(1347L));
+    assertThat(pr.title(), is("new-feature"));
+    assertThat(pr.user().login(), is("octocat"));
+    assertThat(pr.user().url(), nullValue());
+    assertThat(pr.head().sha(), is("6dcb09b5b57875f334f61aebed695e2e4193db5e"));
+    assertThat(pr.head().repo().isPresent(), is(false));
+    assertThat(pr.base(), nullValue());
+    assertThat(pr.links(), nullValue());
+    assertThat(pr.body().isPresent(), is(false));
+    assertThat(pr.requestedReviewers(), nullValue());
+  }
+
+  @Test
+  public void selectingAFieldSelectsItsSubtree() throws Exception {
+    final Repository repository =
+        json.fromJsonUncheckedNotNull(
+            loadFixture("repos/repository.json"),
+            Repository.class,
+            Projection.of("full_name", "owner", "owner.login"));
+
+    assertThat(repository.fullName(), is("octocat/Hello-World"));
+    assertThat(repository.owner().login(), is("octocat"));
+    assertThat(repository.owner().reposUrl(), notNullValue());
+    assertThat(repository.name(), nullValue());
+  }
+
+  @Test
+  public void keepsItemsWithoutProjectedFields() throws Exception {
+    final List<PullRequestItem> items =
+        json.fromJson("[{\"id\":1},{\"id\":2}]", LIST_OF_PR, Projection.of("title"));
+
+    assertThat(items.size(), is(2));
+    assertThat(items.get(0).title(), nullValue());
+    assertThat(json.fromJson("[]", LIST_OF_PR, Projection.of("title")), empty());
+  }
+
+  @Test
+  public void rejectsInvalidPaths() {
+    assertThrows(IllegalArgumentException.class, () -> Projection.of());
+    assertThrows(IllegalArgumentException.class, () -> Projection.of("user..login"));
+    assertThrows(IllegalArgumentException.class, () -> Projection.of("user."));
+  }
+}
@@ -0,0 +1,180 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3;
+
+import static com.spotify.github.FixtureHelper.loadFixture;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.spotify.github.GitHubInstant;
+import com.spotify.github.jackson.Json;
+import com.spotify.github.v3.comment.Comment;
+import com.spotify.github.v3.git.FileItem;
+import com.spotify.github.v3.git.TreeItem;
+import com.spotify.github.v3.prs.PullRequestItem;
+import com.spotify.github.v3.repos.Repository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+import org.openjdk.jol.vm.VirtualMachine;
+
+/**
+ * Retained heap of the model types that make up large listings, measured with JOL.
+ *
+ * <p>Sharing is checked on any JVM. Absolute sizes depend on the JVM layout, so the byte budgets
+ * are only checked on the layout they were calibrated on: 64-bit HotSpot with compressed oops and
+ * class pointers, and 8-byte alignment.
+ */
+public class ModelFootprintTest {
+
+  private static final int ITEMS = 100;
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final Json JSON = Json.create();
+  private static final Json DEDUPLICATING = Json.createDeduplicating();
+
+  private static final String FILE_ITEM =
+      "{\"sha\":\"bbcd538c8e72b8c175046e27cc8f907076331401\",\"filename\":\"file1.txt\","
+          + "\"status\":\"added\",\"additions\":103,\"deletions\":21,\"changes\":124,"
+          + "\"blob_url\":\"https://github.com/octocat/Hello-World/blob/"
+          + "6dcb09b5b57875f334f61aebed695e2e4193db5e/file1.txt\","
+          + "\"raw_url\":\"https://github.com/octocat/Hello-World/raw/"
+          + "6dcb09b5b57875f334f61aebed695e2e4193db5e/file1.txt\","
+          + "\"contents_url\":\"https://api.github.com/repos/octocat/Hello-World/contents/"
+          + "file1.txt?ref=6dcb09b5b57875f334f61aebed695e2e4193db5e\","
+          + "\"patch\":\"@@ -132,7 +132,7 @@ module Test @@ -1000,7 +1000,7 @@ module Test\"}";
+
+  @Test
+  public void gitHubInstantIsFlat() {
+    final GitHubInstant instant = GitHubInstant.create(Instant.parse("2011-01-26T19:01:12Z"));
+    final GraphLayout layout = GraphLayout.parseInstance(instant);
+    assertThat(layout.totalCount(), lessThanOrEqualTo(1L));
+    assumeCalibratedLayout();
+    assertThat(layout.totalSize(), lessThanOrEqualTo(32L));
+  }
+
+  @Test
+  public void pullRequestItemsShareNestedUsersAndRepositories() throws Exception {
+    final String listing =
+        listing(
+            loadFixture("prs/pull_request_item.json"),
+            (item, i) -> item.put("id", i).put("number", i));
+    final List<PullRequestItem> items =
+        DEDUPLICATING.fromJson(listing, new TypeReference<List<PullRequestItem>>() {});
+    final List<PullRequestItem> plain =
+        JSON.fromJson(listing, new TypeReference<List<PullRequestItem>>() {});
+
+    assertThat(plain.get(1).user(), not(sameInstance(plain.get(0).user())));
+    assertThat(items.get(1).user(), sameInstance(items.get(0).user()));
+    assertThat(
+        items.get(1).base().repo().get(), sameInstance(items.get(0).base().repo().get()));
+    assertSharedFootprint(items, 15_000L);
+  }
+
+  @Test
+  public void repositoriesShareOwners() throws Exception {
+    final String listing =
+        listing(loadFixture("repos/repository.json"), (item, i) -> item.put("id", i));
+    final List<Repository> items =
+        DEDUPLICATING.fromJson(listing, new TypeReference<List<Repository>>() {});
+
+    assertThat(items.get(1).owner(), sameInstance(items.get(0).owner()));
+    assertSharedFootprint(items, 16_000L);
+  }
+
+  @Test
+  public void deduplicatingJsonSharesValuesAcrossPages() throws Exception {
+    final TypeReference<List<Comment>> listOfComment = new TypeReference<>() {};
+    final String page = loadFixture("clients/comments_page1.json");
+    final Json listing = Json.createDeduplicating().scoped();
+    final List<Comment> plain = new ArrayList<>();
+    final List<Comment> deduplicated = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      plain.addAll(JSON.fromJson(page, listOfComment));
+      deduplicated.addAll(listing.fromJson(page, listOfComment));
+    }
+
+    assertThat(perItem(deduplicated), lessThan(perItem(plain) * 3 / 4));
+  }
+
+  @Test
+  public void fileItemFootprint() throws Exception {
+    final String listing =
+        listing(FILE_ITEM, (item, i) -> item.put("filename", "file" + i + ".txt"));
+    final List<FileItem> items = JSON.fromJson(listing, new TypeReference<List<FileItem>>() {});
+
+    assumeCalibratedLayout();
+    assertThat(perItem(items), lessThan(3_000L));
+  }
+
+  @Test
+  public void treeItemFootprint() throws Exception {
+    final String listing =
+        listing(
+            MAPPER.readTree(loadFixture("clients/tree.json")).get("tree").get(0).toString(),
+            (item, i) -> item.put("path", "file" + i));
+    final List<TreeItem> items = JSON.fromJson(listing, new TypeReference<List<TreeItem>>() {});
+
+    assumeCalibratedLayout();
+    assertThat(perItem(items), lessThan(1_200L));
+  }
+
+  /** Items of a listing must retain less than the same item read on its own. */
+  private static void assertSharedFootprint(final List<?> items, final long budget) {
+    final long alone = GraphLayout.parseInstance(items.get(0)).totalSize();
+    assertThat(perItem(items), lessThan(alone));
+    assumeCalibratedLayout();
+    assertThat(perItem(items), lessThan(budget));
+  }
+
+  private static void assumeCalibratedLayout() {
+    final VirtualMachine vm = VM.current();
+    assumeTrue(
+        vm.sizeOfField("oop") == 4 && vm.objectHeaderSize() == 12 && vm.objectAlignment() == 8,
+        "byte budgets are calibrated for compressed oops, 12-byte headers and 8-byte alignment");
+  }
+
+  private static long perItem(final List<?> items) {
+    return GraphLayout.parseInstance(items).totalSize() / items.size();
+  }
+
+  private static String listing(final String item, final BiConsumer<ObjectNode, Integer> vary)
+      throws Exception {
+    final ArrayNode array = MAPPER.createArrayNode();
+    for (int i = 0; i < ITEMS; i++) {
+      final ObjectNode copy = (ObjectNode) MAPPER.readTree(item);
+      vary.accept(copy, i);
+      array.add(copy);
+    }
+    return array.toString();
+  }
+}
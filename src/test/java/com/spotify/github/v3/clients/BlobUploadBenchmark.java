@@ -0,0 +1,104 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import com.google.common.collect.ImmutableMap;
+import com.spotify.github.jackson.Json;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.Okio;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writing a create blob request for a large file into a connection sink, as a string body built
+ * the way {@link GitDataClient#createBlob(String)} callers do, and as a streamed body. Run with
+ * the test classpath and the GC profiler to compare heap allocation per upload, e.g. {@code java
+ * -cp <test classpath> org.openjdk.jmh.Main BlobUploadBenchmark -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class BlobUploadBenchmark {
+
+  private static final MediaType JSON = MediaType.get("application/json");
+
+  @Param({"100"})
+  public int megabytes;
+
+  private final Json json = Json.create();
+  private Path file;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    final byte[] content = new byte[megabytes * 1024 * 1024];
+    new Random(1).nextBytes(content);
+    file = Files.createTempFile("blob", ".bin");
+    Files.write(file, content);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  public long stringBody() throws IOException {
+    final String content = Base64.getEncoder().encodeToString(Files.readAllBytes(file));
+    final String body =
+        json.toJsonUnchecked(ImmutableMap.of("content", content, "encoding", "utf-8|base64"));
+    final RequestBody request = RequestBody.create(body, JSON);
+    try (BufferedSink sink = Okio.buffer(Okio.blackhole())) {
+      request.writeTo(sink);
+    }
+    return request.contentLength();
+  }
+
+  @Benchmark
+  public long streamingBody() throws IOException {
+    final Base64BlobBody body = Base64BlobBody.of(file);
+    try (BufferedSink sink = Okio.buffer(Okio.blackhole())) {
+      body.writeTo(sink.outputStream());
+    }
+    return body.contentLength();
+  }
+}
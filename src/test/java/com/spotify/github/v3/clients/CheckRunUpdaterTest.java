@@ -0,0 +1,237 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import static com.spotify.github.v3.checks.CheckRunConclusion.success;
+import static com.spotify.github.v3.checks.CheckRunStatus.completed;
+import static com.spotify.github.v3.checks.CheckRunStatus.in_progress;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.spotify.github.jackson.Json;
+import com.spotify.github.v3.checks.AnnotationLevel;
+import com.spotify.github.v3.checks.CheckRunRequest;
+import com.spotify.github.v3.checks.CheckRunResponse;
+import com.spotify.github.v3.checks.CheckRunStatus;
+import com.spotify.github.v3.checks.ImmutableAnnotation;
+import com.spotify.github.v3.checks.ImmutableCheckRunOutput;
+import com.spotify.github.v3.checks.ImmutableCheckRunRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CheckRunUpdaterTest {
+
+  private final Json json = Json.create();
+  private final List<CheckRunRequest> sent = new CopyOnWriteArrayList<>();
+  private final List<CompletableFuture<CheckRunResponse>> responses = new ArrayList<>();
+  private GitHubClient github;
+  private ChecksClient checks;
+  private CheckRunResponse response;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    github = mock(GitHubClient.class);
+    when(github.json()).thenReturn(json);
+    checks = new ChecksClient(github, "someowner", "somerepo");
+    response =
+        json.fromJson(
+            ChecksClientTest.loadResource(
+                "com/spotify/github/v3/checks/checks-run-completed-response.json"),
+            CheckRunResponse.class);
+    when(github.patch(any(), any(), eq(CheckRunResponse.class), any()))
+        .thenAnswer(
+            invocation -> {
+              sent.add(json.fromJson((String) invocation.getArgument(1), CheckRunRequest.class));
+              synchronized (responses) {
+                return responses.isEmpty() ? completedFuture(response) : responses.remove(0);
+              }
+            });
+  }
+
+  @Test
+  public void mergesUpdatesWithinTheWindow() throws Exception {
+    final CheckRunUpdater updater = checks.checkRunUpdater(Duration.ofMillis(200));
+    final List<CompletableFuture<CheckRunResponse>> futures = new ArrayList<>();
+    for (int i = 1; i <= 5; i++) {
+      futures.add(updater.update(1, progress(in_progress, "step " + i, i)));
+    }
+    assertThat(sent.size(), is(0));
+
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+        .get(5, TimeUnit.SECONDS);
+
+    assertThat(sent.size(), is(1));
+    assertThat(sent.get(0).output().get().summary().get(), is("step 5"));
+    assertThat(sent.get(0).output().get().annotations().size(), is(5));
+    assertThat(sent.get(0).externalId().get(), is("build-1"));
+    assertThat(updater.received(), is(5L));
+    assertThat(updater.sent(), is(1L));
+    assertThat(updater.saved(), is(4L));
+  }
+
+  @Test
+  public void sendsCompletionRightAway() throws Exception {
+    final CheckRunUpdater updater = checks.checkRunUpdater(Duration.ofHours(1));
+    final CompletableFuture<CheckRunResponse> progress =
+        updater.update(1, progress(in_progress, "running", 1));
+    final CompletableFuture<CheckRunResponse> done =
+        updater.update(
+            1,
+            ImmutableCheckRunRequest.builder()
+                .from(progress(completed, "done", 2))
+                .conclusion(success)
+                .build());
+
+    assertThat(done.get(5, TimeUnit.SECONDS), is(response));
+    assertThat(progress.isDone(), is(true));
+    assertThat(sent.size(), is(1));
+    assertThat(sent.get(0).status(), is(completed));
+    assertThat(sent.get(0).conclusion().get(), is(success));
+    assertThat(sent.get(0).output().get().annotations().size(), is(2));
+  }
+
+  @Test
+  public void sendsConclusionRightAway() throws Exception {
+    final CheckRunUpdater updater = checks.checkRunUpdater(Duration.ofHours(1));
+    updater.update(1, progress(in_progress, "running", 1));
+    final CompletableFuture<CheckRunResponse> concluded =
+        updater.update(
+            1,
+            ImmutableCheckRunRequest.builder()
+                .from(progress(in_progress, "done", 2))
+                .conclusion(success)
+                .build());
+
+    assertThat(concluded.get(5, TimeUnit.SECONDS), is(response));
+    assertThat(sent.size(), is(1));
+    assertThat(sent.get(0).conclusion().get(), is(success));
+  }
+
+  @Test
+  public void waitsForTheRequestInFlight() throws Exception {
+    final CompletableFuture<CheckRunResponse> first = new CompletableFuture<>();
+    responses.add(first);
+    final CheckRunUpdater updater = checks.checkRunUpdater(Duration.ofHours(1));
+
+    updater.update(1, progress(completed, "first", 1));
+    final CompletableFuture<CheckRunResponse> second =
+        updater.update(1, progress(completed, "second", 2));
+    final CompletableFuture<CheckRunResponse> third =
+        updater.update(1, progress(completed, "third", 3));
+    assertThat(sent.size(), is(1));
+
+    first.complete(response);
+    third.get(5, TimeUnit.SECONDS);
+
+    assertThat(second.isDone(), is(true));
+    assertThat(sent.size(), is(2));
+    assertThat(sent.get(1).output().get().summary().get(), is("third"));
+    assertThat(updater.saved(), is(1L));
+  }
+
+  @Test
+  public void keepsTheWindowOfAnUpdateAfterAFlush() throws Exception {
+    final CheckRunUpdater updater = checks.checkRunUpdater(Duration.ofSeconds(1));
+    final long start = System.nanoTime();
+    updater.update(1, progress(in_progress, "first", 1));
+    updater.flush().get(5, TimeUnit.SECONDS);
+    Thread.sleep(500);
+    final CompletableFuture<CheckRunResponse> second =
+        updater.update(1, progress(in_progress, "second", 2));
+
+    // The window of the first update ends here, halfway through the window of the second.
+    Thread.sleep(Math.max(0, 1250 - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+    assertThat(sent.size(), is(1));
+
+    second.get(5, TimeUnit.SECONDS);
+    assertThat(sent.size(), is(2));
+  }
+
+  @Test
+  public void failsAnUpdateThatThrowsAndSendsTheNext() throws Exception {
+    doThrow(new IllegalStateException("boom"))
+        .doReturn(completedFuture(response))
+        .when(github)
+        .patch(any(), any(), eq(CheckRunResponse.class), any());
+    final CheckRunUpdater updater = checks.checkRunUpdater(Duration.ofHours(1));
+
+    final CompletableFuture<CheckRunResponse> first =
+        updater.update(1, progress(completed, "first", 1));
+    final ExecutionException e =
+        assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+    assertThat(e.getCause().getMessage(), is("boom"));
+
+    assertThat(
+        updater.update(1, progress(completed, "second", 2)).get(5, TimeUnit.SECONDS),
+        is(response));
+  }
+
+  @Test
+  public void flushSendsPendingUpdates() throws Exception {
+    final CheckRunUpdater updater = checks.checkRunUpdater(Duration.ofHours(1));
+    updater.update(1, progress(in_progress, "one", 1));
+    updater.update(2, progress(in_progress, "two", 2));
+
+    updater.flush().get(5, TimeUnit.SECONDS);
+
+    assertThat(sent.size(), is(2));
+  }
+
+  private static CheckRunRequest progress(
+      final CheckRunStatus status, final String summary, final int line) {
+    final ImmutableCheckRunRequest.Builder request =
+        ImmutableCheckRunRequest.builder()
+            .name("build")
+            .headSha("6c9a91c6067bc5251266e77d5a9461f584b019c9")
+            .status(status)
+            .output(
+                ImmutableCheckRunOutput.builder()
+                    .title("Build")
+                    .summary(summary)
+                    .addAnnotations(
+                        ImmutableAnnotation.builder()
+                            .path("src/Main.java")
+                            .annotationLevel(AnnotationLevel.notice)
+                            .message(summary)
+                            .startLine(line)
+                            .endLine(line)
+                            .build())
+                    .build());
+    if (line == 1) {
+      request.externalId("build-1");
+    }
+    return request.build();
+  }
+}
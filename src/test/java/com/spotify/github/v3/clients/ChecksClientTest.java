@@ -20,6 +20,7 @@
 
 package com.spotify.github.v3.clients;
 
+import static com.spotify.github.MockHelper.createMockResponse;
 import static com.spotify.github.v3.checks.CheckRunConclusion.neutral;
 import static com.spotify.github.v3.checks.CheckRunStatus.completed;
 import static com.spotify.github.v3.checks.CheckRunStatus.in_progress;
@@ -27,28 +28,50 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.google.common.io.Resources;
+import com.spotify.github.async.AsyncPage;
 import com.spotify.github.jackson.Json;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.spotify.github.v3.checks.Annotation;
+import com.spotify.github.v3.checks.AnnotationLevel;
 import com.spotify.github.v3.checks.CheckRunOutput;
 import com.spotify.github.v3.checks.CheckRunRequest;
 import com.spotify.github.v3.checks.CheckRunResponse;
 import com.spotify.github.v3.checks.CheckRunResponseList;
+import com.spotify.github.v3.checks.CheckSuite;
+import com.spotify.github.v3.checks.ImmutableCheckRunsFilter;
+import com.spotify.github.v3.checks.ImmutableCheckSuitesFilter;
 import com.spotify.github.v3.checks.ImmutableCheckRunOutput;
+import com.spotify.github.v3.checks.ImmutableAnnotation;
 import com.spotify.github.v3.checks.ImmutableCheckRunRequest;
+import com.spotify.github.v3.exceptions.CheckRunAnnotationException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 public class ChecksClientTest {
 
   private static final String FIXTURES_PATH = "com/spotify/github/v3/checks/";
+  private static final Map<String, String> PREVIEW =
+      Map.of("Accept", "application/vnd.github.antiope-preview+json");
   private GitHubClient github;
   private ChecksClient checksClient;
   private Json json;
@@ -183,4 +206,190 @@ public class ChecksClientTest {
     assertThat(result.contains("details_url"), is(false));
     assertThat(result.contains("annotations_count"), is(false));
   }
+
+  @Test
+  public void createSplitsAnnotationsAndCompletesLast() throws Exception {
+    final CheckRunResponse created =
+        json.fromJson(
+            loadResource(FIXTURES_PATH + "checks-run-completed-response.json"),
+            CheckRunResponse.class);
+    final List<String> requests = new CopyOnWriteArrayList<>();
+    when(github.post(any(), any(), eq(CheckRunResponse.class), any()))
+        .thenAnswer(
+            invocation -> {
+              requests.add("POST " + summarize(invocation.getArgument(1)));
+              return completedFuture(created);
+            });
+    when(github.patch(any(), any(), eq(CheckRunResponse.class), any()))
+        .thenAnswer(
+            invocation -> {
+              requests.add("PATCH " + summarize(invocation.getArgument(1)));
+              return completedFuture(created);
+            });
+
+    checksClient.createCheckRun(checkRunWithAnnotations(120)).get();
+
+    assertThat(
+        requests,
+        is(
+            List.of(
+                "POST in_progress - 1-50",
+                "PATCH in_progress - 51-100",
+                "PATCH completed neutral 101-120")));
+  }
+
+  @Test
+  public void updateReportsRemainingAnnotationsOnFailure() throws Exception {
+    final CheckRunResponse updated =
+        json.fromJson(
+            loadResource(FIXTURES_PATH + "checks-run-completed-response.json"),
+            CheckRunResponse.class);
+    final List<String> requests = new CopyOnWriteArrayList<>();
+    final AtomicBoolean failOnce = new AtomicBoolean(true);
+    when(github.patch(any(), any(), eq(CheckRunResponse.class), any()))
+        .thenAnswer(
+            invocation -> {
+              final String request = summarize(invocation.getArgument(1));
+              requests.add(request);
+              return request.endsWith(" 51-100") && failOnce.getAndSet(false)
+                  ? CompletableFuture.failedFuture(new IOException("boom"))
+                  : completedFuture(updated);
+            });
+
+    final ExecutionException e =
+        assertThrows(
+            ExecutionException.class,
+            () -> checksClient.updateCheckRun(7, checkRunWithAnnotations(175)).get());
+
+    final CheckRunAnnotationException failure = (CheckRunAnnotationException) e.getCause();
+    assertThat(failure.checkRunId(), is(7L));
+    assertThat(failure.getCause().getMessage(), is("boom"));
+    final List<Annotation> remaining = failure.remaining().output().get().annotations();
+    assertThat(remaining.size(), is(125));
+    assertThat(remaining.get(0).startLine(), is(51));
+    assertThat(failure.remaining().status(), is(completed));
+
+    requests.clear();
+    checksClient.updateCheckRun(failure.checkRunId(), failure.remaining()).get();
+
+    assertThat(
+        requests,
+        is(
+            List.of(
+                "in_progress - 51-100",
+                "in_progress - 101-150",
+                "completed neutral 151-175")));
+  }
+
+  private CheckRunRequest checkRunWithAnnotations(final int count) {
+    final List<Annotation> annotations =
+        IntStream.rangeClosed(1, count)
+            .mapToObj(
+                line ->
+                    ImmutableAnnotation.builder()
+                        .path("src/Main.java")
+                        .annotationLevel(AnnotationLevel.warning)
+                        .message("finding")
+                        .startLine(line)
+                        .endLine(line)
+                        .build())
+            .collect(Collectors.toList());
+    return ImmutableCheckRunRequest.builder()
+        .name("lint")
+        .headSha("6c9a91c6067bc5251266e77d5a9461f584b019c9")
+        .status(completed)
+        .conclusion(neutral)
+        .output(
+            ImmutableCheckRunOutput.builder()
+                .title("Lint")
+                .summary("Findings")
+                .annotations(annotations)
+                .build())
+        .build();
+  }
+
+  /** Status, conclusion and the range of annotated lines of a request body. */
+  private String summarize(final String body) throws IOException {
+    final JsonNode request = json.fromJson(body, JsonNode.class);
+    final JsonNode annotations = request.path("output").path("annotations");
+    return request.path("status").asText()
+        + " "
+        + request.path("conclusion").asText("-")
+        + " "
+        + annotations.get(0).path("start_line").asInt()
+        + "-"
+        + annotations.get(annotations.size() - 1).path("start_line").asInt();
+  }
+
+  @Test
+  public void listCheckRunsFollowsEveryPageWithFilters() throws Exception {
+    final String path =
+        "/repos/someowner/somerepo/commits/some-sha/check-runs"
+            + "?app_id=42&check_name=lint&status=in_progress";
+    final String body = loadResource(FIXTURES_PATH + "checks-runs-list.json");
+    when(github.urlFor("")).thenReturn("https://bogus");
+    when(github.request(path + "&per_page=100", PREVIEW))
+        .thenReturn(
+            completedFuture(
+                createMockResponse(
+                    "<https://bogus" + path + "&per_page=100&page=2>; rel=\"next\"", body)));
+    when(github.request(path + "&per_page=100&page=2", PREVIEW))
+        .thenReturn(completedFuture(createMockResponse("", body)));
+
+    final Iterator<AsyncPage<CheckRunResponse>> pages =
+        checksClient.listCheckRuns(
+            "some-sha",
+            ImmutableCheckRunsFilter.builder()
+                .check_name("lint")
+                .status(in_progress)
+                .app_id(42L)
+                .build());
+
+    final List<CheckRunResponse> runs = new ArrayList<>();
+    pages.forEachRemaining(page -> page.forEach(runs::add));
+    assertThat(runs.size(), is(4));
+    assertThat(runs.get(0).name(), is("mighty_readme"));
+  }
+
+  @Test
+  public void listCheckSuitesPublisherStreamsSuites() throws Exception {
+    final String path = "/repos/someowner/somerepo/commits/some-sha/check-suites?app_id=7";
+    when(github.request(path + "&per_page=100", PREVIEW))
+        .thenReturn(
+            completedFuture(
+                createMockResponse(
+                    "", loadResource(FIXTURES_PATH + "check-suites-response.json"))));
+
+    final List<CheckSuite> suites = new ArrayList<>();
+    final CompletableFuture<Void> done = new CompletableFuture<>();
+    checksClient
+        .listCheckSuitesPublisher(
+            "some-sha", ImmutableCheckSuitesFilter.builder().app_id(7L).build())
+        .subscribe(
+            new Flow.Subscriber<>() {
+              @Override
+              public void onSubscribe(final Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+              }
+
+              @Override
+              public void onNext(final CheckSuite suite) {
+                suites.add(suite);
+              }
+
+              @Override
+              public void onError(final Throwable throwable) {
+                done.completeExceptionally(throwable);
+              }
+
+              @Override
+              public void onComplete() {
+                done.complete(null);
+              }
+            });
+
+    done.get();
+    assertThat(suites.size(), is(1));
+    assertThat(suites.get(0).id(), is(5L));
+  }
 }
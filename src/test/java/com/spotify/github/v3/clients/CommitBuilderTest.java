@@ -0,0 +1,346 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.spotify.github.v3.exceptions.RequestNotOkException;
+import com.spotify.github.v3.repos.Commit;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CommitBuilderTest {
+
+  private final MockWebServer server = new MockWebServer();
+  private final FakeGitData git = new FakeGitData();
+  private GitDataClient gitDataClient;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    server.setDispatcher(git);
+    server.start();
+    gitDataClient =
+        GitHubClient.create(server.url("/").uri(), "token").createGitDataClient("owner", "repo");
+    git.seed(Map.of("a.txt", "a", "b.txt", "b", "c.txt", "c"));
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  @Test
+  public void commitsOnlyChangedFilesAndUploadsUnknownBlobs() throws Exception {
+    final String base = git.head;
+    final CommitBuilder builder =
+        gitDataClient
+            .commitBuilder("main")
+            .parallelism(4)
+            .add("a.txt", bytes("a"))
+            .add("b.txt", bytes("b2"))
+            .add("copy-of-b.txt", bytes("b"))
+            .delete("c.txt")
+            .delete("missing.txt");
+    for (int i = 0; i < 20; i++) {
+      builder.add("gen/file" + i + ".txt", bytes("generated " + i));
+    }
+
+    final Commit commit = builder.commit("Regenerate").get();
+
+    assertThat(git.head, is(commit.sha()));
+    assertThat(git.parents.get(commit.sha()), is(base));
+    assertThat(git.blobUploads.get(), is(21));
+    assertThat(git.maxConcurrentUploads.get(), lessThanOrEqualTo(4));
+    final Map<String, String> files = git.files(commit.sha());
+    assertThat(files.get("b.txt"), is("b2"));
+    assertThat(files.get("copy-of-b.txt"), is("b"));
+    assertThat(files.get("gen/file7.txt"), is("generated 7"));
+    assertThat(files.containsKey("c.txt"), is(false));
+    assertThat(files.size(), is(23));
+  }
+
+  @Test
+  public void rebuildsOnMovedBranchWithoutUploadingAgain() throws Exception {
+    git.moveBranchBeforeNextUpdate = Map.of("other.txt", "other");
+
+    final Commit commit =
+        gitDataClient
+            .commitBuilder("main")
+            .add("a.txt", bytes("a2"))
+            .add("new.txt", bytes("new"))
+            .commit("Change")
+            .get();
+
+    assertThat(git.refUpdates.get(), is(2));
+    assertThat(git.blobUploads.get(), is(2));
+    assertThat(git.head, is(commit.sha()));
+    assertThat(
+        git.files(commit.sha()).keySet(),
+        containsInAnyOrder("a.txt", "b.txt", "c.txt", "new.txt", "other.txt"));
+  }
+
+  @Test
+  public void failsWithoutRebuildingWhenAnUploadFails() throws Exception {
+    git.failedUploads.set(1);
+    final CommitBuilder builder =
+        gitDataClient
+            .commitBuilder("main")
+            .parallelism(1)
+            .add("new.txt", bytes("new"))
+            .add("other.txt", bytes("other"));
+
+    final ExecutionException failure =
+        assertThrows(ExecutionException.class, () -> builder.commit("Change").get());
+
+    assertThat(((RequestNotOkException) failure.getCause()).statusCode(), is(422));
+    assertThat(git.uploadRequests.get(), is(1));
+    assertThat(git.refUpdates.get(), is(0));
+
+    final Commit commit = builder.commit("Change").get();
+
+    assertThat(git.blobUploads.get(), is(2));
+    assertThat(git.files(commit.sha()).get("other.txt"), is("other"));
+  }
+
+  @Test
+  public void returnsHeadWhenNothingChanged() throws Exception {
+    final String head = git.head;
+
+    final Commit commit =
+        gitDataClient
+            .commitBuilder("main")
+            .add("a.txt", new ByteArrayInputStream(bytes("a")).readAllBytes())
+            .delete("missing.txt")
+            .commit("Nothing")
+            .get();
+
+    assertThat(commit.sha(), is(head));
+    assertThat(git.refUpdates.get(), is(0));
+  }
+
+  @Test
+  public void computesGitBlobSha() {
+    // git hash-object of "hello\n"
+    assertThat(
+        CommitBuilder.blobSha(new ByteArrayInputStream(bytes("hello\n")), 6),
+        is("ce013625030ba8dba906f756967f9e9ca394464a"));
+  }
+
+  private static byte[] bytes(final String content) {
+    return content.getBytes(UTF_8);
+  }
+
+  /** In-memory git data API of a single repository with a "main" branch. */
+  private static final class FakeGitData extends Dispatcher {
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, Map<String, String>> trees = new ConcurrentHashMap<>();
+    private final Map<String, String> commitTrees = new ConcurrentHashMap<>();
+    private final Map<String, String> parents = new ConcurrentHashMap<>();
+    private final Map<String, String> blobs = new ConcurrentHashMap<>();
+    private final AtomicInteger ids = new AtomicInteger();
+    private final AtomicInteger blobUploads = new AtomicInteger();
+    private final AtomicInteger uploadRequests = new AtomicInteger();
+    private final AtomicInteger failedUploads = new AtomicInteger();
+    private final AtomicInteger uploadsInFlight = new AtomicInteger();
+    private final AtomicInteger maxConcurrentUploads = new AtomicInteger();
+    private final AtomicInteger refUpdates = new AtomicInteger();
+    private volatile String head;
+    private volatile Map<String, String> moveBranchBeforeNextUpdate;
+
+    void seed(final Map<String, String> files) {
+      final Map<String, String> tree = new TreeMap<>();
+      files.forEach((path, content) -> tree.put(path, store(content)));
+      head = commit(tree, null);
+    }
+
+    Map<String, String> files(final String commit) {
+      final Map<String, String> files = new TreeMap<>();
+      trees.get(commitTrees.get(commit)).forEach((path, sha) -> files.put(path, blobs.get(sha)));
+      return files;
+    }
+
+    private String store(final String content) {
+      final byte[] bytes = content.getBytes(UTF_8);
+      final String sha = CommitBuilder.blobSha(new ByteArrayInputStream(bytes), bytes.length);
+      blobs.put(sha, content);
+      return sha;
+    }
+
+    private String commit(final Map<String, String> tree, final String parent) {
+      final String treeSha = "tree" + ids.incrementAndGet();
+      trees.put(treeSha, tree);
+      final String sha = "commit" + ids.incrementAndGet();
+      commitTrees.put(sha, treeSha);
+      if (parent != null) {
+        parents.put(sha, parent);
+      }
+      return sha;
+    }
+
+    @Override
+    public MockResponse dispatch(final RecordedRequest request) throws InterruptedException {
+      final String path = request.getPath().replaceFirst("^/repos/owner/repo/git/", "");
+      try {
+        if (path.equals("refs/heads/main")) {
+          return "PATCH".equals(request.getMethod()) ? updateRef(request) : json(ref());
+        }
+        if (path.startsWith("commits/")) {
+          final String sha = path.substring("commits/".length());
+          return json(commitJson(sha));
+        }
+        if (path.startsWith("trees/")) {
+          final String sha = path.substring("trees/".length()).replace("?recursive=true", "");
+          return json(treeJson(sha));
+        }
+        if (path.equals("blobs")) {
+          return uploadBlob(request);
+        }
+        if (path.equals("trees")) {
+          return createTree(request);
+        }
+        if (path.equals("commits")) {
+          final JsonNode body = mapper.readTree(request.getBody().readUtf8());
+          final String tree = body.get("tree").asText();
+          final String sha = "commit" + ids.incrementAndGet();
+          commitTrees.put(sha, tree);
+          parents.put(sha, body.get("parents").get(0).asText());
+          return json(commitJson(sha));
+        }
+      } catch (IOException e) {
+        return new MockResponse().setResponseCode(500);
+      }
+      return new MockResponse().setResponseCode(404);
+    }
+
+    private MockResponse uploadBlob(final RecordedRequest request)
+        throws IOException, InterruptedException {
+      uploadRequests.incrementAndGet();
+      if (failedUploads.getAndDecrement() > 0) {
+        return new MockResponse().setResponseCode(422);
+      }
+      maxConcurrentUploads.accumulateAndGet(uploadsInFlight.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(20);
+        final JsonNode body = mapper.readTree(request.getBody().readUtf8());
+        final String content =
+            new String(Base64.getDecoder().decode(body.get("content").asText()), UTF_8);
+        blobUploads.incrementAndGet();
+        return json(mapper.createObjectNode().put("sha", store(content)));
+      } finally {
+        uploadsInFlight.decrementAndGet();
+      }
+    }
+
+    private MockResponse createTree(final RecordedRequest request) throws IOException {
+      final JsonNode body = mapper.readTree(request.getBody().readUtf8());
+      final Map<String, String> tree = new TreeMap<>(trees.get(body.get("base_tree").asText()));
+      for (final JsonNode entry : body.get("tree")) {
+        if (entry.get("sha").isNull()) {
+          tree.remove(entry.get("path").asText());
+        } else if (!blobs.containsKey(entry.get("sha").asText())) {
+          return new MockResponse().setResponseCode(422);
+        } else {
+          tree.put(entry.get("path").asText(), entry.get("sha").asText());
+        }
+      }
+      final String sha = "tree" + ids.incrementAndGet();
+      trees.put(sha, tree);
+      return json(treeJson(sha));
+    }
+
+    private synchronized MockResponse updateRef(final RecordedRequest request) throws IOException {
+      refUpdates.incrementAndGet();
+      if (moveBranchBeforeNextUpdate != null) {
+        final Map<String, String> tree = new TreeMap<>(trees.get(commitTrees.get(head)));
+        moveBranchBeforeNextUpdate.forEach((path, content) -> tree.put(path, store(content)));
+        head = commit(tree, head);
+        moveBranchBeforeNextUpdate = null;
+        return new MockResponse()
+            .setResponseCode(422)
+            .setBody("{\"message\":\"Update is not a fast forward\"}");
+      }
+      final JsonNode body = mapper.readTree(request.getBody().readUtf8());
+      final String sha = body.get("sha").asText();
+      if (!head.equals(parents.get(sha))) {
+        return new MockResponse().setResponseCode(422);
+      }
+      head = sha;
+      return json(ref());
+    }
+
+    private ObjectNode ref() {
+      final ObjectNode ref = mapper.createObjectNode().put("ref", "refs/heads/main");
+      ref.putObject("object").put("sha", head).put("type", "commit");
+      return ref;
+    }
+
+    private ObjectNode commitJson(final String sha) {
+      final ObjectNode commit = mapper.createObjectNode().put("sha", sha);
+      commit.putObject("tree").put("sha", commitTrees.get(sha));
+      return commit;
+    }
+
+    private ObjectNode treeJson(final String sha) {
+      final ObjectNode tree = mapper.createObjectNode().put("sha", sha).put("truncated", false);
+      final ArrayNode items = tree.putArray("tree");
+      final List<String> paths = new ArrayList<>(trees.get(sha).keySet());
+      for (final String path : paths) {
+        items
+            .addObject()
+            .put("path", path)
+            .put("mode", "100644")
+            .put("type", "blob")
+            .put("sha", trees.get(sha).get(path));
+      }
+      return tree;
+    }
+
+    private MockResponse json(final JsonNode body) {
+      return new MockResponse()
+          .setHeader("Content-Type", "application/json")
+          .setBody(body.toString());
+    }
+  }
+}
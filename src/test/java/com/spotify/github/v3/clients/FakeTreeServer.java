@@ -0,0 +1,106 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * Serves the git trees API of owner/repo from trees registered by sha. Each tree maps entry
+ * names to "blob", "blob:&lt;sha&gt;" or the sha of a subtree. Recursive listings of trees marked
+ * truncated return only their first entry.
+ */
+final class FakeTreeServer extends Dispatcher {
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final Map<String, Map<String, String>> trees = new LinkedHashMap<>();
+  final Set<String> truncated = new HashSet<>();
+  final List<String> requested = new CopyOnWriteArrayList<>();
+  final AtomicInteger inFlight = new AtomicInteger();
+  final AtomicInteger maxInFlight = new AtomicInteger();
+  volatile long delayMillis;
+
+  void tree(final String sha, final Map<String, String> entries) {
+    trees.put(sha, new LinkedHashMap<>(entries));
+  }
+
+  @Override
+  public MockResponse dispatch(final RecordedRequest request) throws InterruptedException {
+    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+    try {
+      Thread.sleep(delayMillis);
+      final String path = request.getPath().replaceFirst("^/repos/owner/repo/git/trees/", "");
+      final boolean recursive = path.endsWith("?recursive=true");
+      final String sha = path.replace("?recursive=true", "");
+      requested.add(sha);
+      if (!trees.containsKey(sha)) {
+        return new MockResponse().setResponseCode(404);
+      }
+      final ObjectNode tree = mapper.createObjectNode().put("sha", sha);
+      final ArrayNode items = tree.putArray("tree");
+      list(sha, "", recursive, items);
+      if (recursive && truncated.contains(sha)) {
+        while (items.size() > 1) {
+          items.remove(items.size() - 1);
+        }
+      }
+      tree.put("truncated", recursive && truncated.contains(sha));
+      return new MockResponse()
+          .setHeader("Content-Type", "application/json")
+          .setBody(tree.toString());
+    } finally {
+      inFlight.decrementAndGet();
+    }
+  }
+
+  private void list(
+      final String sha, final String prefix, final boolean recursive, final ArrayNode items) {
+    trees
+        .get(sha)
+        .forEach(
+            (name, target) -> {
+              final boolean blob = target.startsWith("blob");
+              items
+                  .addObject()
+                  .put("path", prefix + name)
+                  .put("mode", blob ? "100644" : "040000")
+                  .put("type", blob ? "blob" : "tree")
+                  .put("sha", blob ? blobSha(sha, name, target) : target);
+              if (recursive && !blob && trees.containsKey(target)) {
+                list(target, prefix + name + "/", true, items);
+              }
+            });
+  }
+
+  private static String blobSha(final String tree, final String name, final String target) {
+    return target.equals("blob") ? tree + "/" + name : target.substring("blob:".length());
+  }
+}
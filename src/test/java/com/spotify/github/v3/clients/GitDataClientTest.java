@@ -30,13 +30,17 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.StringContains.containsString;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.Resources;
+import com.spotify.github.http.StreamingBody;
 import com.spotify.github.jackson.Json;
 import com.spotify.github.v3.git.ImmutableTree;
 import com.spotify.github.v3.git.ImmutableTreeItem;
@@ -46,12 +50,27 @@ import com.spotify.github.v3.git.Tag;
 import com.spotify.github.v3.git.Tree;
 import com.spotify.github.v3.git.TreeItem;
 import com.spotify.github.v3.repos.Commit;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.CompletableFuture;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 
 public class GitDataClientTest {
 
@@ -338,4 +357,63 @@ public class GitDataClientTest {
 
     assertThat(shalink.sha(), is("8fc4e0fe57752b892a921806a1352e4cc72dff37"));
   }
+
+  @Test
+  public void testCreateBlobFromFile(@TempDir final Path dir) throws Exception {
+    final byte[] content = new byte[100_001];
+    new Random(7).nextBytes(content);
+    final Path file = Files.write(dir.resolve("blob.bin"), content);
+    final ArgumentCaptor<StreamingBody> body = ArgumentCaptor.forClass(StreamingBody.class);
+    when(github.postStreaming(
+            eq("/repos/someowner/somerepo/git/blobs"), body.capture(), eq(ShaLink.class)))
+        .thenReturn(completedFuture(json.fromJson(getFixture("shalink.json"), ShaLink.class)));
+
+    final ShaLink shalink = gitDataClient.createBlob(file).join();
+
+    assertThat(shalink.sha(), is("8fc4e0fe57752b892a921806a1352e4cc72dff37"));
+    final ByteArrayOutputStream written = new ByteArrayOutputStream();
+    body.getValue().writeTo(written);
+    assertThat((long) written.size(), is(body.getValue().contentLength()));
+    final JsonNode request = new ObjectMapper().readTree(written.toByteArray());
+    assertThat(request.get("encoding").asText(), is("base64"));
+    assertThat(
+        Arrays.equals(Base64.getDecoder().decode(request.get("content").asText()), content),
+        is(true));
+  }
+
+  @Test
+  public void testCreateBlobFromShortStream() {
+    final ArgumentCaptor<StreamingBody> body = ArgumentCaptor.forClass(StreamingBody.class);
+    when(github.postStreaming(
+            eq("/repos/someowner/somerepo/git/blobs"), body.capture(), eq(ShaLink.class)))
+        .thenReturn(new CompletableFuture<>());
+
+    gitDataClient.createBlob(new ByteArrayInputStream(new byte[10]), 11);
+
+    assertThat(body.getValue().oneShot(), is(true));
+    assertThrows(
+        EOFException.class, () -> body.getValue().writeTo(OutputStream.nullOutputStream()));
+  }
+
+  @Test
+  public void testCreateBlobStreamsRequest() throws Exception {
+    try (MockWebServer server = new MockWebServer()) {
+      server.enqueue(new MockResponse().setBody(getFixture("shalink.json")));
+      server.start();
+      final GitDataClient client =
+          GitHubClient.create(server.url("/").uri(), "token")
+              .createGitDataClient("someowner", "somerepo");
+
+      final ShaLink shalink =
+          client
+              .createBlob(new ByteArrayInputStream("hello".getBytes(StandardCharsets.UTF_8)), 5)
+              .join();
+
+      assertThat(shalink.sha(), is("8fc4e0fe57752b892a921806a1352e4cc72dff37"));
+      final RecordedRequest request = server.takeRequest();
+      assertThat(request.getHeader("Content-Length"), is("42"));
+      assertThat(
+          request.getBody().readUtf8(), is("{\"content\":\"aGVsbG8=\",\"encoding\":\"base64\"}"));
+    }
+  }
 }
@@ -102,6 +102,26 @@ public class GitHubClientTest {
     Assertions.assertEquals(org.getPrivateKey().get(), scoped.getPrivateKey().get());
   }
 
+  @Test
+  public void scopedClientsKeepCachesAndDeduplication() throws URISyntaxException {
+    final GitObjectCache cache = GitObjectCache.create(1_000_000);
+    GitHubClient org =
+        GitHubClient.create(
+                new URI("http://apa.bepa.cepa"), "some_key_content".getBytes(), null, null)
+            .withGitObjectCache(cache)
+            .withDeduplication();
+
+    for (GitHubClient scoped :
+        List.of(
+            org.withScopeForInstallationId(1), GitHubClient.scopeForInstallationId(org, 1))) {
+      Assertions.assertSame(org.json(), scoped.json());
+      Assertions.assertSame(cache, scoped.gitObjectCache().orElseThrow());
+    }
+    Assertions.assertNotEquals(
+        org.withScopeForInstallationId(1).cachePartition(),
+        org.withScopeForInstallationId(2).cachePartition());
+  }
+
   @Test
   public void testSearchIssue() throws Throwable {
 
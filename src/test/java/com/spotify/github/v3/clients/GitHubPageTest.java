@@ -20,8 +20,16 @@
 
 package com.spotify.github.v3.clients;
 
+import static com.spotify.github.MockHelper.createMockResponse;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.hamcrest.core.Is.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.spotify.github.http.ImmutablePagination;
+import com.spotify.github.http.Pagination;
 import java.net.URI;
 import org.junit.jupiter.api.Test;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -50,4 +58,40 @@ public class GitHubPageTest {
     assertThat(GithubPage.pageNumberFromUri("NOT_A_CORRECT PATH "), isEmpty());
     assertThat(GithubPage.pageNumberFromUri("/commits"), isEmpty());
   }
+
+  @Test
+  public void testPaginationIsParsedOncePerResponse() throws Exception {
+    final GitHubClient github = mock(GitHubClient.class);
+    final String linkHeader =
+        "<http://bogus.host/api/v3/commits?page=1&per_page=30>; rel=\"prev\","
+            + " <http://bogus.host/api/v3/commits?page=3&per_page=30>; rel=\"next\","
+            + " <http://bogus.host/api/v3/commits?page=5&per_page=30>; rel=\"last\"";
+    when(github.request("/commits?page=2&per_page=30"))
+        .thenReturn(completedFuture(createMockResponse(linkHeader, "[]")));
+
+    final GithubPage<Object> page = new GithubPage<>(github, "/commits?page=2", null);
+    final Pagination pagination = page.pagination().join();
+
+    assertThat(
+        pagination,
+        is(ImmutablePagination.builder().previous(1).current(2).next(3).last(5).build()));
+    assertThat(page.pagination().join() == pagination, is(true));
+    assertThat(page.hasNextPage().join(), is(true));
+    verify(github, times(1)).request("/commits?page=2&per_page=30");
+  }
+
+  @Test
+  public void testPaginationOfLastPage() throws Exception {
+    final GitHubClient github = mock(GitHubClient.class);
+    final String linkHeader =
+        "<http://bogus.host/api/v3/commits?page=4&per_page=30>; rel=\"prev\","
+            + " <http://bogus.host/api/v3/commits?per_page=30>; rel=\"first\"";
+    when(github.request("/commits?page=5&per_page=30"))
+        .thenReturn(completedFuture(createMockResponse(linkHeader, "[]")));
+
+    final Pagination pagination =
+        new GithubPage<Object>(github, "/commits?page=5", null).pagination().join();
+
+    assertThat(pagination, is(ImmutablePagination.builder().previous(4).current(5).last(5).build()));
+  }
 }
@@ -0,0 +1,115 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import static com.google.common.io.Resources.getResource;
+import static com.spotify.github.MockHelper.createMockResponse;
+import static java.nio.charset.Charset.defaultCharset;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.io.Resources;
+import com.spotify.github.jackson.Json;
+import com.spotify.github.v3.git.Tree;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GitObjectCacheTest {
+
+  private static final String SHA = "9c27bd92524e2b57b569d4c86695b3993d9b8f9f";
+  private static final String TREE_PATH = "/repos/someowner/somerepo/git/trees/" + SHA;
+
+  private GitHubClient github;
+  private String treeJson;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    github = mock(GitHubClient.class);
+    treeJson = Resources.toString(getResource(this.getClass(), "tree.json"), defaultCharset());
+    when(github.json()).thenReturn(Json.create());
+    when(github.cachePartition()).thenReturn("app:1:installation:1");
+    when(github.request(TREE_PATH))
+        .thenAnswer(invocation -> completedFuture(createMockResponse("", treeJson)));
+  }
+
+  @Test
+  public void servesObjectsFromMemory() {
+    when(github.gitObjectCache()).thenReturn(Optional.of(GitObjectCache.create(1_000_000)));
+    final GitDataClient gitDataClient = GitDataClient.create(github, "someowner", "somerepo");
+
+    final Tree first = gitDataClient.getTree(SHA).join();
+    final Tree second = gitDataClient.getTree(SHA).join();
+
+    assertThat(first.sha(), is(SHA));
+    assertThat(second.sha(), is(SHA));
+    verify(github, times(1)).request(TREE_PATH);
+  }
+
+  @Test
+  public void servesObjectsFromDisk(@TempDir final Path directory) {
+    when(github.gitObjectCache()).thenReturn(Optional.of(GitObjectCache.create(0, directory)));
+    GitDataClient.create(github, "someowner", "somerepo").getTree(SHA).join();
+
+    // A fresh cache over the same directory, as after a restart.
+    when(github.gitObjectCache()).thenReturn(Optional.of(GitObjectCache.create(0, directory)));
+    final Tree tree = GitDataClient.create(github, "someowner", "somerepo").getTree(SHA).join();
+
+    assertThat(tree.sha(), is(SHA));
+    verify(github, times(1)).request(TREE_PATH);
+  }
+
+  @Test
+  public void partitionsObjectsByCredential() {
+    final GitObjectCache cache = GitObjectCache.create(1_000_000);
+    final GitHubClient other = mock(GitHubClient.class);
+    final String otherJson = treeJson.replace("README.md", "OTHER.md");
+    when(other.json()).thenReturn(Json.create());
+    when(other.cachePartition()).thenReturn("app:1:installation:2");
+    when(other.request(TREE_PATH))
+        .thenAnswer(invocation -> completedFuture(createMockResponse("", otherJson)));
+    when(github.gitObjectCache()).thenReturn(Optional.of(cache));
+    when(other.gitObjectCache()).thenReturn(Optional.of(cache));
+
+    final Tree first = GitDataClient.create(github, "someowner", "somerepo").getTree(SHA).join();
+    final Tree second = GitDataClient.create(other, "someowner", "somerepo").getTree(SHA).join();
+
+    assertThat(first.tree().get(0).path(), is("README.md"));
+    assertThat(second.tree().get(0).path(), is("OTHER.md"));
+    verify(github, times(1)).request(TREE_PATH);
+    verify(other, times(1)).request(TREE_PATH);
+  }
+
+  @Test
+  public void onlyCachesObjectIds() {
+    assertThat(GitObjectCache.isObjectId(SHA), is(true));
+    assertThat(GitObjectCache.isObjectId(SHA + SHA.substring(0, 24)), is(true));
+    assertThat(GitObjectCache.isObjectId("main"), is(false));
+    assertThat(GitObjectCache.isObjectId(SHA.substring(1)), is(false));
+  }
+}
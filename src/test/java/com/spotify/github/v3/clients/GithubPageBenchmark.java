@@ -0,0 +1,84 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import static com.spotify.github.MockHelper.createMockResponse;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.spotify.github.http.HttpResponse;
+import com.spotify.github.http.Pagination;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of computing {@link GithubPage#pagination()} for a freshly fetched page. Run with the test
+ * classpath, e.g. {@code java -cp <test classpath> org.openjdk.jmh.Main GithubPageBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GithubPageBenchmark {
+
+  private static final String HEADER =
+      "<https://api.github.com/repos/owner/repo/pulls/1/commits?page=1&per_page=30>; rel=\"prev\","
+          + " <https://api.github.com/repos/owner/repo/pulls/1/commits?page=3&per_page=30>;"
+          + " rel=\"next\","
+          + " <https://api.github.com/repos/owner/repo/pulls/1/commits?page=12&per_page=30>;"
+          + " rel=\"last\","
+          + " <https://api.github.com/repos/owner/repo/pulls/1/commits?page=1&per_page=30>;"
+          + " rel=\"first\"";
+
+  private GitHubClient github;
+
+  @Setup
+  public void setup() throws IOException {
+    final CompletableFuture<HttpResponse> response =
+        completedFuture(createMockResponse(HEADER, "[]"));
+    github = mock(GitHubClient.class);
+    when(github.request(anyString())).thenReturn(response);
+    when(github.urlFor("")).thenReturn("https://api.github.com");
+  }
+
+  @Benchmark
+  public Pagination pagination() {
+    return new GithubPage<>(
+            github, "/repos/owner/repo/pulls/1/commits", GitHubClient.LIST_COMMIT_TYPE_REFERENCE)
+        .pagination()
+        .join();
+  }
+}
@@ -0,0 +1,204 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import static com.spotify.github.MockHelper.createMockHttpResponse;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.spotify.github.jackson.Json;
+import com.spotify.github.v3.exceptions.GraphqlException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class GraphqlBatchLoaderTest {
+
+  private static final Pattern LOOKUP =
+      Pattern.compile("(l\\d+): pr\\(number: (\\d+)\\) \\{ state \\}");
+
+  private final Json json = Json.create();
+  private final List<String> queries = new CopyOnWriteArrayList<>();
+  private GitHubClient github;
+
+  @BeforeEach
+  public void setUp() {
+    github = mock(GitHubClient.class);
+    when(github.json()).thenReturn(json);
+    // Answers pr(number: n) { state } lookups, failing those of odd numbers above 100. A query
+    // holding number 666 is rejected as a whole, with an error tied to no field.
+    when(github.postGraphql(anyString()))
+        .thenAnswer(
+            invocation -> {
+              final String query =
+                  json.fromJson((String) invocation.getArgument(0), JsonNode.class)
+                      .path("query")
+                      .asText();
+              queries.add(query);
+              if (query.contains("pr(number: 666)")) {
+                return completedFuture(
+                    createMockHttpResponse(
+                        "", 200, "{\"errors\":[{\"message\":\"Parse error\"}]}", Map.of()));
+              }
+              final ObjectNode response = JsonNodeFactory.instance.objectNode();
+              final ObjectNode data = response.putObject("data");
+              final ArrayNode errors = response.putArray("errors");
+              final Matcher matcher = LOOKUP.matcher(query);
+              while (matcher.find()) {
+                final String alias = matcher.group(1);
+                final int number = Integer.parseInt(matcher.group(2));
+                if (number > 100 && number % 2 == 1) {
+                  data.putNull(alias);
+                  errors
+                      .addObject()
+                      .put("message", "Not found " + number)
+                      .putArray("path")
+                      .add(alias);
+                } else {
+                  data.putObject(alias).put("state", "OPEN " + number);
+                }
+              }
+              return completedFuture(
+                  createMockHttpResponse("", 200, response.toString(), Map.of()));
+            });
+  }
+
+  @Test
+  public void batchesLookupsOfATickIntoOneAliasedQuery() throws Exception {
+    final GraphqlBatchLoader loader = new GraphqlBatchLoader(github, Duration.ofMillis(50), 100);
+
+    final CompletableFuture<JsonNode> one = loader.load(pr(1));
+    final CompletableFuture<JsonNode> two = loader.load(pr(2));
+    final CompletableFuture<JsonNode> again = loader.load(pr(1));
+
+    assertThat(one.get(5, TimeUnit.SECONDS).path("state").asText(), is("OPEN 1"));
+    assertThat(two.get(5, TimeUnit.SECONDS).path("state").asText(), is("OPEN 2"));
+    assertThat(again.get(5, TimeUnit.SECONDS).path("state").asText(), is("OPEN 1"));
+    assertThat(
+        queries,
+        is(List.of("query { l0: pr(number: 1) { state } l1: pr(number: 2) { state } }")));
+  }
+
+  @Test
+  public void startsANewQueryAtTheCostLimit() throws Exception {
+    final GraphqlBatchLoader loader = new GraphqlBatchLoader(github, Duration.ofHours(1), 4);
+
+    final CompletableFuture<JsonNode> first = loader.load(pr(1), 3);
+    final CompletableFuture<JsonNode> second = loader.load(pr(2), 2);
+    loader.flush();
+
+    assertThat(first.get(5, TimeUnit.SECONDS).path("state").asText(), is("OPEN 1"));
+    assertThat(second.get(5, TimeUnit.SECONDS).path("state").asText(), is("OPEN 2"));
+    assertThat(queries.size(), is(2));
+  }
+
+  @Test
+  public void failsOnlyTheLookupsGitHubReportsErrorsFor() throws Exception {
+    final GraphqlBatchLoader loader = new GraphqlBatchLoader(github, Duration.ofHours(1), 100);
+
+    final CompletableFuture<JsonNode> found = loader.load(pr(102));
+    final CompletableFuture<JsonNode> missing = loader.load(pr(103));
+    loader.flush();
+
+    assertThat(found.get(5, TimeUnit.SECONDS).path("state").asText(), is("OPEN 102"));
+    final ExecutionException e =
+        assertThrows(ExecutionException.class, () -> missing.get(5, TimeUnit.SECONDS));
+    assertThat(e.getCause(), instanceOf(GraphqlException.class));
+    assertThat(e.getCause().getMessage(), is("Not found 103"));
+  }
+
+  @Test
+  public void failsEveryLookupWhenEachQueryErrs() {
+    doReturn(
+            completedFuture(
+                createMockHttpResponse(
+                    "", 200, "{\"errors\":[{\"message\":\"Parse error\"}]}", Map.of())))
+        .when(github)
+        .postGraphql(anyString());
+    final GraphqlBatchLoader loader = new GraphqlBatchLoader(github, Duration.ofHours(1), 100);
+
+    final CompletableFuture<JsonNode> one = loader.load(pr(1));
+    final CompletableFuture<JsonNode> two = loader.load(pr(2));
+    loader.flush();
+
+    for (final CompletableFuture<JsonNode> future : List.of(one, two)) {
+      final ExecutionException e = assertThrows(ExecutionException.class, future::get);
+      assertThat(e.getCause().getMessage(), is("Parse error"));
+    }
+  }
+
+  @Test
+  public void bisectsTheBatchToPinQueryErrorsOnTheirLookup() throws Exception {
+    final GraphqlBatchLoader loader = new GraphqlBatchLoader(github, Duration.ofHours(1), 100);
+
+    final CompletableFuture<JsonNode> one = loader.load(pr(1));
+    final CompletableFuture<JsonNode> two = loader.load(pr(2));
+    final CompletableFuture<JsonNode> broken = loader.load(pr(666));
+    final CompletableFuture<JsonNode> four = loader.load(pr(4));
+    loader.flush();
+
+    assertThat(one.get(5, TimeUnit.SECONDS).path("state").asText(), is("OPEN 1"));
+    assertThat(two.get(5, TimeUnit.SECONDS).path("state").asText(), is("OPEN 2"));
+    assertThat(four.get(5, TimeUnit.SECONDS).path("state").asText(), is("OPEN 4"));
+    final ExecutionException e =
+        assertThrows(ExecutionException.class, () -> broken.get(5, TimeUnit.SECONDS));
+    assertThat(e.getCause(), instanceOf(GraphqlException.class));
+    assertThat(e.getCause().getMessage(), is("Parse error"));
+    assertThat(
+        queries,
+        is(
+            List.of(
+                "query { l0: pr(number: 1) { state } l1: pr(number: 2) { state }"
+                    + " l2: pr(number: 666) { state } l3: pr(number: 4) { state } }",
+                "query { l0: pr(number: 1) { state } l1: pr(number: 2) { state } }",
+                "query { l2: pr(number: 666) { state } l3: pr(number: 4) { state } }",
+                "query { l2: pr(number: 666) { state } }",
+                "query { l3: pr(number: 4) { state } }")));
+  }
+
+  @Test
+  public void quotesStringArguments() {
+    assertThat(GraphqlBatchLoader.quote("say \"hi\"\n"), is("\"say \\\"hi\\\"\\n\""));
+  }
+
+  private static String pr(final int number) {
+    return "pr(number: " + number + ") { state }";
+  }
+}
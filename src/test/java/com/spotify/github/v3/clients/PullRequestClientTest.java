@@ -27,12 +27,15 @@ import static java.nio.charset.Charset.defaultCharset;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.stream.Collectors.toList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
@@ -41,14 +44,19 @@ import com.spotify.github.async.Async;
 import com.spotify.github.async.AsyncPage;
 import com.spotify.github.http.HttpResponse;
 import com.spotify.github.jackson.Json;
+import com.spotify.github.jackson.Projection;
+import com.spotify.github.v3.User;
+import com.spotify.github.v3.diff.DiffReader;
 import com.spotify.github.v3.exceptions.RequestNotOkException;
 import com.spotify.github.v3.git.FileItem;
 import com.spotify.github.v3.git.ImmutableFileItem;
 import com.spotify.github.v3.prs.Comment;
 import com.spotify.github.v3.prs.ImmutableRequestReviewParameters;
 import com.spotify.github.v3.prs.PullRequest;
+import com.spotify.github.v3.prs.PullRequestItem;
 import com.spotify.github.v3.prs.ReviewRequests;
 import com.spotify.github.v3.prs.requests.ImmutablePullRequestCreate;
+import com.spotify.github.v3.prs.requests.ImmutablePullRequestParameters;
 import com.spotify.github.v3.prs.requests.ImmutablePullRequestUpdate;
 import com.spotify.github.v3.prs.requests.PullRequestCreate;
 import com.spotify.github.v3.prs.requests.PullRequestUpdate;
@@ -56,9 +64,12 @@ import com.spotify.github.v3.repos.CommitItem;
 import java.io.IOException;
 import java.io.Reader;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
 import okhttp3.Call;
 import okhttp3.Callback;
 import okhttp3.MediaType;
@@ -172,6 +183,42 @@ public class PullRequestClientTest {
     assertThat(pullRequest.body().get(), is(body));
   }
 
+  @Test
+  public void listWithProjection() throws Exception {
+    final Call call = mock(Call.class);
+    final ArgumentCaptor<Callback> capture = ArgumentCaptor.forClass(Callback.class);
+    doNothing().when(call).enqueue(capture.capture());
+    final ArgumentCaptor<Request> request = ArgumentCaptor.forClass(Request.class);
+    when(client.newCall(request.capture())).thenReturn(call);
+
+    final Response response =
+        new Response.Builder()
+            .code(200)
+            .protocol(Protocol.HTTP_1_1)
+            .message("OK")
+            .body(
+                ResponseBody.create(
+                    MediaType.get("application/json"),
+                    "[" + getFixture("pull_request.json") + "]"))
+            .request(new Request.Builder().url("http://localhost/").build())
+            .build();
+
+    final PullRequestClient pullRequestClient = PullRequestClient.create(github, "owner", "repo");
+    final CompletableFuture<List<PullRequestItem>> result =
+        pullRequestClient.list(
+            ImmutablePullRequestParameters.builder().state("open").build(),
+            Projection.of("number", "title", "head.sha"));
+    capture.getValue().onResponse(call, response);
+
+    final PullRequestItem pullRequest = result.get().get(0);
+    assertThat(request.getValue().url().encodedPath(), is("/api/v3/repos/owner/repo/pulls"));
+    assertThat(request.getValue().url().query(), is("state=open"));
+    assertThat(pullRequest.title(), is("Amazing new feature"));
+    assertThat(pullRequest.head().sha(), is("6dcb09b5b57875f334f61aebed695e2e4193db5e"));
+    assertThat(pullRequest.head().ref(), is((String) null));
+    assertThat(pullRequest.user(), is((User) null));
+  }
+
   @Test
   public void testListReviewRequests() throws Throwable {
     final Call call = mock(Call.class);
@@ -329,6 +376,46 @@ public class PullRequestClientTest {
     assertEquals(getFixture("diff.txt"), IOUtils.toString(diffReader));
   }
 
+  @Test
+  public void testReadPatch() throws Throwable {
+    final Call call = mock(Call.class);
+    final ArgumentCaptor<Callback> capture = ArgumentCaptor.forClass(Callback.class);
+    doNothing().when(call).enqueue(capture.capture());
+
+    final Response response =
+        new Response.Builder()
+            .code(200)
+            .protocol(Protocol.HTTP_1_1)
+            .message("OK")
+            .body(
+                ResponseBody.create(
+                    MediaType.get("application/vnd.github.patch"), getFixture("patch.txt")))
+            .request(new Request.Builder().url("http://localhost/").build())
+            .build();
+
+    when(client.newCall(any())).thenReturn(call);
+
+    final PullRequestClient pullRequestClient = PullRequestClient.create(github, "owner", "repo");
+
+    final CompletableFuture<DiffReader> result = pullRequestClient.readPatch(1L, path -> true);
+
+    capture.getValue().onResponse(call, response);
+
+    final List<String> events = new ArrayList<>();
+    try (DiffReader reader = result.get()) {
+      reader.forEachRemaining(event -> events.add(event.toString()));
+    }
+
+    assertThat(
+        events,
+        contains(
+            "FILE MODIFIED nf",
+            "HUNK @@ -1,3 +1,4 @@",
+            "LINE CONTEXT asdf",
+            "LINE ADDED asdf",
+            "LINE REMOVED -"));
+  }
+
   @Test
   public void testCreateCommentReply() throws Throwable {
     final Call call = mock(Call.class);
@@ -471,6 +558,34 @@ public class PullRequestClientTest {
     assertThat(comments.get(0).user().login(), is("octocat"));
   }
 
+  @Test
+  public void listCommentsWithProjection() throws Throwable {
+    final String expectedBody = "[" + getFixture("pull_request_review_comment_reply.json") + "]";
+
+    final String pageLink =
+        "<https://github.com/api/v3/repos/owner/repo/pulls/1/comments?page=1&per_page=30>;"
+            + " rel=\"first\"";
+
+    final HttpResponse firstPageResponse = createMockResponse(pageLink, expectedBody);
+
+    when(mockGithub.request("/repos/owner/repo/pulls/1/comments?per_page=30"))
+        .thenReturn(completedFuture(firstPageResponse));
+
+    when(mockGithub.json()).thenReturn(github.json());
+
+    final PullRequestClient pullRequestClient =
+        PullRequestClient.create(mockGithub, "owner", "repo");
+
+    final Iterable<AsyncPage<Comment>> pageIterator =
+        () -> pullRequestClient.listComments(1L, Projection.of("id", "body"));
+    List<Comment> comments = Async.streamFromPaginatingIterable(pageIterator).collect(toList());
+
+    assertEquals(1, comments.size());
+    assertThat(comments.get(0).body(), is("Great stuff!"));
+    assertThat(comments.get(0).id(), is(10L));
+    assertThat(comments.get(0).user(), is((User) null));
+  }
+
   @Test
   public void testListReviewComments() throws Throwable {
     final String expectedBody = "[" + getFixture("pull_request_review_comment_reply.json") + "]";
@@ -591,4 +706,213 @@ public class PullRequestClientTest {
         commits.get(COMMIT_PER_PAGE - 1).commit().tree().sha(),
         is("219cb4c1ffada21259876d390df1a85767481617"));
   }
+
+  @Test
+  public void listCommitsAsyncStopsEarly() throws Exception {
+    // Given
+    final int COMMIT_PER_PAGE = 30;
+
+    final String firstPageLink =
+        String.format(
+            "<%s/repos/owner/repo/pulls/1/commits?page=2&per_page=30>; rel=\"next\","
+                + " <%s/repos/owner/repo/pulls/1/commits?page=3&per_page=30>; rel=\"last\"",
+            MOCK_GITHUB_URI, MOCK_GITHUB_URI);
+    final String firstPageBody =
+        Resources.toString(
+            getResource(this.getClass(), "pull_request_commits_page1.json"), defaultCharset());
+    final HttpResponse firstPageResponse = createMockResponse(firstPageLink, firstPageBody);
+
+    final String secondPageLink =
+        String.format(
+            "<%s/repos/owner/repo/pulls/1/commits?page=1&per_page=30>; rel=\"prev\","
+                + " <%s/repos/owner/repo/pulls/1/commits?page=3&per_page=30>; rel=\"next\","
+                + " <%s/repos/owner/repo/pulls/1/commits?page=3&per_page=30>; rel=\"last\","
+                + " <%s/repos/owner/repo/pulls/1/commits?page=1&per_page=30>; rel=\"first\"",
+            MOCK_GITHUB_URI, MOCK_GITHUB_URI, MOCK_GITHUB_URI, MOCK_GITHUB_URI);
+    final String secondPageBody =
+        Resources.toString(
+            getResource(this.getClass(), "pull_request_commits_page2.json"), defaultCharset());
+    final HttpResponse secondPageResponse = createMockResponse(secondPageLink, secondPageBody);
+
+    final String thirdPageLink =
+        String.format(
+            "<%s/repos/owner/repo/pulls/1/commits?page=2&per_page=30>; rel=\"prev\","
+                + " <%s/repos/owner/repo/pulls/1/commits?page=1&per_page=30>; rel=\"first\"",
+            MOCK_GITHUB_URI, MOCK_GITHUB_URI);
+    final String thirdPageBody =
+        Resources.toString(
+            getResource(this.getClass(), "pull_request_commits_page3.json"), defaultCharset());
+    final HttpResponse thirdPageResponse = createMockResponse(thirdPageLink, thirdPageBody);
+
+    when(mockGithub.urlFor("")).thenReturn(MOCK_GITHUB_URI.toString());
+    when(mockGithub.json()).thenReturn(Json.create());
+    when(mockGithub.request("/repos/owner/repo/pulls/1/commits?per_page=30"))
+        .thenReturn(completedFuture(firstPageResponse));
+    when(mockGithub.request("/repos/owner/repo/pulls/1/commits?page=2&per_page=30"))
+        .thenReturn(completedFuture(secondPageResponse));
+    when(mockGithub.request("/repos/owner/repo/pulls/1/commits?page=3&per_page=30"))
+        .thenReturn(completedFuture(thirdPageResponse));
+
+    final PullRequestClient pullRequestClient =
+        PullRequestClient.create(mockGithub, "owner", "repo");
+
+    // When
+    final List<CommitItem> firstCommits =
+        Async.collectAsync(pullRequestClient.listCommits(1L, 30), toList(), COMMIT_PER_PAGE + 5)
+            .get();
+    final List<CommitItem> allCommits =
+        Async.collectAsync(pullRequestClient.listCommits(1L, 30), toList()).get();
+
+    // Then
+    assertThat(firstCommits.size(), is(COMMIT_PER_PAGE + 5));
+    assertThat(allCommits.size(), is(COMMIT_PER_PAGE * 3));
+    verify(mockGithub, times(2)).request("/repos/owner/repo/pulls/1/commits?page=2&per_page=30");
+    verify(mockGithub, times(1)).request("/repos/owner/repo/pulls/1/commits?page=3&per_page=30");
+  }
+
+  @Test
+  public void listCommitsPublisherHonoursDemand() throws Exception {
+    // Given
+    final int COMMIT_PER_PAGE = 30;
+
+    final String firstPageLink =
+        String.format(
+            "<%s/repos/owner/repo/pulls/1/commits?page=2&per_page=30>; rel=\"next\","
+                + " <%s/repos/owner/repo/pulls/1/commits?page=2&per_page=30>; rel=\"last\"",
+            MOCK_GITHUB_URI, MOCK_GITHUB_URI);
+    final String firstPageBody =
+        Resources.toString(
+            getResource(this.getClass(), "pull_request_commits_page1.json"), defaultCharset());
+    final HttpResponse firstPageResponse = createMockResponse(firstPageLink, firstPageBody);
+
+    final String secondPageLink =
+        String.format(
+            "<%s/repos/owner/repo/pulls/1/commits?page=1&per_page=30>; rel=\"prev\","
+                + " <%s/repos/owner/repo/pulls/1/commits?page=1&per_page=30>; rel=\"first\"",
+            MOCK_GITHUB_URI, MOCK_GITHUB_URI);
+    final String secondPageBody =
+        Resources.toString(
+            getResource(this.getClass(), "pull_request_commits_page2.json"), defaultCharset());
+    final HttpResponse secondPageResponse = createMockResponse(secondPageLink, secondPageBody);
+
+    when(mockGithub.urlFor("")).thenReturn(MOCK_GITHUB_URI.toString());
+    when(mockGithub.json()).thenReturn(Json.create());
+    when(mockGithub.request("/repos/owner/repo/pulls/1/commits?per_page=30"))
+        .thenReturn(completedFuture(firstPageResponse));
+    when(mockGithub.request("/repos/owner/repo/pulls/1/commits?page=2&per_page=30"))
+        .thenReturn(completedFuture(secondPageResponse));
+
+    final PullRequestClient pullRequestClient =
+        PullRequestClient.create(mockGithub, "owner", "repo");
+
+    final List<CommitItem> received = new ArrayList<>();
+    final CompletableFuture<Void> completed = new CompletableFuture<>();
+    final Flow.Subscription[] subscription = new Flow.Subscription[1];
+
+    // When
+    pullRequestClient
+        .listCommitsPublisher(1L, 30)
+        .subscribe(
+            new Flow.Subscriber<>() {
+              @Override
+              public void onSubscribe(final Flow.Subscription s) {
+                subscription[0] = s;
+              }
+
+              @Override
+              public void onNext(final CommitItem item) {
+                received.add(item);
+              }
+
+              @Override
+              public void onError(final Throwable throwable) {
+                completed.completeExceptionally(throwable);
+              }
+
+              @Override
+              public void onComplete() {
+                completed.complete(null);
+              }
+            });
+
+    // Then
+    assertThat(received.size(), is(0));
+    subscription[0].request(5);
+    assertThat(received.size(), is(5));
+    subscription[0].request(COMMIT_PER_PAGE);
+    assertThat(received.size(), is(COMMIT_PER_PAGE + 5));
+    assertThat(completed.isDone(), is(false));
+    subscription[0].request(Long.MAX_VALUE);
+    completed.get();
+    assertThat(received.size(), is(COMMIT_PER_PAGE * 2));
+    assertThat(
+        received.get(COMMIT_PER_PAGE - 1).commit().tree().sha(),
+        is("219cb4c1ffada21259876d390df1a85767481617"));
+  }
+
+  @Test
+  public void listCommitsPublisherSignalsInvalidRequests() throws Exception {
+    final String body =
+        Resources.toString(
+            getResource(this.getClass(), "pull_request_commits_page1.json"), defaultCharset());
+    when(mockGithub.urlFor("")).thenReturn(MOCK_GITHUB_URI.toString());
+    when(mockGithub.json()).thenReturn(Json.create());
+    when(mockGithub.request("/repos/owner/repo/pulls/1/commits?per_page=30"))
+        .thenReturn(completedFuture(createMockResponse("", body)));
+
+    final List<CommitItem> received = new ArrayList<>();
+    final CompletableFuture<Void> completed = new CompletableFuture<>();
+    final Flow.Subscription[] subscription = new Flow.Subscription[1];
+    PullRequestClient.create(mockGithub, "owner", "repo")
+        .listCommitsPublisher(1L, 30)
+        .subscribe(
+            new Flow.Subscriber<>() {
+              @Override
+              public void onSubscribe(final Flow.Subscription s) {
+                subscription[0] = s;
+              }
+
+              @Override
+              public void onNext(final CommitItem item) {
+                received.add(item);
+              }
+
+              @Override
+              public void onError(final Throwable throwable) {
+                completed.completeExceptionally(throwable);
+              }
+
+              @Override
+              public void onComplete() {
+                completed.complete(null);
+              }
+            });
+
+    subscription[0].request(2);
+    subscription[0].request(0);
+    subscription[0].request(5);
+
+    final ExecutionException e = assertThrows(ExecutionException.class, completed::get);
+    assertThat(e.getCause() instanceof IllegalArgumentException, is(true));
+    assertThat(received.size(), is(2));
+  }
+
+  @Test
+  public void pageIteratorAnswersHasNextWithoutWaiting() throws Exception {
+    @SuppressWarnings("unchecked")
+    final AsyncPage<CommitItem> page = mock(AsyncPage.class);
+    final CompletableFuture<Boolean> hasNextPage = new CompletableFuture<>();
+    when(page.hasNextPage()).thenReturn(hasNextPage);
+    final GithubPageIterator<CommitItem> pages = new GithubPageIterator<>(page);
+
+    assertThat(pages.hasNext(), is(true));
+    final CompletableFuture<Optional<AsyncPage<CommitItem>>> first = pages.nextAsync();
+    assertThat(pages.hasNext(), is(true));
+    assertThat(first.isDone(), is(false));
+
+    hasNextPage.complete(false);
+    assertThat(first.get(), is(Optional.of(page)));
+    assertThat(pages.hasNext(), is(false));
+    assertThat(pages.nextAsync().get(), is(Optional.empty()));
+  }
 }
@@ -34,10 +34,12 @@ import static com.spotify.github.MockHelper.createMockResponse;
 import static com.spotify.github.v3.clients.RepositoryClient.STATUS_URI_TEMPLATE;
 import static java.lang.String.format;
 import static java.nio.charset.Charset.defaultCharset;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.mock;
@@ -71,15 +73,25 @@ import com.spotify.github.v3.repos.requests.*;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import uk.co.datumedge.hamcrest.json.SameJSONAs;
 
@@ -325,6 +337,59 @@ public class RepositoryClientTest {
     assertThat(fileContent.content(), is("encoded content ..."));
   }
 
+  @Test
+  public void getFileContentIntoPath(@TempDir final Path dir) throws Exception {
+    final byte[] bytes = new byte[100_000];
+    new Random(42).nextBytes(bytes);
+    // GitHub wraps the encoded content every 60 characters.
+    final String encoded = Base64.getMimeEncoder(60, "\n".getBytes(UTF_8)).encodeToString(bytes);
+    final String body =
+        json.toJsonUnchecked(
+            Map.of("type", "file", "content", encoded, "encoding", "base64", "name", "blob.bin"));
+    when(github.request("/repos/someowner/somerepo/contents/blob.bin?ref=main"))
+        .thenReturn(completedFuture(createMockHttpResponse("", 200, body, Map.of())));
+
+    final Path target = dir.resolve("blob.bin");
+    final long written = repoClient.getFileContent("blob.bin", "main", target).get();
+
+    assertThat(written, is((long) bytes.length));
+    assertThat(Arrays.equals(Files.readAllBytes(target), bytes), is(true));
+  }
+
+  @Test
+  public void getFileContentIntoPathRejectsUnencodedContent(@TempDir final Path dir) {
+    final String body = "{\"type\":\"file\",\"content\":\"\",\"encoding\":\"none\"}";
+    when(github.request("/repos/someowner/somerepo/contents/large.bin?ref=main"))
+        .thenReturn(completedFuture(createMockHttpResponse("", 200, body, Map.of())));
+
+    final Path target = dir.resolve("large.bin");
+    final ExecutionException e =
+        assertThrows(
+            ExecutionException.class,
+            () -> repoClient.getFileContent("large.bin", "main", target).get());
+
+    assertThat(e.getCause() instanceof UncheckedIOException, is(true));
+    assertFalse(Files.exists(target));
+  }
+
+  @Test
+  public void getRawFileContent() throws Exception {
+    when(github.request(
+            "/repos/someowner/somerepo/contents/test/README.md?ref=main",
+            Map.of("Accept", "application/vnd.github.raw")))
+        .thenReturn(completedFuture(createMockHttpResponse("", 200, "# README", Map.of())));
+
+    try (InputStream content = repoClient.getRawFileContent("test/README.md", "main").get()) {
+      assertThat(new String(content.readAllBytes(), UTF_8), is("# README"));
+    }
+    final ByteBuffer buffer = ByteBuffer.allocate(16);
+    try (ReadableByteChannel channel =
+        repoClient.getRawFileChannel("test/README.md", "main").get()) {
+      channel.read(buffer);
+    }
+    assertThat(new String(buffer.array(), 0, buffer.position(), UTF_8), is("# README"));
+  }
+
   @Test
   public void createFileContent() throws Exception {
     String rawFileCreateRequest = getFixture("create-content-request.json");
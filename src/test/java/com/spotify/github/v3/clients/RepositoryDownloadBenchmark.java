@@ -0,0 +1,108 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link RepositoryClient#downloadTarball(String, Path)} streaming an archive from
+ * a local server into a file. The {@code mebibytes} counter reports MiB/s. Run with the test
+ * classpath, adding the GC profiler to check that the archive is not held in memory, e.g. {@code
+ * java -cp <test classpath> org.openjdk.jmh.Main RepositoryDownloadBenchmark -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+public class RepositoryDownloadBenchmark {
+
+  @Param({"64"})
+  public int megabytes;
+
+  private final MockWebServer server = new MockWebServer();
+  private RepositoryClient repoClient;
+  private Path directory;
+  private Path target;
+
+  /** Downloaded volume, reported as a rate next to the downloads per second. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class Volume {
+    public long mebibytes;
+  }
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    final byte[] archive = new byte[megabytes * 1024 * 1024];
+    new Random(42).nextBytes(archive);
+    server.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(final RecordedRequest request) {
+            return new MockResponse().setBody(new Buffer().write(archive));
+          }
+        });
+    server.start();
+    repoClient =
+        GitHubClient.create(server.url("/").uri(), "token").createRepositoryClient("owner", "repo");
+    directory = Files.createTempDirectory("download");
+    target = directory.resolve("repo.tar.gz");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    server.shutdown();
+    Files.deleteIfExists(target);
+    Files.deleteIfExists(directory);
+  }
+
+  @Benchmark
+  public long download(final Volume volume) {
+    final long written = repoClient.downloadTarball("main", target).join();
+    volume.mebibytes += written >> 20;
+    return written;
+  }
+}
@@ -0,0 +1,178 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RepositoryDownloadTest {
+
+  private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-");
+  private static final String ETAG = "\"c0ffee\"";
+
+  private final MockWebServer server = new MockWebServer();
+  private RepositoryClient repoClient;
+  @TempDir Path dir;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    server.start();
+    final URI url = server.url("/").uri();
+    repoClient = GitHubClient.create(url, "token").createRepositoryClient("owner", "repo");
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  @Test
+  public void downloadsArchiveIntoFile() throws Exception {
+    final byte[] archive = randomBytes(4 * 1024 * 1024);
+    server.enqueue(new MockResponse().setBody(new Buffer().write(archive)));
+    final Path target = dir.resolve("repo.tar.gz");
+    final AtomicLong reported = new AtomicLong();
+
+    final long written =
+        repoClient
+            .downloadTarball("main", target, (bytes, total) -> reported.set(bytes + total))
+            .join();
+
+    assertThat(server.takeRequest().getPath(), is("/repos/owner/repo/tarball/main"));
+    assertThat(written, is((long) archive.length));
+    assertThat(reported.get(), is(2L * archive.length));
+    assertThat(Arrays.equals(Files.readAllBytes(target), archive), is(true));
+    assertFalse(Files.exists(dir.resolve("repo.tar.gz.part")));
+  }
+
+  @Test
+  public void resumesWithRangeRequestAfterDisconnect() throws Exception {
+    final byte[] archive = randomBytes(4 * 1024 * 1024);
+    server.setDispatcher(new RangeDispatcher(archive, 1));
+    final Path target = dir.resolve("repo.zip");
+
+    final long written = repoClient.downloadZipball("v1.0", target).join();
+
+    assertThat(written, is((long) archive.length));
+    assertThat(Arrays.equals(Files.readAllBytes(target), archive), is(true));
+    assertThat(server.takeRequest().getHeader("Range"), nullValue());
+    final RecordedRequest resumed = server.takeRequest();
+    assertThat(resumed.getPath(), is("/repos/owner/repo/zipball/v1.0"));
+    assertThat(resumed.getHeader("If-Range"), is(ETAG));
+    final Matcher range = RANGE.matcher(resumed.getHeader("Range"));
+    assertThat(range.matches(), is(true));
+    assertThat(Long.parseLong(range.group(1)), greaterThan(0L));
+  }
+
+  @Test
+  public void startsOverWhenRangeIsIgnored() throws Exception {
+    final byte[] archive = randomBytes(1024 * 1024);
+    server.enqueue(
+        new MockResponse()
+            .setBody(new Buffer().write(archive))
+            .setSocketPolicy(SocketPolicy.DISCONNECT_DURING_RESPONSE_BODY));
+    server.enqueue(new MockResponse().setBody(new Buffer().write(archive)));
+    final Path target = dir.resolve("repo.tar.gz");
+
+    final long written = repoClient.downloadTarball("main", target).join();
+
+    assertThat(written, is((long) archive.length));
+    assertThat(Arrays.equals(Files.readAllBytes(target), archive), is(true));
+    assertThat(server.getRequestCount(), is(2));
+  }
+
+  @Test
+  public void givesUpAfterRepeatedDisconnects() throws Exception {
+    final byte[] archive = randomBytes(1024 * 1024);
+    server.setDispatcher(new RangeDispatcher(archive, Integer.MAX_VALUE));
+    final Path target = dir.resolve("repo.tar.gz");
+
+    assertThrows(
+        CompletionException.class, () -> repoClient.downloadTarball("main", target).join());
+
+    assertThat(server.getRequestCount(), is(4));
+    assertFalse(Files.exists(target));
+    assertFalse(Files.exists(dir.resolve("repo.tar.gz.part")));
+  }
+
+  private static byte[] randomBytes(final int length) {
+    final byte[] bytes = new byte[length];
+    new Random(42).nextBytes(bytes);
+    return bytes;
+  }
+
+  /** Serves ranges of an archive, dropping the connection halfway the first responses. */
+  private static final class RangeDispatcher extends Dispatcher {
+    private final byte[] archive;
+    private int disconnects;
+
+    private RangeDispatcher(final byte[] archive, final int disconnects) {
+      this.archive = archive;
+      this.disconnects = disconnects;
+    }
+
+    @Override
+    public synchronized MockResponse dispatch(final RecordedRequest request) {
+      final String header = request.getHeader("Range");
+      final int from = header == null ? 0 : Integer.parseInt(RANGE.matcher(header).replaceAll("$1"));
+      final MockResponse response =
+          new MockResponse()
+              .setHeader("ETag", ETAG)
+              .setBody(new Buffer().write(archive, from, archive.length - from));
+      if (from > 0) {
+        response
+            .setResponseCode(206)
+            .setHeader(
+                "Content-Range",
+                "bytes " + from + "-" + (archive.length - 1) + "/" + archive.length);
+      }
+      if (disconnects-- > 0) {
+        response.setSocketPolicy(SocketPolicy.DISCONNECT_DURING_RESPONSE_BODY);
+      }
+      return response;
+    }
+  }
+}
@@ -21,20 +21,40 @@
 package com.spotify.github.v3.clients;
 
 import static com.google.common.io.Resources.getResource;
+import static com.spotify.github.MockHelper.createMockHttpResponse;
 import static com.spotify.github.v3.clients.SearchClient.ISSUES_URI;
 import static com.spotify.github.v3.search.SearchTest.assertSearchIssues;
 import static java.nio.charset.Charset.defaultCharset;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.google.common.io.Resources;
 import com.spotify.github.jackson.Json;
+import com.spotify.github.v3.ImmutableUser;
+import com.spotify.github.v3.User;
+import com.spotify.github.v3.search.ImmutableSearchUsers;
 import com.spotify.github.v3.search.SearchIssues;
 import com.spotify.github.v3.search.SearchTest;
+import com.spotify.github.v3.search.SearchUsers;
 import com.spotify.github.v3.search.requests.ImmutableSearchParameters;
+import com.spotify.github.v3.search.requests.SearchRange;
 import java.io.IOException;
-import java.util.concurrent.CompletableFuture;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -53,16 +73,120 @@ public class SearchClientTest {
     github = mock(GitHubClient.class);
     searchClient = SearchClient.create(github);
     json = Json.create();
+    when(github.json()).thenReturn(json);
+    when(github.searchPacer())
+        .thenReturn(
+            new SearchPacer(
+                1000, Duration.ofMinutes(1), System::currentTimeMillis, (task, delay) -> {}));
   }
 
   @Test
   public void testSearchIssue() throws Exception {
-    final CompletableFuture<SearchIssues> fixture =
-        completedFuture(json.fromJson(getFixture("issues.json"), SearchIssues.class));
-
-    when(github.request(ISSUES_URI + "?q=bogus-q", SearchIssues.class)).thenReturn(fixture);
+    when(github.request(ISSUES_URI + "?q=bogus-q"))
+        .thenReturn(
+            completedFuture(
+                createMockHttpResponse("", 200, getFixture("issues.json"), Map.of())));
     final SearchIssues search =
         searchClient.issues(ImmutableSearchParameters.builder().q("bogus-q").build()).get();
     assertSearchIssues(search);
   }
+
+  @Test
+  public void streamUsersPartitionsPastTheResultCap() throws Exception {
+    // Users 1 to 2500, each with as many followers as its id.
+    final List<String> queries = fakeUserSearch(2500, Set.of());
+
+    final List<Integer> found = new CopyOnWriteArrayList<>();
+    searchClient
+        .streamUsers(
+            ImmutableSearchParameters.builder().q("type:user").build(),
+            SearchRange.ofNumbers("followers", 0, 10000),
+            user -> found.add(user.id()))
+        .get();
+
+    assertThat(found.size(), is(2500));
+    assertThat(Set.copyOf(found).size(), is(2500));
+    assertThat(queries.get(0), is("type:user followers:0..10000 page=1"));
+    assertThat(queries.stream().noneMatch(query -> query.contains("page=11")), is(true));
+  }
+
+  @Test
+  public void streamUsersDropsResultsSeenInAnotherPartition() throws Exception {
+    // Users 100 and 2000 also show up in the partition holding user 1.
+    fakeUserSearch(1500, Set.of(100, 2000));
+
+    final List<Integer> found = new CopyOnWriteArrayList<>();
+    searchClient
+        .streamUsers(
+            ImmutableSearchParameters.builder().q("type:user").build(),
+            SearchRange.ofNumbers("followers", 0, 3000),
+            user -> found.add(user.id()))
+        .get();
+
+    assertThat(found.size(), is(1501));
+    assertThat(Set.copyOf(found).size(), is(1501));
+  }
+
+  @Test
+  public void streamUsersWithoutPartitionStopsAtTheResultCap() throws Exception {
+    fakeUserSearch(1200, Set.of());
+
+    final List<Integer> found = new CopyOnWriteArrayList<>();
+    searchClient
+        .streamUsers(
+            ImmutableSearchParameters.builder().q("type:user followers:0..5000").build(),
+            user -> found.add(user.id()))
+        .get();
+
+    assertThat(found.size(), is(1000));
+  }
+
+  /**
+   * Answer user searches over users 1 to {@code count}, each with as many followers as its id,
+   * honoring the followers range, page and page size of the query.
+   */
+  private List<String> fakeUserSearch(final int count, final Set<Integer> strays) {
+    final List<String> queries = new CopyOnWriteArrayList<>();
+    final Pattern range = Pattern.compile("followers:(\\d+)\\.\\.(\\d+)");
+    final Pattern page = Pattern.compile("[?&]page=(\\d+)");
+    final Pattern q = Pattern.compile("[?&]q=([^&]*)");
+    when(github.request(anyString()))
+        .thenAnswer(
+            invocation -> {
+              final String path = invocation.getArgument(0);
+              final Matcher queryMatch = q.matcher(path);
+              queryMatch.find();
+              final String query = URLDecoder.decode(queryMatch.group(1), StandardCharsets.UTF_8);
+              final Matcher rangeMatch = range.matcher(query);
+              rangeMatch.find();
+              final int from = Integer.parseInt(rangeMatch.group(1));
+              final int to = Integer.parseInt(rangeMatch.group(2));
+              final Matcher pageMatch = page.matcher(path);
+              pageMatch.find();
+              final int pageNumber = Integer.parseInt(pageMatch.group(1));
+              queries.add(query + " page=" + pageNumber);
+
+              final List<Integer> matches =
+                  IntStream.rangeClosed(Math.max(from, 1), Math.min(to, count))
+                      .boxed()
+                      .collect(Collectors.toList());
+              if (to - from < 1000 && matches.contains(1)) {
+                matches.addAll(strays);
+              }
+              final List<User> items = new ArrayList<>();
+              matches.stream()
+                  .skip((pageNumber - 1) * 100L)
+                  .limit(pageNumber > 10 ? 0 : 100)
+                  .forEach(id -> items.add(ImmutableUser.builder().id(id).login("u" + id).build()));
+              final SearchUsers users =
+                  ImmutableSearchUsers.builder()
+                      .totalCount(matches.size())
+                      .incompleteResults(false)
+                      .items(items)
+                      .build();
+              return completedFuture(
+                  createMockHttpResponse("", 200, json.toJson(users), Map.of()));
+            });
+    return queries;
+  }
 }
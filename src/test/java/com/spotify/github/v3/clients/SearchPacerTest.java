@@ -0,0 +1,175 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import static com.spotify.github.MockHelper.createMockHttpResponse;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.spotify.github.http.HttpResponse;
+import com.spotify.github.v3.exceptions.RequestNotOkException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+public class SearchPacerTest {
+
+  private long now = 1_000_000;
+  private final List<Runnable> wakeUps = new ArrayList<>();
+  private final List<Long> delays = new ArrayList<>();
+  private final List<String> started = new ArrayList<>();
+
+  @Test
+  public void holdsRequestsPastTheLimitOfTheWindow() {
+    final SearchPacer pacer = pacer(2);
+
+    pacer.submit(request("a", Map.of()));
+    pacer.submit(request("b", Map.of()));
+    pacer.submit(request("c", Map.of()));
+
+    assertThat(started, is(List.of("a", "b")));
+    assertThat(pacer.queueDepth(), is(1));
+    assertThat(delays, is(List.of(60_000L)));
+
+    advance(60_000);
+
+    assertThat(started, is(List.of("a", "b", "c")));
+    assertThat(pacer.queueDepth(), is(0));
+    assertThat(pacer.maxQueueDepth(), is(1));
+    assertThat(pacer.dispatched(), is(3L));
+    assertThat(pacer.maxWait(), is(Duration.ofSeconds(60)));
+  }
+
+  @Test
+  public void waitsForTheResetOnceNoRequestIsLeft() {
+    final SearchPacer pacer = pacer(30);
+
+    pacer.submit(request("a", rateLimit(0, 10)));
+    pacer.submit(request("b", Map.of()));
+
+    assertThat(started, is(List.of("a")));
+    assertThat(delays, is(List.of(10_000L)));
+    advance(10_000);
+    assertThat(started, is(List.of("a", "b")));
+  }
+
+  @Test
+  public void spreadsTheRequestsLeftUntilTheReset() {
+    final SearchPacer pacer = pacer(30);
+
+    pacer.submit(request("a", rateLimit(4, 8)));
+    pacer.submit(request("b", Map.of()));
+
+    assertThat(delays, is(List.of(2_000L)));
+  }
+
+  @Test
+  public void ignoresTheLimitsOfOtherResources() {
+    final SearchPacer pacer = pacer(30);
+
+    pacer.submit(
+        request(
+            "a",
+            Map.of(
+                "X-RateLimit-Resource", List.of("core"),
+                "X-RateLimit-Remaining", List.of("0"),
+                "X-RateLimit-Reset", List.of(Long.toString(now / 1000 + 10)))));
+    pacer.submit(request("b", Map.of()));
+
+    assertThat(started, is(List.of("a", "b")));
+  }
+
+  @Test
+  public void pausesForRetryAfterOnFailures() {
+    final SearchPacer pacer = pacer(30);
+
+    final CompletableFuture<HttpResponse> failed =
+        pacer.submit(
+            () -> {
+              started.add("a");
+              return CompletableFuture.failedFuture(
+                  new RequestNotOkException(
+                      "GET",
+                      "/search/issues",
+                      403,
+                      "slow down",
+                      Map.of("retry-after", List.of("5"))));
+            });
+    pacer.submit(request("b", Map.of()));
+
+    assertThat(failed.isCompletedExceptionally(), is(true));
+    assertThat(delays, is(List.of(5_000L)));
+  }
+
+  @Test
+  public void lanesTakeTurns() {
+    final SearchPacer pacer = pacer(1);
+    final Object stream = new Object();
+
+    pacer.submit(stream, request("s1", Map.of()));
+    pacer.submit(stream, request("s2", Map.of()));
+    pacer.submit(stream, request("s3", Map.of()));
+    pacer.submit(request("one-off", Map.of()));
+    for (int i = 0; i < 3; i++) {
+      advance(60_000);
+    }
+
+    assertThat(started, is(List.of("s1", "s2", "one-off", "s3")));
+  }
+
+  private SearchPacer pacer(final int limit) {
+    return new SearchPacer(
+        limit,
+        Duration.ofMinutes(1),
+        () -> now,
+        (task, delay) -> {
+          delays.add(delay);
+          wakeUps.add(task);
+        });
+  }
+
+  private void advance(final long millis) {
+    now += millis;
+    final List<Runnable> due = new ArrayList<>(wakeUps);
+    wakeUps.clear();
+    due.forEach(Runnable::run);
+  }
+
+  private Supplier<CompletableFuture<HttpResponse>> request(
+      final String name, final Map<String, List<String>> headers) {
+    return () -> {
+      started.add(name);
+      return completedFuture(createMockHttpResponse("", 200, "{}", headers));
+    };
+  }
+
+  private Map<String, List<String>> rateLimit(final int remaining, final int resetInSeconds) {
+    return Map.of(
+        "x-ratelimit-resource", List.of("search"),
+        "x-ratelimit-remaining", List.of(Integer.toString(remaining)),
+        "x-ratelimit-reset", List.of(Long.toString(now / 1000 + resetInSeconds)));
+  }
+}
@@ -0,0 +1,225 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.spotify.github.http.HttpResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+
+public class TarballReaderTest {
+
+  private static final String ROOT = "owner-repo-0123abc/";
+
+  @Test
+  public void iteratesFilesStrippingRootDirectory() throws Exception {
+    final byte[] archive =
+        new TarBuilder()
+            .global("52 comment=0123abc0123abc0123abc0123abc0123abc0\n")
+            .directory(ROOT)
+            .directory(ROOT + "src/")
+            .file(ROOT + "README.md", "hello", 0644)
+            .file(ROOT + "src/run.sh", "#!/bin/sh\n", 0755)
+            .symlink(ROOT + "link", "README.md")
+            .gzip();
+
+    final List<String> seen = new ArrayList<>();
+    try (TarballReader reader = TarballReader.gzip(new ByteArrayInputStream(archive), p -> true)) {
+      reader.forEachRemaining(
+          entry -> {
+            seen.add(entry.path() + ":" + Integer.toOctalString(entry.mode()) + ":" + read(entry));
+          });
+    }
+
+    assertThat(seen, contains("README.md:644:hello", "src/run.sh:755:#!/bin/sh\n"));
+  }
+
+  @Test
+  public void skipsFilteredAndPartiallyReadEntries() throws Exception {
+    final String big = "x".repeat(100_000);
+    final byte[] archive =
+        new TarBuilder()
+            .file(ROOT + "vendor/big.bin", big, 0644)
+            .file(ROOT + "LICENSE", "Apache-2.0\n" + big, 0644)
+            .file(ROOT + "pom.xml", "<project/>", 0644)
+            .gzip();
+
+    final List<String> seen = new ArrayList<>();
+    try (TarballReader reader =
+        TarballReader.gzip(new ByteArrayInputStream(archive), p -> !p.startsWith("vendor/"))) {
+      while (reader.hasNext()) {
+        final TarballEntry entry = reader.next();
+        final byte[] head = entry.content().readNBytes(10);
+        seen.add(entry.path() + ":" + new String(head, UTF_8));
+      }
+    }
+
+    assertThat(seen, contains("LICENSE:Apache-2.0", "pom.xml:<project/>"));
+  }
+
+  @Test
+  public void readsLongNamesFromPaxAndGnuHeaders() throws Exception {
+    final String deep = "a/".repeat(80) + "file.txt";
+    final String gnu = "b/".repeat(70) + "other.txt";
+    final String record = "path=" + ROOT + deep + "\n";
+    final String length = String.valueOf(record.length() + 4);
+    final byte[] archive =
+        new TarBuilder()
+            .header("PaxHeader", 'x', (length + " " + record).getBytes(UTF_8), 0644)
+            .file(ROOT + "truncated", "pax", 0644)
+            .header("././@LongLink", 'L', (ROOT + gnu + "\0").getBytes(UTF_8), 0644)
+            .file(ROOT + "truncated2", "gnu", 0644)
+            .gzip();
+
+    final List<String> seen = new ArrayList<>();
+    try (TarballReader reader = TarballReader.gzip(new ByteArrayInputStream(archive), p -> true)) {
+      reader.forEachRemaining(entry -> seen.add(entry.path() + ":" + read(entry)));
+    }
+
+    assertThat(seen, contains(deep + ":pax", gnu + ":gnu"));
+  }
+
+  @Test
+  public void rejectsCorruptHeader() throws Exception {
+    final byte[] tar = new TarBuilder().file(ROOT + "a", "a", 0644).tar();
+    tar[0] = 'z';
+
+    try (TarballReader reader = TarballReader.tar(new ByteArrayInputStream(tar), p -> true)) {
+      assertThrows(UncheckedIOException.class, reader::hasNext);
+    }
+  }
+
+  @Test
+  public void readsRepositoryTarball() throws Exception {
+    final byte[] archive = new TarBuilder().file(ROOT + "go.mod", "module x", 0644).gzip();
+    final GitHubClient github = mock(GitHubClient.class);
+    final HttpResponse response = mock(HttpResponse.class);
+    when(response.body()).thenReturn(new ByteArrayInputStream(archive));
+    when(github.request("/repos/owner/repo/tarball/main")).thenReturn(completedFuture(response));
+
+    final List<String> seen = new ArrayList<>();
+    try (TarballReader reader =
+        RepositoryClient.create(github, "owner", "repo")
+            .readTarball("main", p -> p.endsWith(".mod"))
+            .get()) {
+      reader.forEachRemaining(entry -> seen.add(entry.path() + ":" + read(entry)));
+    }
+
+    assertThat(seen, contains("go.mod:module x"));
+  }
+
+  private static String read(final TarballEntry entry) {
+    try (InputStream in = entry.content()) {
+      return new String(in.readAllBytes(), UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Writes ustar archives. */
+  private static final class TarBuilder {
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    TarBuilder file(final String name, final String content, final int mode) {
+      return header(name, '0', content.getBytes(UTF_8), mode);
+    }
+
+    TarBuilder directory(final String name) {
+      return header(name, '5', new byte[0], 0755);
+    }
+
+    TarBuilder symlink(final String name, final String target) {
+      final byte[] block = block(name, '2', 0, 0777);
+      System.arraycopy(target.getBytes(UTF_8), 0, block, 157, target.length());
+      return write(block, new byte[0]);
+    }
+
+    TarBuilder global(final String records) {
+      return header("pax_global_header", 'g', records.getBytes(UTF_8), 0666);
+    }
+
+    TarBuilder header(final String name, final char type, final byte[] data, final int mode) {
+      return write(block(name, type, data.length, mode), data);
+    }
+
+    byte[] tar() {
+      out.writeBytes(new byte[1024]);
+      return out.toByteArray();
+    }
+
+    byte[] gzip() throws IOException {
+      final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+      try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+        gzip.write(tar());
+      }
+      return compressed.toByteArray();
+    }
+
+    private TarBuilder write(final byte[] block, final byte[] data) {
+      int sum = 0;
+      for (int i = 0; i < 512; i++) {
+        sum += i >= 148 && i < 156 ? ' ' : block[i] & 0xff;
+      }
+      put(block, 148, String.format("%06o\0 ", sum));
+      out.writeBytes(block);
+      out.writeBytes(data);
+      out.writeBytes(new byte[(512 - data.length % 512) % 512]);
+      return this;
+    }
+
+    private static byte[] block(final String name, final char type, final long size, final int mode) {
+      final byte[] block = new byte[512];
+      final byte[] bytes = name.getBytes(UTF_8);
+      if (bytes.length > 100) {
+        final int split = name.lastIndexOf('/', 155);
+        put(block, 345, name.substring(0, split));
+        put(block, 0, name.substring(split + 1));
+      } else {
+        put(block, 0, name);
+      }
+      put(block, 100, String.format("%07o", mode));
+      put(block, 124, String.format("%011o", size));
+      block[156] = (byte) type;
+      put(block, 257, "ustar\0" + "00");
+      return block;
+    }
+
+    private static void put(final byte[] block, final int offset, final String value) {
+      final byte[] bytes = value.getBytes(UTF_8);
+      System.arraycopy(bytes, 0, block, offset, bytes.length);
+    }
+  }
+}
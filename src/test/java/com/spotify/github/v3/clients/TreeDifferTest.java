@@ -0,0 +1,125 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import com.spotify.github.v3.git.TreeChange;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TreeDifferTest {
+
+  private final MockWebServer server = new MockWebServer();
+  private final FakeTreeServer trees = new FakeTreeServer();
+  private GitDataClient gitDataClient;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    server.setDispatcher(trees);
+    server.start();
+    gitDataClient =
+        GitHubClient.create(server.url("/").uri(), "token").createGitDataClient("owner", "repo");
+
+    trees.tree(
+        "old",
+        Map.of(
+            "README.md", "blob:r1",
+            "gone.txt", "blob:g",
+            "kind", "blob:k",
+            "src", "srcA",
+            "docs", "docs",
+            "lib", "lib"));
+    trees.tree(
+        "new",
+        Map.of(
+            "README.md", "blob:r2",
+            "new.txt", "blob:n",
+            "kind", "kind",
+            "src", "srcB",
+            "docs", "docs"));
+    trees.tree("srcA", Map.of("Main.java", "blob:m", "util", "utilA"));
+    trees.tree("srcB", Map.of("Main.java", "blob:m", "util", "utilB", "extra", "extra"));
+    trees.tree("utilA", Map.of("U.java", "blob:u1", "Old.java", "blob:o"));
+    trees.tree("utilB", Map.of("U.java", "blob:u2"));
+    trees.tree("extra", Map.of("E.java", "blob:e"));
+    trees.tree("lib", Map.of("L1.java", "blob:l1", "L2.java", "blob:l2"));
+    trees.tree("docs", Map.of("index.md", "blob:d"));
+    trees.tree("kind", Map.of("inner.txt", "blob:i"));
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  @Test
+  public void streamsChangedFilesAndSkipsIdenticalSubtrees() throws Exception {
+    final List<String> changes = new CopyOnWriteArrayList<>();
+
+    gitDataClient.diffTrees("old", "new", 2, change -> changes.add(describe(change))).get();
+
+    assertThat(
+        changes,
+        containsInAnyOrder(
+            "MODIFIED README.md r1 -> r2",
+            "DELETED gone.txt g -> -",
+            "ADDED new.txt - -> n",
+            "DELETED kind k -> -",
+            "ADDED kind/inner.txt - -> i",
+            "DELETED lib/L1.java l1 -> -",
+            "DELETED lib/L2.java l2 -> -",
+            "MODIFIED src/util/U.java u1 -> u2",
+            "DELETED src/util/Old.java o -> -",
+            "ADDED src/extra/E.java - -> e"));
+    assertThat(trees.requested, not(hasItem("docs")));
+  }
+
+  @Test
+  public void identicalTreesCostNoRequests() throws Exception {
+    final List<TreeChange> changes = new CopyOnWriteArrayList<>();
+
+    gitDataClient.diffTrees("old", "old", changes::add).get();
+
+    assertThat(changes.isEmpty(), is(true));
+    assertThat(server.getRequestCount(), is(0));
+  }
+
+  private static String describe(final TreeChange change) {
+    return change.type()
+        + " "
+        + change.path()
+        + " "
+        + change.oldItem().map(item -> item.sha()).orElse("-")
+        + " -> "
+        + change.newItem().map(item -> item.sha()).orElse("-");
+  }
+}
@@ -0,0 +1,126 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.clients;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TreeWalkerTest {
+
+  private final MockWebServer server = new MockWebServer();
+  private final FakeTreeServer trees = new FakeTreeServer();
+  private GitDataClient gitDataClient;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    server.setDispatcher(trees);
+    server.start();
+    gitDataClient =
+        GitHubClient.create(server.url("/").uri(), "token").createGitDataClient("owner", "repo");
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  @Test
+  public void listsSmallTreeWithOneRequest() throws Exception {
+    trees.tree("root", Map.of("README.md", "blob", "docs", "docs"));
+    trees.tree("docs", Map.of("index.md", "blob"));
+
+    final List<String> paths = new ArrayList<>();
+    gitDataClient.walkTree("root", item -> paths.add(item.path())).get();
+
+    assertThat(paths, containsInAnyOrder("README.md", "docs", "docs/index.md"));
+    assertThat(server.getRequestCount(), is(1));
+  }
+
+  @Test
+  public void expandsTruncatedSubtrees() throws Exception {
+    trees.tree("root", Map.of("README.md", "blob", "src", "src", "docs", "docs"));
+    trees.tree("docs", Map.of("index.md", "blob"));
+    trees.tree("src", Map.of("Main.java", "blob", "main", "main"));
+    final Map<String, String> generated = new LinkedHashMap<>();
+    for (int i = 0; i < 50; i++) {
+      generated.put("Gen" + i + ".java", "blob");
+    }
+    trees.tree("main", generated);
+    trees.truncated.add("root");
+    trees.truncated.add("src");
+
+    final Set<String> paths = new HashSet<>();
+    gitDataClient.walkTree("root", 2, item -> paths.add(item.path())).get();
+
+    assertThat(paths.size(), is(56));
+    assertThat(paths.contains("src/main/Gen49.java"), is(true));
+    assertThat(paths.contains("docs/index.md"), is(true));
+    assertThat(paths.contains("src/Main.java"), is(true));
+  }
+
+  @Test
+  public void boundsRequestsInFlight() throws Exception {
+    final Map<String, String> dirs = new LinkedHashMap<>();
+    for (int i = 0; i < 12; i++) {
+      dirs.put("dir" + i, "dir" + i);
+      trees.tree("dir" + i, Map.of("file", "blob"));
+    }
+    trees.tree("root", dirs);
+    trees.truncated.add("root");
+    trees.delayMillis = 20;
+
+    final AtomicInteger count = new AtomicInteger();
+    gitDataClient.walkTree("root", 3, item -> count.incrementAndGet()).get();
+
+    assertThat(count.get(), is(24));
+    assertThat(trees.maxInFlight.get(), lessThanOrEqualTo(3));
+    assertThat(trees.maxInFlight.get(), greaterThan(1));
+  }
+
+  @Test
+  public void failsWhenSubtreeCannotBeFetched() {
+    trees.tree("root", Map.of("missing", "missing"));
+    trees.truncated.add("root");
+
+    final ExecutionException e =
+        assertThrows(
+            ExecutionException.class, () -> gitDataClient.walkTree("root", item -> {}).get());
+    assertThat(e.getCause().getMessage().contains("404"), is(true));
+  }
+}
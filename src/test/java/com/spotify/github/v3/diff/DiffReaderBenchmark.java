@@ -0,0 +1,122 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.diff;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing a large synthetic diff, against merely splitting it into lines, and with a path filter
+ * keeping one file in a hundred. Run with the test classpath and the GC profiler to compare
+ * allocation, e.g. {@code java -cp <test classpath> org.openjdk.jmh.Main DiffReaderBenchmark -prof
+ * gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiffReaderBenchmark {
+
+  @Param({"50"})
+  public int megabytes;
+
+  private byte[] diff;
+
+  @Setup
+  public void setup() {
+    final StringBuilder builder = new StringBuilder();
+    int file = 0;
+    while (builder.length() < megabytes * 1024 * 1024) {
+      final String path = "src/main/java/com/example/module" + file % 17 + "/File" + file + ".java";
+      builder
+          .append("diff --git a/").append(path).append(" b/").append(path).append('\n')
+          .append("index 01a9f34..500bb03 100644\n")
+          .append("--- a/").append(path).append('\n')
+          .append("+++ b/").append(path).append('\n');
+      for (int hunk = 0; hunk < 4; hunk++) {
+        final int start = hunk * 100 + 1;
+        builder
+            .append("@@ -").append(start).append(",20 +").append(start).append(",22 @@ class File")
+            .append(file).append(" {\n");
+        for (int line = 0; line < 20; line++) {
+          builder.append(line % 5 == 0 ? '-' : ' ').append("    value = compute(value, ")
+              .append(line).append("); // übersetzt\n");
+        }
+        for (int line = 0; line < 6; line++) {
+          builder.append("+    value = transform(value, ").append(line).append(");\n");
+        }
+      }
+      file++;
+    }
+    diff = builder.toString().getBytes(UTF_8);
+  }
+
+  @Benchmark
+  public long readLines() throws IOException {
+    long count = 0;
+    try (BufferedReader reader =
+        new BufferedReader(new InputStreamReader(new ByteArrayInputStream(diff), UTF_8))) {
+      while (reader.readLine() != null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public long parse() throws IOException {
+    return count(DiffReader.create(new ByteArrayInputStream(diff), path -> true));
+  }
+
+  @Benchmark
+  public long parseFiltered() throws IOException {
+    return count(DiffReader.create(new ByteArrayInputStream(diff), path -> path.endsWith("00.java")));
+  }
+
+  private static long count(final DiffReader reader) throws IOException {
+    long count = 0;
+    try (reader) {
+      while (reader.hasNext()) {
+        reader.next();
+        count++;
+      }
+    }
+    return count;
+  }
+}
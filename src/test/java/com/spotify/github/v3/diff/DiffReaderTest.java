@@ -0,0 +1,219 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.diff;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Test;
+
+public class DiffReaderTest {
+
+  private static final String DIFF =
+      String.join(
+          "\n",
+          "diff --git a/src/Main.java b/src/Main.java",
+          "index 01a9f34..500bb03 100644",
+          "--- a/src/Main.java",
+          "+++ b/src/Main.java",
+          "@@ -1,3 +1,4 @@ public class Main {",
+          " a",
+          "-b",
+          "+b²",
+          "+c",
+          " d",
+          "@@ -10 +11 @@",
+          "-x",
+          "\\ No newline at end of file",
+          "+y",
+          "\\ No newline at end of file",
+          "diff --git a/new file.txt b/new file.txt",
+          "new file mode 100644",
+          "index 0000000..e69de29",
+          "--- /dev/null",
+          "+++ b/new file.txt",
+          "@@ -0,0 +1 @@",
+          "+hello",
+          "diff --git a/gone.txt b/gone.txt",
+          "deleted file mode 100644",
+          "index e69de29..0000000",
+          "--- a/gone.txt",
+          "+++ /dev/null",
+          "@@ -1 +0,0 @@",
+          "-bye",
+          "diff --git a/old.txt b/moved.txt",
+          "similarity index 100%",
+          "rename from old.txt",
+          "rename to moved.txt",
+          "diff --git a/logo.png b/logo.png",
+          "index 1111111..2222222 100644",
+          "Binary files a/logo.png and b/logo.png differ",
+          "");
+
+  @Test
+  public void parsesFilesHunksAndLines() {
+    assertThat(
+        events(DIFF, path -> true),
+        contains(
+            "FILE MODIFIED src/Main.java",
+            "HUNK @@ -1,3 +1,4 @@ public class Main {",
+            "LINE CONTEXT a 1 1",
+            "LINE REMOVED b 2 -1",
+            "LINE ADDED b² -1 2",
+            "LINE ADDED c -1 3",
+            "LINE CONTEXT d 3 4",
+            "HUNK @@ -10,1 +11,1 @@ ",
+            "LINE REMOVED x 10 -1",
+            "LINE NO_NEWLINE \\ No newline at end of file -1 -1",
+            "LINE ADDED y -1 11",
+            "LINE NO_NEWLINE \\ No newline at end of file -1 -1",
+            "FILE ADDED new file.txt",
+            "HUNK @@ -0,0 +1,1 @@ ",
+            "LINE ADDED hello -1 1",
+            "FILE DELETED gone.txt",
+            "HUNK @@ -1,1 +0,0 @@ ",
+            "LINE REMOVED bye 1 -1",
+            "FILE RENAMED moved.txt",
+            "FILE MODIFIED logo.png"));
+  }
+
+  @Test
+  public void describesFiles() {
+    final List<DiffFile> files = new ArrayList<>();
+    try (DiffReader reader = DiffReader.create(new StringReader(DIFF), path -> true)) {
+      reader.forEachRemaining(
+          event -> {
+            if (event.type() == DiffEvent.Type.FILE) {
+              files.add(event.file());
+            }
+          });
+    } catch (Exception e) {
+      throw new AssertionError(e);
+    }
+
+    assertThat(files.get(1).oldPath(), is(Optional.empty()));
+    assertThat(files.get(2).newPath(), is(Optional.empty()));
+    assertThat(files.get(3).oldPath(), is(Optional.of("old.txt")));
+    assertThat(files.get(4).binary(), is(true));
+  }
+
+  @Test
+  public void skipsFilteredFiles() {
+    assertThat(
+        events(DIFF, path -> path.endsWith(".txt") && !path.startsWith("gone")),
+        contains(
+            "FILE ADDED new file.txt",
+            "HUNK @@ -0,0 +1,1 @@ ",
+            "LINE ADDED hello -1 1",
+            "FILE RENAMED moved.txt"));
+  }
+
+  @Test
+  public void ignoresPatchMailHeadersAndSignature() {
+    final String patch =
+        String.join(
+            "\n",
+            "From 81c53612268423500bb086afbf7f6545a97ce181 Mon Sep 17 00:00:00 2001",
+            "Subject: [PATCH 1/2] diff --git in a subject is not a header",
+            "",
+            "---",
+            " a | 1 +",
+            "",
+            "diff --git a/a b/a",
+            "--- a/a",
+            "+++ b/a",
+            "@@ -1 +1,2 @@",
+            " x",
+            "+y",
+            "-- ",
+            "2.39.0",
+            "",
+            "From 2222222222222222222222222222222222222222 Mon Sep 17 00:00:00 2001",
+            "Subject: [PATCH 2/2] more",
+            "---",
+            "diff --git a/a b/a",
+            "--- a/a",
+            "+++ b/a",
+            "@@ -2 +2 @@",
+            "-y",
+            "+z",
+            "-- ",
+            "2.39.0");
+
+    assertThat(
+        events(patch, path -> true),
+        contains(
+            "FILE MODIFIED a",
+            "HUNK @@ -1,1 +1,2 @@ ",
+            "LINE CONTEXT x 1 1",
+            "LINE ADDED y -1 2",
+            "FILE MODIFIED a",
+            "HUNK @@ -2,1 +2,1 @@ ",
+            "LINE REMOVED y 2 -1",
+            "LINE ADDED z -1 2"));
+  }
+
+  @Test
+  public void decodesUtf8Explicitly() throws Exception {
+    final List<String> lines = new ArrayList<>();
+    try (DiffReader reader =
+        DiffReader.create(new ByteArrayInputStream(DIFF.getBytes(UTF_8)), "src/Main.java"::equals)) {
+      reader.forEachRemaining(
+          event -> {
+            if (event.type() == DiffEvent.Type.LINE) {
+              lines.add(event.line().content());
+            }
+          });
+    }
+
+    assertThat(lines.get(2), is("b²"));
+  }
+
+  private static List<String> events(final String diff, final Predicate<String> filter) {
+    final List<String> events = new ArrayList<>();
+    try (DiffReader reader = DiffReader.create(new StringReader(diff), filter)) {
+      reader.forEachRemaining(event -> events.add(describe(event)));
+    } catch (Exception e) {
+      throw new AssertionError(e);
+    }
+    return events;
+  }
+
+  private static String describe(final DiffEvent event) {
+    switch (event.type()) {
+      case FILE:
+        return "FILE " + event.file();
+      case HUNK:
+        return "HUNK " + event.hunk() + " " + event.hunk().section();
+      default:
+        final DiffLine line = event.line();
+        return "LINE " + line + " " + line.oldNumber() + " " + line.newNumber();
+    }
+  }
+}
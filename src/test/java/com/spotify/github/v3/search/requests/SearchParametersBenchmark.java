@@ -0,0 +1,101 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.search.requests;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toMap;
+
+import com.spotify.github.Parameters;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-call cost of {@link Parameters#serialize()}, compared with the reflective implementation it
+ * replaced. Run with the test classpath, e.g. {@code java -cp <test classpath>
+ * org.openjdk.jmh.Main SearchParametersBenchmark -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchParametersBenchmark {
+
+  private final SearchParameters parameters =
+      ImmutableSearchParameters.builder()
+          .q("repo:spotify/github-java-client is:pr is:open")
+          .sort("updated")
+          .order("desc")
+          .per_page(100)
+          .page(3)
+          .build();
+
+  @Benchmark
+  public String serialize() {
+    return parameters.serialize();
+  }
+
+  @Benchmark
+  public String reflective() {
+    return reflectiveSerialize(parameters);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static String reflectiveSerialize(final Parameters parameters) {
+    return Arrays.stream(parameters.getClass().getInterfaces())
+        .filter(Parameters.class::isAssignableFrom)
+        .map(Class::getMethods)
+        .flatMap(Arrays::stream)
+        .filter(method -> !method.getDeclaringClass().equals(Parameters.class))
+        .collect(
+            toMap(
+                Method::getName,
+                method -> {
+                  try {
+                    final Object result = method.invoke(parameters);
+                    return result instanceof Optional
+                        ? (Optional) result
+                        : Optional.ofNullable(result);
+                  } catch (Exception e) {
+                    return Optional.empty();
+                  }
+                }))
+        .entrySet()
+        .stream()
+        .filter(entry -> entry.getValue().isPresent())
+        .sorted(Map.Entry.comparingByKey())
+        .map(entry -> entry.getKey() + "=" + entry.getValue().get())
+        .collect(joining("&"));
+  }
+}
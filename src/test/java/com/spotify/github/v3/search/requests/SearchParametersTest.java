@@ -52,4 +52,17 @@ public class SearchParametersTest {
 
     assertThat(params.serialize(), is("order=bogus-order&q=bogus-query&sort=bogus-sort"));
   }
+
+  @Test
+  public void testSerializeEncodesValues() {
+    final SearchParameters params =
+        ImmutableSearchParameters.builder()
+            .q("repo:spotify/github-java-client is:pr label:\"good first\" a&b=c+d #é")
+            .build();
+
+    assertThat(
+        params.serialize(),
+        is("q=repo:spotify/github-java-client%20is:pr%20label:%22good%20first%22"
+            + "%20a%26b%3Dc%2Bd%20%23%C3%A9"));
+  }
 }
@@ -0,0 +1,63 @@
+/*-
+ * -\-\-
+ * github-api
+ * --
+ * Copyright (C) 2026 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.github.v3.search.requests;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public class SearchRangeTest {
+
+  @Test
+  public void splitsNumbersIntoDisjointRanges() {
+    final List<String> parts =
+        SearchRange.ofNumbers("size", 0, 9).split(3).stream()
+            .map(SearchRange::toQualifier)
+            .collect(Collectors.toList());
+
+    assertThat(parts, is(List.of("size:0..3", "size:4..6", "size:7..9")));
+  }
+
+  @Test
+  public void splitsDatesToTheSecond() {
+    final List<String> parts =
+        SearchRange.ofDates(
+                "created",
+                Instant.parse("2020-01-01T00:00:00Z"),
+                Instant.parse("2020-01-01T00:00:01Z"))
+            .split(4).stream()
+            .map(SearchRange::toQualifier)
+            .collect(Collectors.toList());
+
+    assertThat(
+        parts,
+        is(
+            List.of(
+                "created:2020-01-01T00:00:00Z..2020-01-01T00:00:00Z",
+                "created:2020-01-01T00:00:01Z..2020-01-01T00:00:01Z")));
+    assertThat(
+        SearchRange.ofDates("created", Instant.EPOCH, Instant.EPOCH).isSplittable(), is(false));
+  }
+}